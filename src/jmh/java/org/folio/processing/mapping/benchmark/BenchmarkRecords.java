@@ -0,0 +1,76 @@
+package org.folio.processing.mapping.benchmark;
+
+import io.vertx.core.json.JsonObject;
+import org.marc4j.MarcJsonReader;
+import org.marc4j.MarcJsonWriter;
+import org.marc4j.MarcReader;
+import org.marc4j.MarcStreamReader;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Loads benchmark fixtures as Parsed Records (MARC-in-JSON) and hands them out to benchmark threads.
+ * Fixtures are shared with unit tests, so benchmarks have to be run from the project base directory.
+ */
+@State(Scope.Thread)
+public class BenchmarkRecords {
+
+  static final String FIXTURES_DIR = "src/test/resources/org/folio/processing/mapping/";
+
+  private int position;
+
+  /**
+   * @return next record of the fixture, each benchmark thread iterates over the records on its own
+   */
+  <T> T next(List<T> records) {
+    T nextRecord = records.get(position);
+    position = (position + 1) % records.size();
+    return nextRecord;
+  }
+
+  static JsonObject readJson(String path) throws IOException {
+    return new JsonObject(Files.readString(Path.of(FIXTURES_DIR, path)));
+  }
+
+  /**
+   * Reads binary MARC (ISO 2709) file.
+   */
+  static List<JsonObject> readIso2709(String path) throws IOException {
+    try (InputStream input = Files.newInputStream(Path.of(FIXTURES_DIR, path))) {
+      return toParsedRecords(new MarcStreamReader(input));
+    }
+  }
+
+  /**
+   * Reads MARC-in-JSON files, one record per file.
+   */
+  static List<JsonObject> readMarcJson(String... paths) throws IOException {
+    List<JsonObject> parsedRecords = new ArrayList<>();
+    for (String path : paths) {
+      try (InputStream input = Files.newInputStream(Path.of(FIXTURES_DIR, path))) {
+        parsedRecords.addAll(toParsedRecords(new MarcJsonReader(input)));
+      }
+    }
+    return parsedRecords;
+  }
+
+  private static List<JsonObject> toParsedRecords(MarcReader reader) {
+    List<JsonObject> parsedRecords = new ArrayList<>();
+    while (reader.hasNext()) {
+      ByteArrayOutputStream os = new ByteArrayOutputStream();
+      new MarcJsonWriter(os).write(reader.next());
+      parsedRecords.add(new JsonObject(os.toString(UTF_8)));
+    }
+    return parsedRecords;
+  }
+}
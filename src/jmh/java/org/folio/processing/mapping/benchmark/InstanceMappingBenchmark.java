@@ -0,0 +1,61 @@
+package org.folio.processing.mapping.benchmark;
+
+import io.vertx.core.json.JsonObject;
+import org.folio.Instance;
+import org.folio.processing.mapping.defaultmapper.RecordMapper;
+import org.folio.processing.mapping.defaultmapper.RecordMapperBuilder;
+import org.folio.processing.mapping.defaultmapper.processor.parameters.MappingParameters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of MARC bib to Instance mapping, reported as records per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class InstanceMappingBenchmark {
+
+  @Param({"CornellFOLIOExemplars_Bibs.mrc", "test1_err.mrc"})
+  public String fixture;
+
+  private final RecordMapper<Instance> mapper = RecordMapperBuilder.buildMapper("MARC_BIB");
+  private final MappingParameters mappingParameters = new MappingParameters();
+  private JsonObject mappingRules;
+  private List<JsonObject> parsedRecords;
+
+  @Setup
+  public void setUp() throws IOException {
+    mappingRules = BenchmarkRecords.readJson("instance/rules.json");
+    parsedRecords = BenchmarkRecords.readIso2709("instance/" + fixture);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Instance mapRecord(BenchmarkRecords records) {
+    return mapper.mapRecord(records.next(parsedRecords), mappingParameters, mappingRules);
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Instance mapRecordConcurrently(BenchmarkRecords records) {
+    return mapper.mapRecord(records.next(parsedRecords), mappingParameters, mappingRules);
+  }
+}
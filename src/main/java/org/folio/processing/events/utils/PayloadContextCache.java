@@ -0,0 +1,129 @@
+package org.folio.processing.events.utils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.vertx.core.json.jackson.DatabindCodec;
+import org.folio.DataImportEventPayload;
+import org.folio.Record;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of parsed representations of event payload context entries, e.g. {@link Record} or marc4j record
+ * of the MARC bibliographic record stored under "MARC_BIBLIOGRAPHIC" key.
+ * <p>
+ * Representations are attached to the context of the payload and are kept as long as the context is reachable.
+ * A representation is parsed on the first request and is shared by all readers and matchers of the payload,
+ * it is parsed again once the context entry is overwritten with another value.
+ * Cached representations are shared and must not be modified, callers modifying the parsed entry
+ * have to parse or copy it themselves.
+ */
+public final class PayloadContextCache {
+
+  /**
+   * Source record ({@link Record}) of the context entry.
+   */
+  public static final Representation<Record> SOURCE_RECORD =
+    Representation.of(value -> DatabindCodec.mapper().readValue(value, Record.class));
+
+  private static final Cache<Map<String, String>, Map<String, Entry>> ENTRIES = CacheBuilder.newBuilder()
+    .weakKeys()
+    .build();
+
+  private PayloadContextCache() {
+  }
+
+  /**
+   * Returns representation of the context entry, the representation is parsed once per value of the entry.
+   *
+   * @param eventPayload   - event payload
+   * @param key            - context key
+   * @param representation - representation of the entry
+   * @return parsed representation or null if the payload has no entry with the key
+   * @throws IOException if the entry can not be parsed
+   */
+  public static <T> T get(DataImportEventPayload eventPayload, String key, Representation<T> representation) throws IOException {
+    Map<String, String> context = eventPayload.getContext();
+    String value = context == null ? null : context.get(key);
+    if (value == null) {
+      return null;
+    }
+    Map<String, Entry> contextEntries = ENTRIES.asMap().computeIfAbsent(context, ignored -> new ConcurrentHashMap<>());
+    Entry entry = contextEntries.get(key);
+    //values are compared by identity, overwriting the entry with an equal string still invalidates it
+    if (entry == null || entry.value != value) {
+      entry = new Entry(value);
+      contextEntries.put(key, entry);
+    }
+    return entry.get(representation);
+  }
+
+  /**
+   * Function parsing a representation from the context entry or from another representation.
+   *
+   * @param <S> type of the source
+   * @param <T> type of the representation
+   */
+  @FunctionalInterface
+  public interface Parser<S, T> {
+    T parse(S source) throws IOException;
+  }
+
+  /**
+   * Parsed representation of a context entry. Representations are compared by identity,
+   * so they are expected to be declared as constants.
+   *
+   * @param <T> type of the representation
+   */
+  public static final class Representation<T> {
+    private final Parser<Entry, T> parser;
+
+    private Representation(Parser<Entry, T> parser) {
+      this.parser = parser;
+    }
+
+    /**
+     * @param parser - parses the representation from the value of the context entry
+     * @return representation parsed from the value of the entry
+     */
+    public static <T> Representation<T> of(Parser<String, T> parser) {
+      return new Representation<>(entry -> parser.parse(entry.value));
+    }
+
+    /**
+     * @param source - representation the new representation is built from
+     * @param parser - builds the representation from the source representation, source is never null
+     * @return representation built from another representation of the entry
+     */
+    public static <S, T> Representation<T> derivedFrom(Representation<S> source, Parser<S, T> parser) {
+      return new Representation<>(entry -> {
+        S sourceRepresentation = entry.get(source);
+        return sourceRepresentation == null ? null : parser.parse(sourceRepresentation);
+      });
+    }
+  }
+
+  private static final class Entry {
+    private final String value;
+    private final Map<Representation<?>, Object> representations = new ConcurrentHashMap<>();
+
+    private Entry(String value) {
+      this.value = value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(Representation<T> representation) throws IOException {
+      T parsed = (T) representations.get(representation);
+      if (parsed == null) {
+        parsed = representation.parser.parse(this);
+        if (parsed != null) {
+          T previous = (T) representations.putIfAbsent(representation, parsed);
+          parsed = previous != null ? previous : parsed;
+        }
+      }
+      return parsed;
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package org.folio.processing.mapping.defaultmapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Correction applied to an entity after it has been mapped by the Processor.
+ * Fixups modify the entity in place, a mapper declares them once and applies them to every mapped entity.
+ *
+ * @param <T> type of the mapped entity
+ */
+@FunctionalInterface
+interface EntityFixup<T> {
+
+  void apply(T entity);
+
+  /**
+   * @param fixups - fixups in the order they should be applied
+   * @return fixup applying all the fixups, null entities are left as is
+   */
+  @SafeVarargs
+  static <T> EntityFixup<T> allOf(EntityFixup<? super T>... fixups) {
+    List<EntityFixup<? super T>> declaredFixups = new ArrayList<>(fixups.length);
+    for (EntityFixup<? super T> fixup : fixups) {
+      declaredFixups.add(fixup);
+    }
+    return entity -> {
+      if (entity != null) {
+        for (EntityFixup<? super T> fixup : declaredFixups) {
+          fixup.apply(entity);
+        }
+      }
+    };
+  }
+}
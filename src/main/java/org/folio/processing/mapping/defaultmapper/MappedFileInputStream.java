@@ -0,0 +1,120 @@
+package org.folio.processing.mapping.defaultmapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Input stream over a memory-mapped file. The file is mapped region by region,
+ * so files larger than 2 GB can be read and only the region being read has to be resident.
+ * <p>
+ * Every region reserves {@value #DEFAULT_REGION_SIZE} bytes of virtual address space (or the rest of the file
+ * if it is shorter) and costs a system call to map. Mapped pages are counted against the page cache rather than
+ * the heap and a replaced region is only unmapped when its buffer is garbage collected, so several regions
+ * of a large file can stay mapped at a time. The file must not be truncated while it is read, otherwise
+ * reading the mapped region fails with an internal error of the JVM.
+ */
+final class MappedFileInputStream extends InputStream {
+
+  static final int DEFAULT_REGION_SIZE = 64 * 1024 * 1024;
+
+  private final FileChannel channel;
+  private final long size;
+  private final int regionSize;
+  private MappedByteBuffer region;
+  private long regionStart;
+  private long position;
+  private long markedPosition;
+
+  MappedFileInputStream(Path file) throws IOException {
+    this(file, DEFAULT_REGION_SIZE);
+  }
+
+  MappedFileInputStream(Path file, int regionSize) throws IOException {
+    this.channel = FileChannel.open(file, StandardOpenOption.READ);
+    try {
+      this.size = channel.size();
+    } catch (IOException e) {
+      channel.close();
+      throw e;
+    }
+    this.regionSize = regionSize;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!mapRegion()) {
+      return -1;
+    }
+    int value = region.get((int) (position - regionStart)) & 0xFF;
+    position++;
+    return value;
+  }
+
+  @Override
+  public int read(byte[] bytes, int offset, int length) throws IOException {
+    if (length == 0) {
+      return 0;
+    }
+    if (!mapRegion()) {
+      return -1;
+    }
+    int regionOffset = (int) (position - regionStart);
+    int count = Math.min(length, region.limit() - regionOffset);
+    region.get(regionOffset, bytes, offset, count);
+    position += count;
+    return count;
+  }
+
+  @Override
+  public long skip(long n) {
+    long skipped = Math.max(0, Math.min(n, size - position));
+    position += skipped;
+    return skipped;
+  }
+
+  @Override
+  public int available() {
+    return (int) Math.min(Integer.MAX_VALUE, size - position);
+  }
+
+  @Override
+  public boolean markSupported() {
+    return true;
+  }
+
+  @Override
+  public synchronized void mark(int readLimit) {
+    markedPosition = position;
+  }
+
+  @Override
+  public synchronized void reset() {
+    position = markedPosition;
+  }
+
+  @Override
+  public void close() throws IOException {
+    region = null;
+    channel.close();
+  }
+
+  /**
+   * Maps the region containing the current position, if it is not mapped yet.
+   *
+   * @return false if the end of the file is reached
+   */
+  private boolean mapRegion() throws IOException {
+    if (position >= size) {
+      return false;
+    }
+    if (region == null || position < regionStart || position >= regionStart + region.limit()) {
+      regionStart = position;
+      region = channel.map(FileChannel.MapMode.READ_ONLY, regionStart, Math.min(regionSize, size - regionStart));
+    }
+    return true;
+  }
+}
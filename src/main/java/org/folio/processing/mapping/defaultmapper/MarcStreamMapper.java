@@ -0,0 +1,147 @@
+package org.folio.processing.mapping.defaultmapper;
+
+import io.vertx.core.json.JsonObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.processing.mapping.defaultmapper.processor.parameters.MappingParameters;
+import org.marc4j.MarcException;
+import org.marc4j.MarcReader;
+import org.marc4j.MarcStreamReader;
+import org.marc4j.marc.Record;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Maps binary MARC (ISO 2709) records straight to entities, without converting them to MARC-in-JSON first.
+ * <p>
+ * Records are read and mapped lazily one at a time as the returned stream is consumed, so memory usage
+ * does not depend on the size of the input. All records of a stream are mapped by the same single-threaded
+ * mapper (see {@link RecordMapper#newSingleThreadMapper()}), hence the stream must be consumed sequentially.
+ * <p>
+ * A record that cannot be read does not end the stream: it is reported to the error handler, null is emitted
+ * in its place and reading continues with the next record. If the record length itself is corrupted,
+ * the following records cannot be located reliably and are likely to be reported as unreadable as well.
+ */
+public final class MarcStreamMapper {
+
+  private static final Logger LOGGER = LogManager.getLogger(MarcStreamMapper.class);
+
+  private MarcStreamMapper() {
+  }
+
+  /**
+   * Maps records read from the input stream. The input stream is closed when the returned stream is closed.
+   * Records that cannot be read are logged and skipped.
+   *
+   * @param input             - ISO 2709 encoded records
+   * @param mapper            - mapper of the records
+   * @param mappingParameters - parameters needed for mapping functions
+   * @param mappingRules      - required rules for mapping
+   * @return - mapped entities in the order of the records, null for records that could not be read or mapped
+   */
+  public static <T> Stream<T> mapRecords(InputStream input, RecordMapper<T> mapper,
+                                         MappingParameters mappingParameters, JsonObject mappingRules) {
+    return mapRecords(input, mapper, mappingParameters, mappingRules, MarcStreamMapper::logUnreadableRecord);
+  }
+
+  /**
+   * Maps records read from the input stream. The input stream is closed when the returned stream is closed.
+   *
+   * @param input             - ISO 2709 encoded records
+   * @param mapper            - mapper of the records
+   * @param mappingParameters - parameters needed for mapping functions
+   * @param mappingRules      - required rules for mapping
+   * @param errorHandler      - handler of the records that cannot be read, called before null is emitted in their place
+   * @return - mapped entities in the order of the records, null for records that could not be read or mapped
+   */
+  public static <T> Stream<T> mapRecords(InputStream input, RecordMapper<T> mapper, MappingParameters mappingParameters,
+                                         JsonObject mappingRules, Consumer<MarcException> errorHandler) {
+    checkNotNull(input);
+    checkNotNull(mapper);
+    checkNotNull(errorHandler);
+    RecordMapper<T> worker = mapper.newSingleThreadMapper();
+    MarcReader reader = new MarcStreamReader(input);
+    Spliterator<T> records = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED) {
+      @Override
+      public boolean tryAdvance(Consumer<? super T> action) {
+        if (!reader.hasNext()) {
+          return false;
+        }
+        Record marcRecord;
+        try {
+          marcRecord = reader.next();
+        } catch (MarcException e) {
+          errorHandler.accept(e);
+          action.accept(null);
+          return true;
+        }
+        action.accept(worker.mapRecord(marcRecord, mappingParameters, mappingRules));
+        return true;
+      }
+    };
+    return StreamSupport.stream(records, false)
+      .onClose(() -> close(input));
+  }
+
+  /**
+   * Maps records of the file. The file is memory-mapped region by region, so files of any size can be mapped,
+   * see {@link MappedFileInputStream} for the cost of the mapping.
+   * The returned stream holds the file open and has to be closed, e.g. with try-with-resources.
+   * Records that cannot be read are logged and skipped.
+   *
+   * @param file              - file with ISO 2709 encoded records, e.g. ".mrc" file
+   * @param mapper            - mapper of the records
+   * @param mappingParameters - parameters needed for mapping functions
+   * @param mappingRules      - required rules for mapping
+   * @return - mapped entities in the order of the records, null for records that could not be read or mapped
+   * @throws IOException if the file cannot be opened
+   */
+  public static <T> Stream<T> mapRecords(Path file, RecordMapper<T> mapper,
+                                         MappingParameters mappingParameters, JsonObject mappingRules) throws IOException {
+    return mapRecords(file, mapper, mappingParameters, mappingRules, MarcStreamMapper::logUnreadableRecord);
+  }
+
+  /**
+   * Maps records of the file, see {@link #mapRecords(Path, RecordMapper, MappingParameters, JsonObject)}.
+   *
+   * @param file              - file with ISO 2709 encoded records, e.g. ".mrc" file
+   * @param mapper            - mapper of the records
+   * @param mappingParameters - parameters needed for mapping functions
+   * @param mappingRules      - required rules for mapping
+   * @param errorHandler      - handler of the records that cannot be read, called before null is emitted in their place
+   * @return - mapped entities in the order of the records, null for records that could not be read or mapped
+   * @throws IOException if the file cannot be opened
+   */
+  public static <T> Stream<T> mapRecords(Path file, RecordMapper<T> mapper, MappingParameters mappingParameters,
+                                         JsonObject mappingRules, Consumer<MarcException> errorHandler) throws IOException {
+    InputStream input = new MappedFileInputStream(file);
+    try {
+      return mapRecords(input, mapper, mappingParameters, mappingRules, errorHandler);
+    } catch (RuntimeException e) {
+      input.close();
+      throw e;
+    }
+  }
+
+  private static void logUnreadableRecord(MarcException e) {
+    LOGGER.warn("logUnreadableRecord:: Skipping MARC record that cannot be read", e);
+  }
+
+  private static void close(InputStream input) {
+    try {
+      input.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -2,19 +2,25 @@ package org.folio.processing.mapping.defaultmapper;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.vertx.core.json.JsonObject;
 import java.io.ByteArrayInputStream;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.folio.Authority;
 import org.folio.AuthoritySourceFile;
 import org.folio.processing.mapping.defaultmapper.processor.Processor;
+import org.folio.processing.mapping.defaultmapper.processor.instrumentation.MappingInstrumentation;
 import org.folio.processing.mapping.defaultmapper.processor.parameters.MappingParameters;
 import org.marc4j.MarcJsonReader;
 import org.marc4j.marc.ControlField;
@@ -23,31 +29,94 @@ import org.marc4j.marc.Subfield;
 
 public class MarcToAuthorityMapper implements RecordMapper<Authority> {
 
+  private static final Logger LOGGER = LogManager.getLogger(MarcToAuthorityMapper.class);
   private static final String MARC_FORMAT = "MARC_AUTHORITY";
 
+  //instrumented mappers are shared by the callers passing the same instrumentation, so that their Processors are reused
+  private static final Cache<MappingInstrumentation, MarcToAuthorityMapper> INSTRUMENTED_MAPPERS = CacheBuilder.newBuilder()
+    .weakKeys()
+    .weakValues()
+    .build();
+
+  private final AuthorityProcessing<?> processing;
+
+  public MarcToAuthorityMapper() {
+    this(Authority.class, Processor::new);
+  }
+
+  /**
+   * @param instrumentation - receives timings of the mapping steps of all records mapped by this mapper
+   */
+  public MarcToAuthorityMapper(MappingInstrumentation instrumentation) {
+    this(Authority.class, () -> new Processor<>(instrumentation));
+  }
+
+  /**
+   * Creates mapper that maps records to the specified type of authority.
+   *
+   * @param entityClass      - type of the mapped authority
+   * @param processorFactory - creates Processors mapping records to the entity class
+   */
+  protected <A extends Authority> MarcToAuthorityMapper(Class<A> entityClass, Supplier<Processor<A>> processorFactory) {
+    //each thread mapping records with this mapper reuses its own Processor
+    this.processing = new AuthorityProcessing<>(entityClass, processorFactory, ThreadLocal.withInitial(processorFactory)::get);
+  }
+
+  /**
+   * Creates mapper that maps records the same way as the specified mapper, reusing the same Processor for all records.
+   * The created mapper is not thread-safe, see {@link #newSingleThreadMapper()}.
+   *
+   * @param mapper - mapper to map records like
+   */
+  protected MarcToAuthorityMapper(MarcToAuthorityMapper mapper) {
+    this.processing = mapper.processing.singleThread();
+  }
+
   @Override
   public Authority mapRecord(JsonObject parsedRecord, MappingParameters mappingParameters, JsonObject mappingRules) {
-    var authority = new Processor<Authority>().process(parsedRecord, mappingParameters, mappingRules, Authority.class);
+    var marcRecord = readMarcRecord(parsedRecord);
+    return marcRecord != null ? mapRecord(marcRecord, mappingParameters, mappingRules) : null;
+  }
 
-    linkSourceFile(parsedRecord, mappingParameters, authority);
+  @Override
+  public Authority mapRecord(Record marcRecord, MappingParameters mappingParameters, JsonObject mappingRules) {
+    var authority = processing.process(marcRecord, mappingParameters, mappingRules);
+
+    linkSourceFile(marcRecord, mappingParameters, authority);
 
     return authority;
   }
 
+  @Override
+  public RecordMapper<Authority> newSingleThreadMapper() {
+    return new MarcToAuthorityMapper(this);
+  }
+
+  @Override
+  public RecordMapper<Authority> withInstrumentation(MappingInstrumentation instrumentation) {
+    return INSTRUMENTED_MAPPERS.asMap().computeIfAbsent(instrumentation, MarcToAuthorityMapper::new);
+  }
+
   @Override
   public String getMapperFormat() {
     return MARC_FORMAT;
   }
 
-  protected void linkSourceFile(JsonObject parsedRecord, MappingParameters mappingParameters, Authority authority) {
+  protected void linkSourceFile(Record marcRecord, MappingParameters mappingParameters, Authority authority) {
     var sourceFiles = mappingParameters.getAuthoritySourceFiles();
-    if (sourceFiles == null || sourceFiles.isEmpty()) {
+    if (authority == null || sourceFiles == null || sourceFiles.isEmpty()) {
       return;
     }
+    findAndLinkSourceFile(authority, sourceFiles, marcRecord);
+  }
 
-    var reader = new MarcJsonReader(new ByteArrayInputStream(parsedRecord.toString().getBytes(UTF_8)));
-    if (reader.hasNext()) {
-      findAndLinkSourceFile(authority, sourceFiles, reader.next());
+  private Record readMarcRecord(JsonObject parsedRecord) {
+    try {
+      var reader = new MarcJsonReader(new ByteArrayInputStream(parsedRecord.toString().getBytes(UTF_8)));
+      return reader.hasNext() ? reader.next() : null;
+    } catch (Exception e) {
+      LOGGER.warn("readMarcRecord:: Error reading Marc record: {}", parsedRecord.encode(), e);
+      return null;
     }
   }
 
@@ -121,4 +190,17 @@ public class MarcToAuthorityMapper implements RecordMapper<Authority> {
     return str == null ? null : str.replaceAll("[^0-9a-zA-Z]", "");
   }
 
+  private record AuthorityProcessing<A extends Authority>(Class<A> entityClass, Supplier<Processor<A>> processorFactory,
+                                                          Supplier<Processor<A>> processorSupplier) {
+
+    Authority process(Record marcRecord, MappingParameters mappingParameters, JsonObject mappingRules) {
+      return processorSupplier.get().process(marcRecord, mappingParameters, mappingRules, entityClass);
+    }
+
+    AuthorityProcessing<A> singleThread() {
+      Processor<A> processor = processorFactory.get();
+      return new AuthorityProcessing<>(entityClass, processorFactory, () -> processor);
+    }
+  }
+
 }
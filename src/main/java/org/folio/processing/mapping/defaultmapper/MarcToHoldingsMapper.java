@@ -1,30 +1,78 @@
 package org.folio.processing.mapping.defaultmapper;
 
-import static org.apache.commons.lang3.StringUtils.isNotEmpty;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.vertx.core.json.JsonObject;
 
-import org.folio.rest.jaxrs.model.ElectronicAccessItem;
 import org.folio.rest.jaxrs.model.HoldingsRecord;
 import org.folio.processing.mapping.defaultmapper.processor.Processor;
+import org.folio.processing.mapping.defaultmapper.processor.instrumentation.MappingInstrumentation;
 import org.folio.processing.mapping.defaultmapper.processor.parameters.MappingParameters;
+import org.marc4j.marc.Record;
 
 public class MarcToHoldingsMapper implements RecordMapper<HoldingsRecord> {
 
   private static final String MARC_FORMAT = "MARC_HOLDINGS";
   private static final String MARC_SOURCE_ID = "036ee84a-6afd-4c3c-9ad3-4a12ab875f59";
+  private static final EntityFixup<HoldingsRecord> FIXUPS = EntityFixup.allOf(
+    MarcToHoldingsMapper::removeElectronicAccessEntriesWithNoUri,
+    holdings -> holdings.setSourceId(MARC_SOURCE_ID));
+
+  //instrumented mappers are shared by the callers passing the same instrumentation, so that their Processors are reused
+  private static final Cache<MappingInstrumentation, MarcToHoldingsMapper> INSTRUMENTED_MAPPERS = CacheBuilder.newBuilder()
+    .weakKeys()
+    .weakValues()
+    .build();
+
+  private final Supplier<Processor<HoldingsRecord>> processorFactory;
+  private final Supplier<Processor<HoldingsRecord>> processorSupplier;
+
+  public MarcToHoldingsMapper() {
+    this(Processor::new);
+  }
+
+  /**
+   * @param instrumentation - receives timings of the mapping steps of all records mapped by this mapper
+   */
+  public MarcToHoldingsMapper(MappingInstrumentation instrumentation) {
+    this(() -> new Processor<>(instrumentation));
+  }
+
+  private MarcToHoldingsMapper(Supplier<Processor<HoldingsRecord>> processorFactory) {
+    //each thread mapping records with this mapper reuses its own Processor
+    this(processorFactory, ThreadLocal.withInitial(processorFactory)::get);
+  }
+
+  private MarcToHoldingsMapper(Supplier<Processor<HoldingsRecord>> processorFactory, Supplier<Processor<HoldingsRecord>> processorSupplier) {
+    this.processorFactory = processorFactory;
+    this.processorSupplier = processorSupplier;
+  }
 
   @Override
   public HoldingsRecord mapRecord(JsonObject parsedRecord, MappingParameters mappingParameters, JsonObject mappingRules) {
-    HoldingsRecord holdings = new Processor<HoldingsRecord>().process(parsedRecord, mappingParameters, mappingRules, HoldingsRecord.class);
-    if (holdings != null) {
-      holdings = removeElectronicAccessEntriesWithNoUri(holdings);
-      holdings.setSourceId(MARC_SOURCE_ID);
-    }
-    return holdings;
+    HoldingsRecord holdings = processorSupplier.get().process(parsedRecord, mappingParameters, mappingRules, HoldingsRecord.class);
+    return fixMappedHoldings(holdings);
+  }
+
+  @Override
+  public HoldingsRecord mapRecord(Record marcRecord, MappingParameters mappingParameters, JsonObject mappingRules) {
+    HoldingsRecord holdings = processorSupplier.get().process(marcRecord, mappingParameters, mappingRules, HoldingsRecord.class);
+    return fixMappedHoldings(holdings);
+  }
+
+  @Override
+  public RecordMapper<HoldingsRecord> newSingleThreadMapper() {
+    Processor<HoldingsRecord> processor = processorFactory.get();
+    return new MarcToHoldingsMapper(processorFactory, () -> processor);
+  }
+
+  @Override
+  public RecordMapper<HoldingsRecord> withInstrumentation(MappingInstrumentation instrumentation) {
+    return INSTRUMENTED_MAPPERS.asMap().computeIfAbsent(instrumentation, MarcToHoldingsMapper::new);
   }
 
   @Override
@@ -32,11 +80,13 @@ public class MarcToHoldingsMapper implements RecordMapper<HoldingsRecord> {
     return MARC_FORMAT;
   }
 
-  private HoldingsRecord removeElectronicAccessEntriesWithNoUri(HoldingsRecord holdings) {
-    List<ElectronicAccessItem> electronicAccessList = holdings.getElectronicAccess().stream()
-      .filter(electronicAccess -> isNotEmpty(electronicAccess.getUri()))
-      .collect(Collectors.toList());
-    return holdings.withElectronicAccess(electronicAccessList);
+  private HoldingsRecord fixMappedHoldings(HoldingsRecord holdings) {
+    FIXUPS.apply(holdings);
+    return holdings;
+  }
+
+  private static void removeElectronicAccessEntriesWithNoUri(HoldingsRecord holdings) {
+    holdings.getElectronicAccess().removeIf(electronicAccess -> isEmpty(electronicAccess.getUri()));
   }
 
 }
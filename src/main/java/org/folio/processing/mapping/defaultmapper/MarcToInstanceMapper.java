@@ -1,9 +1,9 @@
 package org.folio.processing.mapping.defaultmapper;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.vertx.core.json.JsonObject;
-import org.apache.commons.lang3.StringUtils;
 import org.folio.Classification;
-import org.folio.ElectronicAccess;
 import org.folio.Identifier;
 import org.folio.Identifier_;
 import org.folio.Identifier__;
@@ -11,36 +11,86 @@ import org.folio.Instance;
 import org.folio.PrecedingTitle;
 import org.folio.SucceedingTitle;
 import org.folio.processing.mapping.defaultmapper.processor.Processor;
+import org.folio.processing.mapping.defaultmapper.processor.instrumentation.MappingInstrumentation;
 import org.folio.processing.mapping.defaultmapper.processor.parameters.MappingParameters;
+import org.marc4j.marc.Record;
 
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.Supplier;
 
+import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 
 public class MarcToInstanceMapper implements RecordMapper<Instance> {
 
-  private static final Pattern UUID_DUPLICATE_PATTERN = Pattern.compile("([0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12} ){2,}");
+  private static final int UUID_LENGTH = 36;
   private static final String BLANK_STRING = " ";
   private static final String MARC = "MARC";
   private static final String MARC_FORMAT = "MARC_BIB";
+  //every fixup visits a different list of the instance once and modifies it in place
+  private static final EntityFixup<Instance> FIXUPS = EntityFixup.allOf(
+    instance -> instance.setSource(MARC),
+    instance -> fixIdentifiers(instance.getIdentifiers()),
+    instance -> fixClassifications(instance.getClassifications()),
+    instance -> fixDuplicatedLanguages(instance.getLanguages()),
+    MarcToInstanceMapper::removeElectronicAccessEntriesWithNoUri,
+    MarcToInstanceMapper::fixPrecedingTitles,
+    MarcToInstanceMapper::fixSucceedingTitles);
+
+  //instrumented mappers are shared by the callers passing the same instrumentation, so that their Processors are reused
+  private static final Cache<MappingInstrumentation, MarcToInstanceMapper> INSTRUMENTED_MAPPERS = CacheBuilder.newBuilder()
+    .weakKeys()
+    .weakValues()
+    .build();
+
+  private final Supplier<Processor<Instance>> processorFactory;
+  private final Supplier<Processor<Instance>> processorSupplier;
+
+  public MarcToInstanceMapper() {
+    this(Processor::new);
+  }
+
+  /**
+   * @param instrumentation - receives timings of the mapping steps of all records mapped by this mapper
+   */
+  public MarcToInstanceMapper(MappingInstrumentation instrumentation) {
+    this(() -> new Processor<>(instrumentation));
+  }
+
+  private MarcToInstanceMapper(Supplier<Processor<Instance>> processorFactory) {
+    //each thread mapping records with this mapper reuses its own Processor
+    this(processorFactory, ThreadLocal.withInitial(processorFactory)::get);
+  }
+
+  private MarcToInstanceMapper(Supplier<Processor<Instance>> processorFactory, Supplier<Processor<Instance>> processorSupplier) {
+    this.processorFactory = processorFactory;
+    this.processorSupplier = processorSupplier;
+  }
 
   @Override
   public Instance mapRecord(JsonObject parsedRecord, MappingParameters mappingParameters, JsonObject mappingRules) {
-    Instance instance = new Processor<Instance>().process(parsedRecord, mappingParameters, mappingRules, Instance.class);
-    if (instance != null) {
-      instance = fixDuplicatedUUIDs(instance.withSource(MARC));
-      instance = fixDuplicatedLanguages(instance);
-      instance = removeElectronicAccessEntriesWithNoUri(instance);
-      instance = removePrecedingTitlesWithoutTitles(instance);
-      instance = removeSucceedingTitlesWithoutTitles(instance);
-      instance = movePrecedingIdentifiers(instance);
-      instance = moveSucceedingIdentifiers(instance);
-    }
-    return instance;
+    Instance instance = processorSupplier.get().process(parsedRecord, mappingParameters, mappingRules, Instance.class);
+    return fixMappedInstance(instance);
+  }
+
+  @Override
+  public Instance mapRecord(Record marcRecord, MappingParameters mappingParameters, JsonObject mappingRules) {
+    Instance instance = processorSupplier.get().process(marcRecord, mappingParameters, mappingRules, Instance.class);
+    return fixMappedInstance(instance);
+  }
+
+  @Override
+  public RecordMapper<Instance> newSingleThreadMapper() {
+    Processor<Instance> processor = processorFactory.get();
+    return new MarcToInstanceMapper(processorFactory, () -> processor);
+  }
+
+  @Override
+  public RecordMapper<Instance> withInstrumentation(MappingInstrumentation instrumentation) {
+    return INSTRUMENTED_MAPPERS.asMap().computeIfAbsent(instrumentation, MarcToInstanceMapper::new);
   }
 
   @Override
@@ -48,139 +98,171 @@ public class MarcToInstanceMapper implements RecordMapper<Instance> {
     return MARC_FORMAT;
   }
 
-  private Instance fixDuplicatedUUIDs(Instance instance) {
-    fixIdentifiers(instance);
-    fixClassifications(instance);
+  private Instance fixMappedInstance(Instance instance) {
+    FIXUPS.apply(instance);
     return instance;
   }
 
-  private void fixIdentifiers(Instance instance) {
-    List<Identifier> splitIdentifiers = new ArrayList<>();
-    instance.getIdentifiers().forEach(identifier -> {
-      if (StringUtils.isNoneBlank(identifier.getIdentifierTypeId())
-        && UUID_DUPLICATE_PATTERN.matcher(identifier.getIdentifierTypeId() + BLANK_STRING).matches()) {
+  private static void removeElectronicAccessEntriesWithNoUri(Instance instance) {
+    instance.getElectronicAccess().removeIf(electronicAccess -> isEmpty(electronicAccess.getUri()));
+  }
+
+  /**
+   * Removes preceding titles without title and moves ISBN/ISSN of the remaining ones to their identifiers.
+   */
+  private static void fixPrecedingTitles(Instance instance) {
+    instance.getPrecedingTitles().removeIf(precedingTitle -> {
+      if (isEmpty(precedingTitle.getTitle())) {
+        return true;
+      }
+      movePrecedingIdentifiers(precedingTitle);
+      return false;
+    });
+  }
+
+  /**
+   * Removes succeeding titles without title and moves ISBN/ISSN of the remaining ones to their identifiers.
+   */
+  private static void fixSucceedingTitles(Instance instance) {
+    instance.getSucceedingTitles().removeIf(succeedingTitle -> {
+      if (isEmpty(succeedingTitle.getTitle())) {
+        return true;
+      }
+      moveSucceedingIdentifiers(succeedingTitle);
+      return false;
+    });
+  }
+
+  private static void fixIdentifiers(List<Identifier> identifiers) {
+    //identifiers split from duplicated UUIDs are appended, so only the mapped ones are visited
+    for (int i = 0, mappedCount = identifiers.size(); i < mappedCount; i++) {
+      Identifier identifier = identifiers.get(i);
+      if (isDuplicatedUuids(identifier.getIdentifierTypeId())) {
         String[] uuids = identifier.getIdentifierTypeId().split(BLANK_STRING);
         String[] values = identifier.getValue().split(BLANK_STRING);
         if (uuids.length > 1 && values.length > 1) {
           identifier.setIdentifierTypeId(uuids[0]);
           identifier.setValue(values[0]);
         }
-        for (int i = 1; i < uuids.length; i++) {
-          Identifier newIdentifier = new Identifier().withIdentifierTypeId(uuids[i]);
-          if (values.length > i) {
-            newIdentifier.setValue(i == uuids.length - 1
-              ? String.join(BLANK_STRING, Arrays.copyOfRange(values, i, values.length))
-              : values[i]);
-            splitIdentifiers.add(newIdentifier);
+        for (int j = 1; j < uuids.length; j++) {
+          Identifier newIdentifier = new Identifier().withIdentifierTypeId(uuids[j]);
+          if (values.length > j) {
+            newIdentifier.setValue(j == uuids.length - 1
+              ? String.join(BLANK_STRING, Arrays.copyOfRange(values, j, values.length))
+              : values[j]);
+            identifiers.add(newIdentifier);
           }
         }
       }
-    });
-    instance.getIdentifiers().addAll(splitIdentifiers);
+    }
   }
 
-  private void fixClassifications(Instance instance) {
-    List<Classification> splitClassification = new ArrayList<>();
-    instance.getClassifications().forEach(classification -> {
-      if (StringUtils.isNoneBlank(classification.getClassificationTypeId())
-        && UUID_DUPLICATE_PATTERN.matcher(classification.getClassificationTypeId() + BLANK_STRING).matches()) {
+  private static void fixClassifications(List<Classification> classifications) {
+    //classifications split from duplicated UUIDs are appended, so only the mapped ones are visited
+    for (int i = 0, mappedCount = classifications.size(); i < mappedCount; i++) {
+      Classification classification = classifications.get(i);
+      if (isDuplicatedUuids(classification.getClassificationTypeId())) {
         String[] uuids = classification.getClassificationTypeId().split(BLANK_STRING);
         String[] values = classification.getClassificationNumber().split(BLANK_STRING);
         if (uuids.length > 1 && values.length > 1) {
           classification.setClassificationTypeId(uuids[0]);
           classification.setClassificationNumber(values[0]);
         }
-        for (int i = 1; i < uuids.length; i++) {
-          Classification newClassification = new Classification().withClassificationTypeId(uuids[i]);
-          if (values.length > i) {
-            newClassification.setClassificationNumber(i == uuids.length - 1
-              ? String.join(BLANK_STRING, Arrays.copyOfRange(values, i, values.length))
-              : values[i]);
-            splitClassification.add(newClassification);
+        for (int j = 1; j < uuids.length; j++) {
+          Classification newClassification = new Classification().withClassificationTypeId(uuids[j]);
+          if (values.length > j) {
+            newClassification.setClassificationNumber(j == uuids.length - 1
+              ? String.join(BLANK_STRING, Arrays.copyOfRange(values, j, values.length))
+              : values[j]);
+            classifications.add(newClassification);
           }
         }
       }
-    });
-    instance.getClassifications().addAll(splitClassification);
-  }
-
-  private Instance fixDuplicatedLanguages(Instance instance) {
-    List<String> uniqueLanguages = instance.getLanguages().stream()
-      .distinct()
-      .collect(Collectors.toList());
-    return instance.withLanguages(uniqueLanguages);
+    }
   }
 
-  private Instance removeElectronicAccessEntriesWithNoUri(Instance instance) {
-    List<ElectronicAccess> electronicAccessList = instance.getElectronicAccess().stream()
-      .filter(electronicAccess -> isNotEmpty(electronicAccess.getUri()))
-      .collect(Collectors.toList());
-    return instance.withElectronicAccess(electronicAccessList);
+  /**
+   * Checks if the value holds two or more lowercase UUIDs separated by single spaces,
+   * i.e. reference data ids of several subfields were concatenated into one property.
+   *
+   * @param value - mapped reference data id
+   * @return true if the value holds duplicated UUIDs
+   */
+  static boolean isDuplicatedUuids(String value) {
+    if (value == null) {
+      return false;
+    }
+    int length = value.length();
+    if (length < 2 * UUID_LENGTH + 1 || (length + 1) % (UUID_LENGTH + 1) != 0) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      int position = i % (UUID_LENGTH + 1);
+      if (position == UUID_LENGTH) {
+        if (c != ' ') {
+          return false;
+        }
+      } else if (position == 8 || position == 13 || position == 18 || position == 23) {
+        if (c != '-') {
+          return false;
+        }
+      } else if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+        return false;
+      }
+    }
+    return true;
   }
 
-  private Instance removePrecedingTitlesWithoutTitles(Instance instance) {
-    List<PrecedingTitle> precedingTitles = instance.getPrecedingTitles().stream()
-      .filter(precedingTitle -> isNotEmpty(precedingTitle.getTitle()))
-      .collect(Collectors.toList());
-    return instance.withPrecedingTitles(precedingTitles);
+  private static void fixDuplicatedLanguages(List<String> languages) {
+    if (languages.size() > 1) {
+      Set<String> uniqueLanguages = new LinkedHashSet<>(languages);
+      if (uniqueLanguages.size() < languages.size()) {
+        languages.clear();
+        languages.addAll(uniqueLanguages);
+      }
+    }
   }
 
-  private Instance removeSucceedingTitlesWithoutTitles(Instance instance) {
-    List<SucceedingTitle> succeedingTitles = instance.getSucceedingTitles().stream()
-      .filter(succeedingTitle -> isNotEmpty(succeedingTitle.getTitle()))
-      .collect(Collectors.toList());
-    return instance.withSucceedingTitles(succeedingTitles);
+  private static void movePrecedingIdentifiers(PrecedingTitle precedingTitle) {
+    if (isNotEmpty(precedingTitle.getIsbnId())) {
+      Identifier_ identifier = new Identifier_().withIdentifierTypeId(precedingTitle.getIsbnId());
+      precedingTitle.setIsbnId(null);
+      if (isNotEmpty(precedingTitle.getIsbnValue())) {
+        identifier.setValue(precedingTitle.getIsbnValue());
+        precedingTitle.setIsbnValue(null);
+        precedingTitle.getIdentifiers().add(identifier);
+      }
+    }
+    if (isNotEmpty(precedingTitle.getIssnId())) {
+      Identifier_ identifier = new Identifier_().withIdentifierTypeId(precedingTitle.getIssnId());
+      precedingTitle.setIssnId(null);
+      if (isNotEmpty(precedingTitle.getIssnValue())) {
+        identifier.setValue(precedingTitle.getIssnValue());
+        precedingTitle.setIssnValue(null);
+        precedingTitle.getIdentifiers().add(identifier);
+      }
+    }
   }
 
-  private Instance movePrecedingIdentifiers(Instance instance) {
-    List<PrecedingTitle> precedingTitles = instance.getPrecedingTitles().stream()
-      .peek(precedingTitle -> {
-        if (isNotEmpty(precedingTitle.getIsbnId())) {
-          Identifier_ identifier = new Identifier_().withIdentifierTypeId(precedingTitle.getIsbnId());
-          precedingTitle.setIsbnId(null);
-          if (isNotEmpty(precedingTitle.getIsbnValue())) {
-            identifier.setValue(precedingTitle.getIsbnValue());
-            precedingTitle.setIsbnValue(null);
-            precedingTitle.getIdentifiers().add(identifier);
-          }
-        }
-        if (isNotEmpty(precedingTitle.getIssnId())) {
-          Identifier_ identifier = new Identifier_().withIdentifierTypeId(precedingTitle.getIssnId());
-          precedingTitle.setIssnId(null);
-          if (isNotEmpty(precedingTitle.getIssnValue())) {
-            identifier.setValue(precedingTitle.getIssnValue());
-            precedingTitle.setIssnValue(null);
-            precedingTitle.getIdentifiers().add(identifier);
-          }
-        }
-      })
-      .collect(Collectors.toList());
-    return instance.withPrecedingTitles(precedingTitles);
-  }
-
-  private Instance moveSucceedingIdentifiers(Instance instance) {
-    List<SucceedingTitle> succeedingTitles = instance.getSucceedingTitles().stream()
-      .peek(succeedingTitle -> {
-        if (isNotEmpty(succeedingTitle.getIsbnId())) {
-          Identifier__ identifier = new Identifier__().withIdentifierTypeId(succeedingTitle.getIsbnId());
-          succeedingTitle.setIsbnId(null);
-          if (isNotEmpty(succeedingTitle.getIsbnValue())) {
-            identifier.setValue(succeedingTitle.getIsbnValue());
-            succeedingTitle.setIsbnValue(null);
-            succeedingTitle.getIdentifiers().add(identifier);
-          }
-        }
-        if (isNotEmpty(succeedingTitle.getIssnId())) {
-          Identifier__ identifier = new Identifier__().withIdentifierTypeId(succeedingTitle.getIssnId());
-          succeedingTitle.setIssnId(null);
-          if (isNotEmpty(succeedingTitle.getIssnValue())) {
-            identifier.setValue(succeedingTitle.getIssnValue());
-            succeedingTitle.setIssnValue(null);
-            succeedingTitle.getIdentifiers().add(identifier);
-          }
-        }
-      })
-      .collect(Collectors.toList());
-    return instance.withSucceedingTitles(succeedingTitles);
+  private static void moveSucceedingIdentifiers(SucceedingTitle succeedingTitle) {
+    if (isNotEmpty(succeedingTitle.getIsbnId())) {
+      Identifier__ identifier = new Identifier__().withIdentifierTypeId(succeedingTitle.getIsbnId());
+      succeedingTitle.setIsbnId(null);
+      if (isNotEmpty(succeedingTitle.getIsbnValue())) {
+        identifier.setValue(succeedingTitle.getIsbnValue());
+        succeedingTitle.setIsbnValue(null);
+        succeedingTitle.getIdentifiers().add(identifier);
+      }
+    }
+    if (isNotEmpty(succeedingTitle.getIssnId())) {
+      Identifier__ identifier = new Identifier__().withIdentifierTypeId(succeedingTitle.getIssnId());
+      succeedingTitle.setIssnId(null);
+      if (isNotEmpty(succeedingTitle.getIssnValue())) {
+        identifier.setValue(succeedingTitle.getIssnValue());
+        succeedingTitle.setIssnValue(null);
+        succeedingTitle.getIdentifiers().add(identifier);
+      }
+    }
   }
 }
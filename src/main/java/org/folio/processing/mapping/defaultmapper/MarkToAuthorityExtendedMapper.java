@@ -1,25 +1,49 @@
 package org.folio.processing.mapping.defaultmapper;
 
-import io.vertx.core.json.JsonObject;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.folio.Authority;
 import org.folio.AuthorityExtended;
 import org.folio.processing.mapping.defaultmapper.processor.Processor;
-import org.folio.processing.mapping.defaultmapper.processor.parameters.MappingParameters;
+import org.folio.processing.mapping.defaultmapper.processor.instrumentation.MappingInstrumentation;
 
 public class MarkToAuthorityExtendedMapper extends MarcToAuthorityMapper {
 
   private static final String MARC_FORMAT = "MARC_AUTHORITY_EXTENDED";
 
+  //instrumented mappers are shared by the callers passing the same instrumentation, so that their Processors are reused
+  private static final Cache<MappingInstrumentation, MarkToAuthorityExtendedMapper> INSTRUMENTED_MAPPERS = CacheBuilder.newBuilder()
+    .weakKeys()
+    .weakValues()
+    .build();
+
+  public MarkToAuthorityExtendedMapper() {
+    super(AuthorityExtended.class, Processor::new);
+  }
+
+  /**
+   * @param instrumentation - receives timings of the mapping steps of all records mapped by this mapper
+   */
+  public MarkToAuthorityExtendedMapper(MappingInstrumentation instrumentation) {
+    super(AuthorityExtended.class, () -> new Processor<>(instrumentation));
+  }
+
+  private MarkToAuthorityExtendedMapper(MarkToAuthorityExtendedMapper mapper) {
+    super(mapper);
+  }
+
   @Override
   public String getMapperFormat() {
     return MARC_FORMAT;
   }
 
   @Override
-  public Authority mapRecord(JsonObject parsedRecord, MappingParameters mappingParameters, JsonObject mappingRules) {
-    var authority = new Processor<AuthorityExtended>().process(parsedRecord, mappingParameters, mappingRules,
-      AuthorityExtended.class);
-    linkSourceFile(parsedRecord, mappingParameters, authority);
-    return authority;
+  public RecordMapper<Authority> newSingleThreadMapper() {
+    return new MarkToAuthorityExtendedMapper(this);
+  }
+
+  @Override
+  public RecordMapper<Authority> withInstrumentation(MappingInstrumentation instrumentation) {
+    return INSTRUMENTED_MAPPERS.asMap().computeIfAbsent(instrumentation, MarkToAuthorityExtendedMapper::new);
   }
 }
@@ -0,0 +1,76 @@
+package org.folio.processing.mapping.defaultmapper;
+
+import io.vertx.core.json.JsonObject;
+import org.folio.processing.mapping.defaultmapper.processor.parameters.MappingParameters;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Maps a chunk of records in parallel. The chunk is split into contiguous partitions, each partition is mapped
+ * on the executor by its own single-threaded mapper, so the Processor and its buffers are reused for all records
+ * of the partition.
+ */
+final class RecordBatchMapper {
+
+  private RecordBatchMapper() {
+  }
+
+  @SuppressWarnings("unchecked")
+  static <T> List<T> mapRecords(RecordMapper<T> mapper, List<JsonObject> parsedRecords,
+                                MappingParameters mappingParameters, JsonObject mappingRules,
+                                ExecutorService executor, int parallelism) {
+    checkNotNull(executor, "Executor must be provided");
+    checkArgument(parallelism > 0, "Parallelism must be positive");
+    int size = parsedRecords.size();
+    Object[] mappedRecords = new Object[size];
+    int partitions = Math.min(size, parallelism);
+
+    List<Callable<Void>> tasks = new ArrayList<>(partitions);
+    for (int i = 0; i < partitions; i++) {
+      int from = (int) ((long) size * i / partitions);
+      int to = (int) ((long) size * (i + 1) / partitions);
+      tasks.add(() -> {
+        mapPartition(mapper.newSingleThreadMapper(), parsedRecords, from, to, mappingParameters, mappingRules, mappedRecords);
+        return null;
+      });
+    }
+    awaitAll(executor, tasks);
+    return (List<T>) new ArrayList<>(Arrays.asList(mappedRecords));
+  }
+
+  private static <T> void mapPartition(RecordMapper<T> worker, List<JsonObject> parsedRecords, int from, int to,
+                                       MappingParameters mappingParameters, JsonObject mappingRules,
+                                       Object[] mappedRecords) {
+    for (int i = from; i < to; i++) {
+      mappedRecords[i] = worker.mapRecord(parsedRecords.get(i), mappingParameters, mappingRules);
+    }
+  }
+
+  private static void awaitAll(ExecutorService executor, List<Callable<Void>> tasks) {
+    if (tasks.isEmpty()) {
+      return;
+    }
+    try {
+      for (Future<Void> future : executor.invokeAll(tasks)) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Mapping of records was interrupted", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Failed to map records", e.getCause());
+    }
+  }
+}
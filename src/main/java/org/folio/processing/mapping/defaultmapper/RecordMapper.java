@@ -1,8 +1,16 @@
 package org.folio.processing.mapping.defaultmapper;
 
 import io.vertx.core.json.JsonObject;
-import org.folio.Instance;
+import org.folio.processing.mapping.defaultmapper.processor.instrumentation.MappingInstrumentation;
 import org.folio.processing.mapping.defaultmapper.processor.parameters.MappingParameters;
+import org.marc4j.MarcJsonWriter;
+import org.marc4j.marc.Record;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * Common interface for Record to Instance mapper. Mappers for each format of Parsed Record should implement it
@@ -20,6 +28,67 @@ public interface RecordMapper<T> {
    */
   T mapRecord(JsonObject parsedRecord, MappingParameters mappingParameters, JsonObject mappingRules);
 
+  /**
+   * Maps already parsed MARC record. Callers holding marc4j record can use it to skip
+   * serialization of the record to MARC-in-JSON and parsing it back.
+   * The record can be modified during mapping (e.g. 880 fields are re-tagged), so it should not be reused afterwards.
+   * Default implementation converts the record to MARC-in-JSON and delegates to
+   * {@link #mapRecord(JsonObject, MappingParameters, JsonObject)}.
+   *
+   * @param marcRecord        - parsed MARC record
+   * @param mappingParameters - parameters needed for mapping functions
+   * @param mappingRules      - required rules for mapping
+   * @return - mapped entity
+   */
+  default T mapRecord(Record marcRecord, MappingParameters mappingParameters, JsonObject mappingRules) {
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    new MarcJsonWriter(os).write(marcRecord);
+    return mapRecord(new JsonObject(os.toString(UTF_8)), mappingParameters, mappingRules);
+  }
+
+  /**
+   * Maps a chunk of Parsed Records on the given executor. The chunk is split into {@code parallelism} contiguous
+   * partitions, each partition is mapped by a single reusable Processor (see {@link #newSingleThreadMapper()}).
+   * The calling thread is blocked until all the partitions are mapped, so the method must not be called
+   * from a thread of the same executor.
+   *
+   * @param parsedRecords     - JsonObjects containing Parsed Records
+   * @param mappingParameters - parameters needed for mapping functions
+   * @param mappingRules      - required rules for mapping
+   * @param executor          - executor to map the partitions on, owned and shut down by the caller
+   * @param parallelism       - maximum number of partitions mapped concurrently
+   * @return - mapped entities in the order of the Parsed Records, null for records that could not be mapped
+   */
+  default List<T> mapRecords(List<JsonObject> parsedRecords, MappingParameters mappingParameters, JsonObject mappingRules,
+                             ExecutorService executor, int parallelism) {
+    return RecordBatchMapper.mapRecords(this, parsedRecords, mappingParameters, mappingRules, executor, parallelism);
+  }
+
+  /**
+   * Provides mapper that reuses the same Processor for all records it maps.
+   * The returned mapper is not thread-safe and must be confined to a single thread.
+   * Default implementation returns this mapper.
+   *
+   * @return - mapper confined to a single thread
+   */
+  default RecordMapper<T> newSingleThreadMapper() {
+    return this;
+  }
+
+  /**
+   * Provides mapper that reports timings of the mapped tags, applied rules and invoked functions
+   * to the given instrumentation, e.g. {@link org.folio.processing.mapping.defaultmapper.processor.instrumentation.MappingStatistics}.
+   * The instrumented mapper keeps a Processor per thread, so implementations return the same mapper
+   * for the same instrumentation as long as the mapper is referenced by a caller.
+   * Default implementation ignores the instrumentation and returns this mapper.
+   *
+   * @param instrumentation - receives timings of the mapping steps
+   * @return - instrumented mapper
+   */
+  default RecordMapper<T> withInstrumentation(MappingInstrumentation instrumentation) {
+    return this;
+  }
+
   /**
    * Provides access to the MapperFormat
    *
@@ -1,54 +1,17 @@
 package org.folio.processing.mapping.defaultmapper.processor;
 
-import org.apache.commons.lang3.StringUtils;
-
-import java.util.regex.Pattern;
-
 /**
  * Escape text so that it is valid json as well as valid postgres jsonb data
  *
  */
 public class Escaper {
-  private static final Pattern ESCAPED_DOUBLE_QUOTES = Pattern.compile("\\\"");
-
-  private static String removeEscapedChars(String text) {
-    int len = text.length();
-    StringBuilder token = new StringBuilder();
-    boolean slash = false;
-    boolean isEven = false;
-
-    for (int j = 0; j < len; j++) {
-      char t = text.charAt(j);
-      //this is our record delimiter '|', so for now as a quick fix,
-      //replace it with a blank
-      if( t == '|'){
-        t = ' ';
-      }
-      if (slash && isEven && t == '\\') {
-        // we've seen \\ and now a third \ in a row
-        isEven = false;
-        slash = true;
-        token.append(t);
-      } else if (slash && !isEven && t == '\\') {
-        // we have seen an odd number of \ and now we see another one, meaning \\ in the string
-        slash = true;
-        isEven = true;
-        token.append(t);
-      } else if (!slash && t == '\\') {
-        // we've hit a \
-        token.append(t);
-        isEven = false;
-        slash = true;
-      } else {
-        // even number of slashes following by a non slash, or just a non slash
-        token.append(t);
-        isEven = false;
-        slash = false;
-      }
-    }
-    return token.toString();
-  }
 
+  //this is our record delimiter '|', so for now as a quick fix,
+  //it is replaced with a blank
+  private static final char RECORD_DELIMITER = '|';
+  private static final char DELIMITER_REPLACEMENT = ' ';
+  private static final char BACKSLASH = '\\';
+  private static final char DOUBLE_QUOTE = '"';
 
   /**
    * This function escapes data with two purposes in mind. The Marc data does not need to
@@ -62,15 +25,59 @@ public class Escaper {
   }
 
   public static String escape(String data, boolean keepTrailingBackslash) {
+    return escape(data, keepTrailingBackslash, true);
+  }
+
+  /**
+   * Prepares a mapped subfield value: replaces the record delimiter '|' with a blank and removes the trailing
+   * backslash, same as {@link #escape(String, boolean)}, but leaves double quotes as is since the value
+   * is escaped again when the mapped entity is serialized.
+   *
+   * @param data                  - subfield value
+   * @param keepTrailingBackslash - whether the trailing backslash should be kept
+   * @return prepared value, the same instance if nothing had to be changed
+   */
+  public static String escapeDelimiters(String data, boolean keepTrailingBackslash) {
+    return escape(data, keepTrailingBackslash, false);
+  }
+
+  private static String escape(String data, boolean keepTrailingBackslash, boolean escapeDoubleQuotes) {
     if (data == null) {
       return "";
     }
     // remove \ char if it is the last char of the text
-    if (!keepTrailingBackslash && data.endsWith("\\")) {
-      data = data.substring(0, data.length() - 1);
+    int end = data.length();
+    if (!keepTrailingBackslash && end > 0 && data.charAt(end - 1) == BACKSLASH) {
+      end--;
+    }
+    int firstChange = indexOfEscapedChar(data, end, escapeDoubleQuotes);
+    if (firstChange == end) {
+      return end == data.length() ? data : data.substring(0, end);
     }
-    data = ESCAPED_DOUBLE_QUOTES.matcher(removeEscapedChars(data)).replaceAll("\\\\\"");
-    return data;
+
+    StringBuilder escaped = new StringBuilder(end + 16);
+    escaped.append(data, 0, firstChange);
+    for (int i = firstChange; i < end; i++) {
+      char c = data.charAt(i);
+      if (c == RECORD_DELIMITER) {
+        escaped.append(DELIMITER_REPLACEMENT);
+      } else if (c == DOUBLE_QUOTE && escapeDoubleQuotes) {
+        escaped.append(BACKSLASH).append(DOUBLE_QUOTE);
+      } else {
+        escaped.append(c);
+      }
+    }
+    return escaped.toString();
+  }
+
+  private static int indexOfEscapedChar(String data, int end, boolean escapeDoubleQuotes) {
+    for (int i = 0; i < end; i++) {
+      char c = data.charAt(i);
+      if (c == RECORD_DELIMITER || (c == DOUBLE_QUOTE && escapeDoubleQuotes)) {
+        return i;
+      }
+    }
+    return end;
   }
 
   /**
@@ -79,10 +86,32 @@ public class Escaper {
    * @return escaped string
    */
   public static String escapeSqlCopyFrom(String s) {
-    return StringUtils.replaceEach(s,
-      new String[]{"\\", "|", "\n", "\r"},
-      new String[]{"\\\\", "\\|", "\\\n", "\\\r"}
-    );
+    if (s == null) {
+      return null;
+    }
+    int length = s.length();
+    int firstChange = 0;
+    while (firstChange < length && !isSqlCopySpecialChar(s.charAt(firstChange))) {
+      firstChange++;
+    }
+    if (firstChange == length) {
+      return s;
+    }
+
+    StringBuilder escaped = new StringBuilder(length + 16);
+    escaped.append(s, 0, firstChange);
+    for (int i = firstChange; i < length; i++) {
+      char c = s.charAt(i);
+      if (isSqlCopySpecialChar(c)) {
+        escaped.append(BACKSLASH);
+      }
+      escaped.append(c);
+    }
+    return escaped.toString();
+  }
+
+  private static boolean isSqlCopySpecialChar(char c) {
+    return c == BACKSLASH || c == RECORD_DELIMITER || c == '\n' || c == '\r';
   }
 
 }
@@ -1,39 +1,232 @@
 package org.folio.processing.mapping.defaultmapper.processor;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.oracle.truffle.js.scriptengine.GraalJSScriptEngine;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
 
 import javax.script.Bindings;
-import javax.script.Compilable;
 import javax.script.CompiledScript;
-import javax.script.ScriptEngine;
-import javax.script.ScriptEngineManager;
+import javax.script.ScriptContext;
 import javax.script.ScriptException;
-import javax.script.SimpleBindings;
-import java.util.HashMap;
+import javax.script.SimpleScriptContext;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
+ * Executes JS functions of "custom" mapping rules.
+ * <p>
+ * Script engines are not thread-safe, so every invocation borrows a script engine from a pool and returns
+ * it afterwards; engines share one polyglot {@link Engine}, so parsed scripts are reused across them.
+ * Every engine keeps a bounded cache of compiled scripts keyed by the script content and one long-lived
+ * Graal context, in which all its invocations are evaluated, so scripts should not rely on global variables.
+ * Execution time of a single invocation can be limited with {@link #setExecutionTimeout(long)}
+ * (or the {@value #TIMEOUT_PROPERTY} system property), the limit is disabled by default.
+ *
  * @author shale
  *
  */
 public class JSManager {
 
+  public static final String TIMEOUT_PROPERTY = "org.folio.processing.mapping.jsTimeoutMs";
+
   private static final Logger LOGGER = LogManager.getLogger(JSManager.class);
 
-  private static final String GRAAL_JS_ENGINE = "graal.js";
-  private static final ScriptEngine engine = new ScriptEngineManager().getEngineByName(GRAAL_JS_ENGINE);
-  private static final Map<Integer, CompiledScript> preCompiledJS = new HashMap<>();
+  private static final String DATA = "DATA";
+  private static final int MAX_COMPILED_SCRIPTS = 256;
+  private static final int MAX_IDLE_ENGINES = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+  private static final Engine POLYGLOT_ENGINE = Engine.create();
+  private static final BlockingQueue<ScriptRunner> idleRunners = new ArrayBlockingQueue<>(MAX_IDLE_ENGINES);
+
+  private static volatile long executionTimeoutMs = Long.getLong(TIMEOUT_PROPERTY, 0L);
 
   public static Object runJScript(String jscript, String data) throws ScriptException {
-    CompiledScript script = preCompiledJS.get(jscript.hashCode());
-    if(script == null){
-      LOGGER.debug("runJScript:: compiling JS function: {}", jscript);
-      script = ((Compilable) engine).compile(jscript);
-      preCompiledJS.put(jscript.hashCode(), script);
-    }
-    Bindings bindings = new SimpleBindings();
-    bindings.put("DATA", data);
-    return script.eval(bindings);
+    ScriptRunner runner = borrowRunner();
+    try {
+      return runner.run(jscript, data, executionTimeoutMs);
+    } finally {
+      releaseRunner(runner);
+    }
+  }
+
+  /**
+   * Sets the maximum execution time of a single JS function invocation.
+   *
+   * @param timeoutMs - timeout in milliseconds, 0 or negative value disables the limit
+   */
+  public static void setExecutionTimeout(long timeoutMs) {
+    executionTimeoutMs = timeoutMs;
+  }
+
+  private static ScriptRunner borrowRunner() {
+    ScriptRunner runner = idleRunners.poll();
+    return runner != null ? runner : new ScriptRunner();
+  }
+
+  private static void releaseRunner(ScriptRunner runner) {
+    if (!idleRunners.offer(runner)) {
+      runner.close();
+    }
+  }
+
+  /**
+   * Script engine with the compiled scripts and its context, used by a single thread at a time.
+   */
+  private static final class ScriptRunner {
+    private final GraalJSScriptEngine engine = GraalJSScriptEngine.create(POLYGLOT_ENGINE, null);
+    private final Cache<String, CompiledScript> compiledScripts = CacheBuilder.newBuilder()
+      .maximumSize(MAX_COMPILED_SCRIPTS)
+      .build();
+    private Bindings bindings;
+    private ScriptContext scriptContext;
+    private Context polyglotContext;
+
+    ScriptRunner() {
+      openContext();
+    }
+
+    /**
+     * Evaluates the script in the context of the runner. If the evaluation exceeds the timeout, the context
+     * is cancelled from the timeout thread; the invocation returns only after the cancellation has either been
+     * withdrawn or has completed, and replaces the cancelled context with a new one afterwards.
+     */
+    Object run(String jscript, String data, long timeoutMs) throws ScriptException {
+      CompiledScript script = compiledScripts.getIfPresent(jscript);
+      if (script == null) {
+        LOGGER.debug("runJScript:: compiling JS function: {}", jscript);
+        script = engine.compile(jscript);
+        compiledScripts.put(jscript, script);
+      }
+      bindings.put(DATA, data);
+
+      Context invocationContext = polyglotContext;
+      AtomicBoolean settled = new AtomicBoolean();
+      ScheduledFuture<?> cancellation = timeoutMs > 0
+        ? TimeoutScheduler.INSTANCE.schedule(() -> {
+            if (settled.compareAndSet(false, true)) {
+              cancel(invocationContext);
+            }
+          }, timeoutMs, TimeUnit.MILLISECONDS)
+        : null;
+      try {
+        Object result = detach(script.eval(scriptContext));
+        if (cancellation != null && !withdraw(cancellation, settled)) {
+          throw timedOut(jscript, timeoutMs, null);
+        }
+        return result;
+      } catch (ScriptException | RuntimeException e) {
+        if (cancellation != null && !withdraw(cancellation, settled)) {
+          throw timedOut(jscript, timeoutMs, e);
+        }
+        throw e;
+      }
+    }
+
+    private void openContext() {
+      bindings = engine.createBindings();
+      scriptContext = new SimpleScriptContext();
+      scriptContext.setBindings(bindings, ScriptContext.ENGINE_SCOPE);
+      polyglotContext = engine.getPolyglotContext(scriptContext);
+    }
+
+    /**
+     * Withdraws the scheduled cancellation, or waits for it to complete if it has already started.
+     * A running task can still be cancelled through its future, so the invocation and the cancellation
+     * settle which of them comes first through the shared flag.
+     *
+     * @return true if the cancellation was withdrawn before it started
+     */
+    private static boolean withdraw(ScheduledFuture<?> cancellation, AtomicBoolean settled) {
+      if (settled.compareAndSet(false, true)) {
+        cancellation.cancel(false);
+        return true;
+      }
+      try {
+        cancellation.get();
+      } catch (CancellationException | ExecutionException e) {
+        LOGGER.debug("withdraw:: JS function cancellation did not complete", e);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return false;
+    }
+
+    /**
+     * Replaces the cancelled context and reports the timeout.
+     */
+    private ScriptException timedOut(String jscript, long timeoutMs, Exception cause) {
+      close(polyglotContext);
+      openContext();
+      ScriptException timeoutException = new ScriptException(
+        String.format("Execution of JS function exceeded %d ms: %s", timeoutMs, jscript));
+      if (cause != null) {
+        timeoutException.initCause(cause);
+      }
+      return timeoutException;
+    }
+
+    /**
+     * Copies polyglot collections recursively, so the result can still be read after the context is closed
+     * or the runner is borrowed by another thread.
+     */
+    private static Object detach(Object result) {
+      if (result instanceof Map<?, ?> map) {
+        Map<Object, Object> copy = new LinkedHashMap<>();
+        map.forEach((key, value) -> copy.put(key, detach(value)));
+        return copy;
+      } else if (result instanceof List<?> list) {
+        List<Object> copy = new ArrayList<>(list.size());
+        list.forEach(value -> copy.add(detach(value)));
+        return copy;
+      }
+      return result;
+    }
+
+    private static void cancel(Context polyglotContext) {
+      try {
+        polyglotContext.close(true);
+      } catch (Exception e) {
+        LOGGER.warn("cancel:: Failed to cancel JS function execution", e);
+      }
+    }
+
+    private static void close(Context polyglotContext) {
+      try {
+        polyglotContext.close();
+      } catch (Exception e) {
+        LOGGER.debug("close:: Failed to close JS context", e);
+      }
+    }
+
+    void close() {
+      close(polyglotContext);
+      try {
+        engine.close();
+      } catch (Exception e) {
+        LOGGER.debug("close:: Failed to close JS engine", e);
+      }
+    }
+  }
+
+  private static final class TimeoutScheduler {
+    private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "js-function-timeout");
+      thread.setDaemon(true);
+      return thread;
+    });
   }
 }
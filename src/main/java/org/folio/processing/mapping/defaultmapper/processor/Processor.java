@@ -1,17 +1,27 @@
 package org.folio.processing.mapping.defaultmapper.processor;
 
+import com.google.common.base.Splitter;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
 import java.util.LinkedHashMap;
 
-import org.apache.commons.lang.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.AuthorityExtended;
+import org.folio.processing.mapping.defaultmapper.processor.accessor.EntityAccessors;
+import org.folio.processing.mapping.defaultmapper.processor.accessor.PropertyAccessor;
 import org.folio.processing.mapping.defaultmapper.processor.functions.NormalizationFunctionRunner;
+import org.folio.processing.mapping.defaultmapper.processor.instrumentation.MappingInstrumentation;
 import org.folio.processing.mapping.defaultmapper.processor.parameters.MappingParameters;
+import org.folio.processing.mapping.defaultmapper.processor.rules.CompiledCondition;
+import org.folio.processing.mapping.defaultmapper.processor.rules.CompiledFieldMapping;
+import org.folio.processing.mapping.defaultmapper.processor.rules.CompiledFieldRule;
+import org.folio.processing.mapping.defaultmapper.processor.rules.CompiledMappingEntry;
+import org.folio.processing.mapping.defaultmapper.processor.rules.CompiledMappingRules;
+import org.folio.processing.mapping.defaultmapper.processor.rules.CompiledRule;
+import org.folio.processing.mapping.defaultmapper.processor.rules.SubfieldMask;
 import org.folio.processing.mapping.defaultmapper.processor.util.ExtraFieldUtil;
 import org.marc4j.MarcJsonReader;
 import org.marc4j.marc.ControlField;
@@ -42,7 +52,6 @@ import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static java.nio.charset.StandardCharsets.UTF_8;
-import static org.folio.processing.mapping.defaultmapper.processor.LoaderHelper.isMappingValid;
 import static org.folio.processing.mapping.defaultmapper.processor.LoaderHelper.isPrimitiveOrPrimitiveWrapperOrString;
 
 public class Processor<T> {
@@ -52,13 +61,8 @@ public class Processor<T> {
   private static final String CUSTOM = "custom";
   private static final String TYPE = "type";
   private static final String REPEATABLE_SUBFIELD_SEPARATOR = StringUtils.SPACE;
-  private static final String INDICATORS = "indicators";
-  private static final String IND_1 = "ind1";
-  private static final String IND_2 = "ind2";
-  private static final String WILDCARD_INDICATOR = "*";
   private static final String TARGET = "target";
   private static final String SUBFIELD = "subfield";
-  private static final String CREATE_SINGLE_OBJECT_PROPERY = "createSingleObject";
   private static final String RULES = "rules";
   private static final Map<Class<?>, Map<String, Field>> FIELD_CACHE = new ConcurrentHashMap<>();
   private static final Map<Class<?>, Map<String, Method>> METHOD_CACHE = new ConcurrentHashMap<>();
@@ -68,13 +72,18 @@ public class Processor<T> {
   private static final String SAFT_FIELDS_PREFIX = "saft";
   public static final String DELIMITER_SUBFIELDS = "subfields";
   public static final String LDR_TAG = "LDR";
+  private static final int MAX_RETAINED_BUFFER_CAPACITY = 16 * 1024;
+  private static final String RELATION_CODES = "ghab";
+  private static final List<String> RELATION_TARGETS =
+    List.of("saftBroaderTerm", "saftNarrowerTerm", "saftEarlierHeading", "saftLaterHeading");
 
   private JsonObject mappingRules;
+  private CompiledMappingRules compiledRules;
   private Leader leader;
   private String separator; //separator between subfields with different delimiters
   private JsonArray delimiters;
   private T entity;
-  private JsonArray rules;
+  private List<CompiledRule> rules;
   private boolean createNewComplexObj;
   private boolean entityRequested;
   private boolean entityRequestedPerRepeatedSubfield;
@@ -84,20 +93,112 @@ public class Processor<T> {
   private final Map<String, String> subField2Delimiter = new HashMap<>();
   private final Set<String> ignoredSubsequentFields = new HashSet<>();
   private final Set<Character> ignoredSubsequentSubfields = new HashSet<>();
+  private long dataFieldSubfieldMask;
+  //scratch space reused for all fields and records mapped by this processor
+  private final RuleExecutionContext ruleExecutionContext = new RuleExecutionContext();
+  private final List<StringBuilder> scratchBuffers = new ArrayList<>();
+  private int usedScratchBuffers;
+  private final StringBuilder dataString = new StringBuilder();
+  private final MappingInstrumentation instrumentation;
+  private final boolean instrumented;
+  private final boolean generatedAccessors;
+
+  public Processor() {
+    this(MappingInstrumentation.NOOP);
+  }
+
+  /**
+   * @param instrumentation - receives timings of the mapped tags, applied rules and invoked functions
+   */
+  public Processor(MappingInstrumentation instrumentation) {
+    this(instrumentation, EntityAccessors.isEnabledByDefault());
+  }
+
+  /**
+   * @param instrumentation    - receives timings of the mapped tags, applied rules and invoked functions
+   * @param generatedAccessors - whether entities are populated through {@link EntityAccessors} or reflectively
+   */
+  public Processor(MappingInstrumentation instrumentation, boolean generatedAccessors) {
+    this.instrumentation = checkNotNull(instrumentation);
+    this.instrumented = instrumentation.isEnabled();
+    this.generatedAccessors = generatedAccessors;
+  }
 
   public T process(JsonObject record, MappingParameters mappingParameters, JsonObject mappingRules, Class<T> entityClass) {
-    entity = null;
     try {
-      this.mappingRules = checkNotNull(mappingRules);
       final MarcJsonReader reader = new MarcJsonReader(new ByteArrayInputStream(record.toString().getBytes(UTF_8)));
       if (reader.hasNext()) {
-        Record marcRecord = reader.next();
-        entity = processSingleEntry(marcRecord, mappingParameters, entityClass);
+        return process(reader.next(), mappingParameters, mappingRules, entityClass);
       }
     } catch (Exception e) {
       LOGGER.warn("process:: Error mapping Marc record: {}", record.encode(), e);
     }
-    return entity;
+    return null;
+  }
+
+  /**
+   * Maps already parsed MARC record, so callers holding marc4j record do not need to
+   * serialize it to MARC-in-JSON only to have it parsed back.
+   * The record can be modified during mapping (e.g. 880 fields are re-tagged).
+   *
+   * @param marcRecord        - parsed MARC record
+   * @param mappingParameters - parameters needed for mapping functions
+   * @param mappingRules      - rules for default mapping
+   * @param entityClass       - class of the entity to map the record to
+   * @return mapped entity or null if the record could not be mapped
+   */
+  public T process(Record marcRecord, MappingParameters mappingParameters, JsonObject mappingRules, Class<T> entityClass) {
+    T mappedEntity = null;
+    reset();
+    try {
+      this.mappingRules = checkNotNull(mappingRules);
+      this.compiledRules = CompiledMappingRules.of(mappingRules);
+      mappedEntity = processSingleEntry(checkNotNull(marcRecord), mappingParameters, entityClass);
+    } catch (Exception e) {
+      LOGGER.warn("process:: Error mapping Marc record: {}", marcRecord, e);
+    } finally {
+      reset();
+    }
+    return mappedEntity;
+  }
+
+  /**
+   * Clears the state left by the previous record, so the processor can be reused for the next one.
+   * References to the mapped record, entity and rules are released, scratch buffers are kept for reuse
+   * unless they have grown too large.
+   * Called by {@link #process} before and after each record.
+   */
+  public void reset() {
+    mappingRules = null;
+    compiledRules = null;
+    leader = null;
+    separator = null;
+    delimiters = null;
+    entity = null;
+    rules = null;
+    createNewComplexObj = false;
+    entityRequested = false;
+    entityRequestedPerRepeatedSubfield = false;
+    keepTrailingBackslash = false;
+    dataFieldSubfieldMask = 0;
+    buffers2concat.clear();
+    subField2Data.clear();
+    subField2Delimiter.clear();
+    ignoredSubsequentFields.clear();
+    ignoredSubsequentSubfields.clear();
+    ruleExecutionContext.reset();
+    usedScratchBuffers = 0;
+    for (StringBuilder scratchBuffer : scratchBuffers) {
+      releaseBuffer(scratchBuffer);
+    }
+    releaseBuffer(dataString);
+  }
+
+  private static void releaseBuffer(StringBuilder buffer) {
+    buffer.setLength(0);
+    if (buffer.capacity() > MAX_RETAINED_BUFFER_CAPACITY) {
+      buffer.trimToSize();
+    }
   }
 
   private T processSingleEntry(Record record, MappingParameters mappingParameters, Class<T> entityClass) {
@@ -120,48 +221,55 @@ public class Processor<T> {
   private void processLeaderField(Leader leader, MappingParameters mappingParameters)
     throws InstantiationException, IllegalAccessException {
     if (leader != null) {
-      JsonArray leaderRules = mappingRules.getJsonArray(LDR_TAG);
+      CompiledFieldMapping leaderRules = compiledRules.getFieldMapping(LDR_TAG);
       if (leaderRules != null) {
+        long start = startTiming();
         handleFieldRules(leaderRules, leader.toString(), mappingParameters);
+        if (instrumented) {
+          instrumentation.recordTag(LDR_TAG, System.nanoTime() - start);
+        }
       }
     }
   }
 
-  private void handleFieldRules(JsonArray fieldRules, String field, MappingParameters mappingParameters)
+  private void handleFieldRules(CompiledFieldMapping fieldRules, String field, MappingParameters mappingParameters)
     throws InstantiationException, IllegalAccessException {
 
     Object[] rememberComplexObj = new Object[]{null};
     createNewComplexObj = true;
 
-    for (int i = 0; i < fieldRules.size(); i++) {
-      JsonObject rule = fieldRules.getJsonObject(i);
-      rules = rule.getJsonArray(RULES);
+    for (CompiledMappingEntry fieldRule : fieldRules.getEntries()) {
+      CompiledFieldRule rule = fieldRule.getRule();
+      rules = rule.getCompiledRules();
 
-      RuleExecutionContext ruleExecutionContext = new RuleExecutionContext();
+      ruleExecutionContext.reset();
       ruleExecutionContext.setMappingParameters(mappingParameters);
       ruleExecutionContext.setSubFieldValue(field);
 
+      long start = startTiming();
       String data = processRules(ruleExecutionContext);
+      if (instrumented) {
+        instrumentation.recordRule(rule.getTarget(), System.nanoTime() - start);
+      }
       if (data.isEmpty()) {
         continue;
       }
 
-      String target = rule.getString(TARGET);
-      String[] embeddedFields = target.split("\\.");
+      String[] embeddedFields = rule.getTargetPath();
 
-      if (BooleanUtils.isTrue(rule.getBoolean(CREATE_SINGLE_OBJECT_PROPERY))) {
+      if (rule.isCreateSingleObject()) {
         if (data.isBlank()) {
           data = null;
         }
         buildAndFillSimpleObject(entity, embeddedFields, data);
         createNewComplexObj = false;
       } else {
-        if (isMappingValid(entity, embeddedFields)) {
+        if (rule.isMappingValid(entity)) {
           Object val = getValue(entity, embeddedFields, data);
           buildObject(entity, embeddedFields, createNewComplexObj, val, rememberComplexObj);
           createNewComplexObj = false;
         } else {
-          LOGGER.warn("handleFieldRules:: bad mapping {}", rules.encode());
+          LOGGER.warn("handleFieldRules:: bad mapping {}", rule.getSource().encode());
         }
       }
     }
@@ -172,11 +280,15 @@ public class Processor<T> {
 
     while (dfIter.hasNext()) {
       DataField dataField = dfIter.next();
-      ExtraFieldUtil.findAndReplaceFieldsIfNeed(dataField, mappingRules);
-      RuleExecutionContext ruleExecutionContext = new RuleExecutionContext();
+      ExtraFieldUtil.findAndReplaceFieldsIfNeed(dataField, compiledRules);
+      ruleExecutionContext.reset();
       ruleExecutionContext.setMappingParameters(mappingParameters);
       ruleExecutionContext.setDataField(dataField);
+      long start = startTiming();
       handleRecordDataFieldByField(ruleExecutionContext);
+      if (instrumented) {
+        instrumentation.recordTag(dataField.getTag(), System.nanoTime() - start);
+      }
     }
   }
 
@@ -185,27 +297,28 @@ public class Processor<T> {
     DataField dataField = ruleExecutionContext.getDataField();
     createNewComplexObj = true; // each rule will generate a new instance in an array , for an array data member
     Object[] rememberComplexObj = new Object[]{null};
-    JsonArray mappingEntry = getDataFieldMapping(dataField);
+    CompiledFieldMapping mappingEntry = getDataFieldMapping(dataField);
     if (mappingEntry == null) {
       return;
     }
-    JsonArray fieldMappingIndicators = getFieldMappingIndicators(mappingEntry);
+
+    //codes of the field subfields are matched against masks of the rules
+    dataFieldSubfieldMask = SubfieldMask.ofSubfields(dataField.getSubfields());
 
     //there is a mapping associated with this marc field
-    for (int i = 0; i < mappingEntry.size(); i++) {
+    for (CompiledMappingEntry subFieldMapping : mappingEntry.getEntries()) {
       //there could be multiple mapping entries, specifically different mappings
       //per subfield in the marc field
-      JsonObject subFieldMapping = mappingEntry.getJsonObject(i);
       //check if mapping entry has indicators sets
-      if (!fieldMappingIndicators.isEmpty()) {
-        String dataFieldInd1 = String.valueOf(dataField.getIndicator1());
-        String dataFieldInd2 = String.valueOf(dataField.getIndicator2());
-        if (subFieldMapping.containsKey(INDICATORS)) {
-          if (!checkOnIndicatorsCorrespondence(subFieldMapping, dataFieldInd1, dataFieldInd2)) {
+      if (mappingEntry.hasIndicators()) {
+        char dataFieldInd1 = dataField.getIndicator1();
+        char dataFieldInd2 = dataField.getIndicator2();
+        if (subFieldMapping.getIndicators() != null) {
+          if (!subFieldMapping.getIndicators().matches(dataFieldInd1, dataFieldInd2)) {
             continue;
           }
         } else {
-          if (checkOnIndicatorsMatches(fieldMappingIndicators, dataFieldInd1, dataFieldInd2)) {
+          if (mappingEntry.isClaimedByIndicators(dataFieldInd1, dataFieldInd2)) {
             continue;
           }
         }
@@ -216,102 +329,84 @@ public class Processor<T> {
     }
   }
 
-  private JsonArray getDataFieldMapping(DataField dataField) {
-    JsonArray mappingArray = mappingRules.getJsonArray(dataField.getTag());
-    if (entity instanceof AuthorityExtended) {
-      addSubFieldDelimiterForAuthorities(dataField, mappingArray);
-      return addExtraMappingsForAuthorities(dataField, mappingArray);
+  private CompiledFieldMapping getDataFieldMapping(DataField dataField) {
+    String tag = dataField.getTag();
+    if (entity instanceof AuthorityExtended && isAuthorityHeadingTag(tag) && compiledRules.getFieldMapping(tag) != null) {
+      //extended mappings depend only on the tag and the relations declared by the control subfield,
+      //so they are derived once per rules and relations instead of for every field
+      int relations = tag.startsWith("5") ? retrieveRelationsFromControlSubfield(dataField) : 0;
+      return compiledRules.getDerivedFieldMapping(tag, relations, this::deriveAuthorityMapping);
     }
-    return mappingArray;
+    return compiledRules.getFieldMapping(tag);
   }
 
-  private boolean canProcessSubFieldMapping(JsonObject subFieldMapping, DataField dataField) {
-    if (subFieldMapping.containsKey("ignoreSubsequentFields")) {
-      boolean mapFirstFieldOccurrence = subFieldMapping.getBoolean("ignoreSubsequentFields");
-      if (mapFirstFieldOccurrence) {
-        if (ignoredSubsequentFields.contains(dataField.getTag())) {
-          return false;
-        } else {
-          ignoredSubsequentFields.add(dataField.getTag());
-        }
-      }
-    }
-    return true;
+  private CompiledFieldMapping deriveAuthorityMapping(CompiledMappingRules.DerivedMappingKey key) {
+    //the shared rules are not modified, the extensions are applied to a copy of the mapping entries
+    JsonArray mappingArray = copyMappingEntries(mappingRules.getJsonArray(key.tag()));
+    addSubFieldDelimiterForAuthorities(key.tag(), mappingArray);
+    return CompiledFieldMapping.compile(addExtraMappingsForAuthorities(key.tag(), key.variant(), mappingArray));
   }
 
-  private JsonArray getFieldMappingIndicators(JsonArray mappingEntry) {
-    JsonArray indicatorsArray = new JsonArray();
-    for (int i = 0; i < mappingEntry.size(); i++) {
-      if (mappingEntry.getJsonObject(i).containsKey(INDICATORS)) {
-        indicatorsArray.add(mappingEntry.getJsonObject(i).getJsonObject(INDICATORS));
-      }
-    }
-    return indicatorsArray;
+  private static boolean isAuthorityHeadingTag(String tag) {
+    return tag.startsWith("1") || tag.startsWith("4") || tag.startsWith("5");
   }
 
-  private boolean checkOnIndicatorsCorrespondence(JsonObject subFieldMapping, String dataFieldInd1, String dataFieldInd2) {
-    String subFieldMappingInd1 = subFieldMapping.getJsonObject(INDICATORS).getString(IND_1);
-    String subFieldMappingInd2 = subFieldMapping.getJsonObject(INDICATORS).getString(IND_2);
-
-    return (dataFieldInd1.equals(subFieldMappingInd1) || WILDCARD_INDICATOR.equals(subFieldMappingInd1))
-      && (dataFieldInd2.equals(subFieldMappingInd2) || WILDCARD_INDICATOR.equals(subFieldMappingInd2));
+  private static JsonArray copyMappingEntries(JsonArray mappingArray) {
+    List<Object> entries = new ArrayList<>(mappingArray.size());
+    for (Object entry : mappingArray.getList()) {
+      entries.add(entry instanceof Map<?, ?> map ? new LinkedHashMap<>(map) : entry);
+    }
+    return new JsonArray(entries);
   }
 
-  private boolean checkOnIndicatorsMatches(JsonArray fieldMappingIndicators, String dataFieldInd1, String dataFieldInd2) {
-    for (int i = 0; i < fieldMappingIndicators.size(); i++) {
-      JsonObject indicatorsObj = fieldMappingIndicators.getJsonObject(i);
-      String subFieldMappingInd1 = indicatorsObj.getString(IND_1);
-      String subFieldMappingInd2 = indicatorsObj.getString(IND_2);
-      if (dataFieldInd1.equals(subFieldMappingInd1) || WILDCARD_INDICATOR.equals(subFieldMappingInd1)
-        && (dataFieldInd2.equals(subFieldMappingInd2) || WILDCARD_INDICATOR.equals(subFieldMappingInd2))) {
-        return true;
+  private boolean canProcessSubFieldMapping(CompiledMappingEntry subFieldMapping, DataField dataField) {
+    if (subFieldMapping.isIgnoreSubsequentFields()) {
+      if (ignoredSubsequentFields.contains(dataField.getTag())) {
+        return false;
+      } else {
+        ignoredSubsequentFields.add(dataField.getTag());
       }
     }
-    return false;
+    return true;
   }
 
-  private void processSubFieldMapping(JsonObject subFieldMapping, Object[] rememberComplexObj, RuleExecutionContext ruleExecutionContext)
+  private void processSubFieldMapping(CompiledMappingEntry subFieldMapping, Object[] rememberComplexObj,
+                                      RuleExecutionContext ruleExecutionContext)
     throws IllegalAccessException, InstantiationException, ScriptException {
 
     //a single mapping entry can also map multiple subfields to a specific field in the instance
-    JsonArray mappingRuleEntry = subFieldMapping.getJsonArray("entity");
 
     //entity field indicates that the subfields within the entity definition should be
     //a single instance, anything outside the entity definition will be placed in another
     //instance of the same type, unless the target points to a different type.
     //multiple entities can be declared in a field, meaning each entity will be a new instance
     //with the subfields defined in a single entity grouped as a single instance.
-    //all definitions not enclosed within the entity will be associated with anothe single instance
-    entityRequested = false;
+    //all definitions not enclosed within the entity will be associated with anothe single instance.
+    //if no "entity" is defined , then all rules contents of the field getting mapped to the same type
+    //will be placed in a single instance of that type.
+    entityRequested = subFieldMapping.isEntityRequested();
 
     //for repeatable subfields, you can indicate that each repeated subfield should respect
     //the new instance declaration and create a new instance. so that if there are two "a" subfields
     //each one will create its own instance
-    entityRequestedPerRepeatedSubfield = BooleanUtils.isTrue(subFieldMapping.getBoolean(
-      "entityPerRepeatedSubfield"));
+    entityRequestedPerRepeatedSubfield = subFieldMapping.isEntityPerRepeatedSubfield();
 
     //for subfields there could be the case when you need to keep trailing backslash instead of removing it
-    keepTrailingBackslash = BooleanUtils.isTrue(subFieldMapping.getBoolean("keepTrailingBackslash"));
-
-    //if no "entity" is defined , then all rules contents of the field getting mapped to the same type
-    //will be placed in a single instance of that type.
-    if (mappingRuleEntry == null) {
-      mappingRuleEntry = new JsonArray();
-      mappingRuleEntry.add(subFieldMapping);
-    } else {
-      entityRequested = true;
-    }
+    keepTrailingBackslash = subFieldMapping.isKeepTrailingBackslash();
 
     List<Object[]> arraysOfObjects = new ArrayList<>();
-    for (int i = 0; i < mappingRuleEntry.size(); i++) {
+    for (CompiledFieldRule fieldRule : subFieldMapping.getFieldRules()) {
       DataField dataField = ruleExecutionContext.getDataField();
-      JsonObject fieldRule = mappingRuleEntry.getJsonObject(i);
       if (!recordHasAllRequiredSubfields(dataField, fieldRule)
         || recordHasExclusiveSubfields(dataField, fieldRule)) {
         ignoredSubsequentSubfields.clear();
         return;
       }
+      long start = startTiming();
       handleFields(fieldRule, arraysOfObjects, rememberComplexObj, ruleExecutionContext);
+      if (instrumented) {
+        instrumentation.recordRule(fieldRule.getTarget(), System.nanoTime() - start);
+      }
     }
 
     if (entityRequested) {
@@ -328,9 +423,13 @@ public class Processor<T> {
    * @return If there is required sub-fields in mapping rules, then method checks if record field contains all of them.
    * If there is no required sub-fields in mapping rules, method just returns true
    */
-  private boolean recordHasAllRequiredSubfields(DataField recordDataField, JsonObject fieldRule) {
-    if (fieldRule.containsKey("requiredSubfield")) {
-      List<String> requiredSubFieldsFromMapping = fieldRule.getJsonArray("requiredSubfield").getList();
+  private boolean recordHasAllRequiredSubfields(DataField recordDataField, CompiledFieldRule fieldRule) {
+    List<String> requiredSubFieldsFromMapping = fieldRule.getRequiredSubfields();
+    long requiredSubfieldMask = fieldRule.getRequiredSubfieldMask();
+    if (SubfieldMask.isSupported(requiredSubfieldMask)) {
+      return (dataFieldSubfieldMask & requiredSubfieldMask) == requiredSubfieldMask;
+    }
+    if (requiredSubFieldsFromMapping != null) {
       Set<String> subFieldsFromRecord = recordDataField.getSubfields()
         .stream()
         .map(subField -> String.valueOf(subField.getCode()))
@@ -348,9 +447,13 @@ public class Processor<T> {
    * @return If there is exclusive sub-fields in mapping rules, then method checks if record field contains any of them.
    * If there is no exclusive sub-fields in mapping rules, method just returns false
    */
-  private boolean recordHasExclusiveSubfields(DataField recordDataField, JsonObject fieldRule) {
-    if (fieldRule.containsKey("exclusiveSubfield")) {
-      List<String> exclusiveSubfieldsFromMapping = fieldRule.getJsonArray("exclusiveSubfield").getList();
+  private boolean recordHasExclusiveSubfields(DataField recordDataField, CompiledFieldRule fieldRule) {
+    List<String> exclusiveSubfieldsFromMapping = fieldRule.getExclusiveSubfields();
+    long exclusiveSubfieldMask = fieldRule.getExclusiveSubfieldMask();
+    if (SubfieldMask.isSupported(exclusiveSubfieldMask)) {
+      return (dataFieldSubfieldMask & exclusiveSubfieldMask) != 0;
+    }
+    if (exclusiveSubfieldsFromMapping != null) {
       Set<String> subFieldsFromRecord = recordDataField.getSubfields()
         .stream()
         .map(subField -> String.valueOf(subField.getCode()))
@@ -360,24 +463,21 @@ public class Processor<T> {
     return false;
   }
 
-  private void handleFields(JsonObject jObj,
+  private void handleFields(CompiledFieldRule fieldRule,
                             List<Object[]> arraysOfObjects,
                             Object[] rememberComplexObj,
                             RuleExecutionContext ruleExecutionContext)
     throws ScriptException, IllegalAccessException, InstantiationException {
 
-    //push into a set so that we can do a lookup for each subfield in the marc instead
-    //of looping over the array
-    Set<String> subFieldsSet = jObj.getJsonArray(SUBFIELD).stream()
-      .filter(o -> o instanceof String)
-      .map(o -> (String) o)
-      .collect(Collectors.toCollection(HashSet::new));
+    //the subfields are pushed into a set at compile time so that we can do a lookup
+    //for each subfield in the marc instead of looping over the array
+    Set<String> subFieldsSet = fieldRule.getSubfields();
 
     //it can be a one to one mapping, or there could be rules to apply prior to the mapping
-    rules = jObj.getJsonArray(RULES);
+    rules = fieldRule.getCompiledRules();
 
     // see ### Delimiters in README.md (section Processor.java)
-    delimiters = jObj.getJsonArray("subFieldDelimiter");
+    delimiters = fieldRule.getDelimiters();
 
     //this is a map of each subfield to the delimiter to delimit it with
     subField2Delimiter.clear();
@@ -385,11 +485,7 @@ public class Processor<T> {
     //should we run rules on each subfield value independently or on the entire concatenated
     //string, not relevant for non repeatable single subfield declarations or entity declarations
     //with only one non repeatable subfield
-    boolean applyPost = false;
-
-    if (jObj.getBoolean("applyRulesOnConcatenatedData") != null) {
-      applyPost = jObj.getBoolean("applyRulesOnConcatenatedData");
-    }
+    boolean applyPost = fieldRule.isApplyRulesOnConcatenatedData();
 
     //map a subfield to a stringbuilder which will hold its content
     //since subfields can be concatenated into the same stringbuilder
@@ -399,14 +495,14 @@ public class Processor<T> {
     //keeps a reference to the stringbuilders that contain the data of the
     //subfield sets. this list is then iterated over and used to delimit subfield sets
     buffers2concat.clear();
+    usedScratchBuffers = 0;
 
     handleDelimiters();
 
-    String[] embeddedFields = jObj.getString(TARGET).split("\\.");
+    String[] embeddedFields = fieldRule.getTargetPath();
 
-
-    if (!isMappingValid(entity, embeddedFields)) {
-      LOGGER.debug("handleFields:: bad mapping {}", jObj::encode);
+    if (!fieldRule.isMappingValid(entity)) {
+      LOGGER.debug("handleFields:: bad mapping {}", fieldRule.getSource()::encode);
       return;
     }
 
@@ -414,11 +510,13 @@ public class Processor<T> {
     List<Subfield> subFields = ruleExecutionContext.getDataField().getSubfields();
 
     //check if we need to expand the subfields into additional subfields
-    JsonObject splitter = jObj.getJsonObject("subFieldSplit");
+    JsonObject splitter = fieldRule.getSubFieldSplit();
     if (splitter != null) {
-      expandSubfields(subFields, splitter);
+      expandSubfields(subFields, splitter, fieldRule.getSubFieldSplitter());
+      dataFieldSubfieldMask = SubfieldMask.ofSubfields(subFields);
     }
-    if (subFields.stream().noneMatch(sf -> (checkIfSubfieldShouldBeHandled(subFieldsSet, sf)))) {
+    long subfieldMask = fieldRule.getSubfieldMask();
+    if (subFields.stream().noneMatch(sf -> (checkIfSubfieldShouldBeHandled(subFieldsSet, subfieldMask, sf)))) {
       //skip further processing if there are no subfields to map
       LOGGER.debug("handleFields:: no subfields to map from {} to {}", subFields.stream().map(Subfield::getCode).toList(), subFieldsSet);
       return;
@@ -426,8 +524,8 @@ public class Processor<T> {
 
     for (int i = 0; i < subFields.size(); i++) {
       //check if there are no mapped elements present
-      if (checkIfSubfieldShouldBeHandled(subFieldsSet, subFields.get(i)) && canHandleSubField(subFields.get(i), jObj)) {
-        handleSubFields(ruleExecutionContext, subFields, i, subFieldsSet, arraysOfObjects, applyPost, embeddedFields);
+      if (checkIfSubfieldShouldBeHandled(subFieldsSet, subfieldMask, subFields.get(i)) && canHandleSubField(subFields.get(i), fieldRule)) {
+        handleSubFields(ruleExecutionContext, subFields, i, subFieldsSet, subfieldMask, arraysOfObjects, applyPost, embeddedFields);
       }
     }
 
@@ -442,34 +540,30 @@ public class Processor<T> {
         createNewComplexObj = false;
       }
 
-      if (StringUtils.isEmpty(completeData) && jObj.containsKey(ALTERNATIVE_MAPPING)) {
+      if (StringUtils.isEmpty(completeData) && fieldRule.getAlternativeMapping() != null) {
         ignoredSubsequentSubfields.clear();
-        handleFields(jObj.getJsonObject(ALTERNATIVE_MAPPING), arraysOfObjects, rememberComplexObj, ruleExecutionContext);
+        handleFields(fieldRule.getAlternativeMapping(), arraysOfObjects, rememberComplexObj, ruleExecutionContext);
       }
     }
   }
 
-  private boolean canHandleSubField(Subfield subfield, JsonObject mappingRuleEntry) {
-    if (mappingRuleEntry.containsKey("ignoreSubsequentSubfields")) {
-      boolean mapFirstSubfieldOccurrence = mappingRuleEntry.getBoolean("ignoreSubsequentSubfields");
-      if (mapFirstSubfieldOccurrence) {
-        if (ignoredSubsequentSubfields.contains(subfield.getCode())) {
-          return false;
-        } else {
-          ignoredSubsequentSubfields.add(subfield.getCode());
-        }
+  private boolean canHandleSubField(Subfield subfield, CompiledFieldRule mappingRuleEntry) {
+    if (mappingRuleEntry.isIgnoreSubsequentSubfields()) {
+      if (ignoredSubsequentSubfields.contains(subfield.getCode())) {
+        return false;
+      } else {
+        ignoredSubsequentSubfields.add(subfield.getCode());
       }
     }
     return true;
   }
 
   private void handleSubFields(RuleExecutionContext ruleExecutionContext, List<Subfield> subFields, int subFieldsIndex, Set<String> subFieldsSet,
-                               List<Object[]> arraysOfObjects, boolean applyPost, String[] embeddedFields) {
+                               long subfieldMask, List<Object[]> arraysOfObjects, boolean applyPost, String[] embeddedFields) {
 
     String data = subFields.get(subFieldsIndex).getData();
     char sub1 = subFields.get(subFieldsIndex).getCode();
-    String subfield = String.valueOf(sub1);
-    if (!subFieldsSet.contains(subfield)) {
+    if (SubfieldMask.isSupported(subfieldMask) ? !SubfieldMask.contains(subfieldMask, sub1) : !subFieldsSet.contains(String.valueOf(sub1))) {
       return;
     }
 
@@ -488,7 +582,8 @@ public class Processor<T> {
       data = processRules(ruleExecutionContext);
     }
 
-    if (delimiters != null && subField2Data.get(subfield) != null) {
+    String subfield = delimiters != null ? String.valueOf(sub1) : null;
+    if (subfield != null && subField2Data.get(subfield) != null) {
       //delimiters is not null, meaning we have a string buffer for each set of subfields
       //so populate the appropriate string buffer
       if (!subField2Data.get(subfield).isEmpty()) {
@@ -532,7 +627,7 @@ public class Processor<T> {
         JsonObject job = delimiters.getJsonObject(i);
         String delimiter = job.getString(VALUE);
         JsonArray subFieldswithDel = job.getJsonArray(DELIMITER_SUBFIELDS);
-        StringBuilder subFieldsStringBuilder = new StringBuilder();
+        StringBuilder subFieldsStringBuilder = nextScratchBuffer();
         buffers2concat.add(subFieldsStringBuilder);
         if (subFieldswithDel.isEmpty()) {
           separator = delimiter;
@@ -544,10 +639,22 @@ public class Processor<T> {
         }
       }
     } else {
-      buffers2concat.add(new StringBuilder());
+      buffers2concat.add(nextScratchBuffer());
     }
   }
 
+  /**
+   * @return empty buffer, buffers are handed out again once the buffers of the mapped target are cleared
+   */
+  private StringBuilder nextScratchBuffer() {
+    if (usedScratchBuffers == scratchBuffers.size()) {
+      scratchBuffers.add(new StringBuilder());
+    }
+    StringBuilder buffer = scratchBuffers.get(usedScratchBuffers++);
+    buffer.setLength(0);
+    return buffer;
+  }
+
   private void processControlFieldSection(Iterator<ControlField> ctrlIter, MappingParameters context)
     throws IllegalAccessException, InstantiationException {
 
@@ -556,60 +663,55 @@ public class Processor<T> {
     while (ctrlIter.hasNext()) {
       ControlField controlField = ctrlIter.next();
       //get entry for this control field in the rules.json file
-      JsonArray controlFieldRules = mappingRules.getJsonArray(controlField.getTag());
+      CompiledFieldMapping controlFieldRules = compiledRules.getFieldMapping(controlField.getTag());
       if (controlFieldRules != null) {
+        long start = startTiming();
         handleFieldRules(controlFieldRules, controlField.getData(), context);
+        if (instrumented) {
+          instrumentation.recordTag(controlField.getTag(), System.nanoTime() - start);
+        }
       }
     }
   }
 
   private String processRules(RuleExecutionContext ruleExecutionContext) {
     if (rules == null) {
-      return Escaper.escape(ruleExecutionContext.getSubFieldValue(), keepTrailingBackslash)
-        .replaceAll("\\\\\"", "\"");
+      return Escaper.escapeDelimiters(ruleExecutionContext.getSubFieldValue(), keepTrailingBackslash);
     }
 
     //there are rules associated with this subfield / control field - to instance field mapping
     String originalData = ruleExecutionContext.getSubFieldValue();
-    for (int i = 0; i < rules.size(); i++) {
-      ProcessedSingleItem psi = processRule(rules.getJsonObject(i), ruleExecutionContext, originalData);
+    for (CompiledRule rule : rules) {
+      ProcessedSingleItem psi = processRule(rule, ruleExecutionContext, originalData);
       ruleExecutionContext.setSubFieldValue(psi.getData());
       if (psi.doBreak()) {
         break;
       }
     }
-    return Escaper.escape(ruleExecutionContext.getSubFieldValue(), keepTrailingBackslash)
-      .replaceAll("\\\\\"", "\"");
+    return Escaper.escapeDelimiters(ruleExecutionContext.getSubFieldValue(), keepTrailingBackslash);
   }
 
-  private ProcessedSingleItem processRule(JsonObject rule, RuleExecutionContext ruleExecutionContext, String originalData) {
-
-
-    //get the conditions associated with each rule
-    JsonArray conditions = rule.getJsonArray("conditions");
+  private ProcessedSingleItem processRule(CompiledRule rule, RuleExecutionContext ruleExecutionContext, String originalData) {
 
     // see ### constant value in README.md (section Processor.java)
-    String ruleConstVal = rule.getString(VALUE);
+    String ruleConstVal = rule.getValue();
     boolean conditionsMet = true;
 
     //each rule has conditions, if they are all met, then mark
     //continue processing the next condition, if all conditions are met
     //set the target to the value of the rule
-    boolean isCustom = false;
-    for (int m = 0; m < conditions.size(); m++) {
-      JsonObject condition = conditions.getJsonObject(m);
+    for (CompiledCondition condition : rule.getConditions()) {
 
       // see ### functions in README.md (section Processor.java)
-      String[] functions = ProcessorHelper.getFunctionsFromCondition(condition);
-      isCustom = checkIfAnyFunctionIsCustom(functions, isCustom);
-
+      //functions are resolved when the rules are compiled, the custom indication of the condition
+      //covers the preceding conditions of the rule as well
       ProcessedSinglePlusConditionCheck processedCondition =
-        processCondition(condition, ruleExecutionContext, originalData, conditionsMet, ruleConstVal, isCustom);
+        processCondition(condition, ruleExecutionContext, originalData, conditionsMet, ruleConstVal);
       ruleExecutionContext.setSubFieldValue(processedCondition.getData());
       conditionsMet = processedCondition.isConditionsMet();
     }
 
-    if (conditionsMet && ruleConstVal != null && !isCustom) {
+    if (conditionsMet && ruleConstVal != null && !rule.isCustom()) {
 
       //all conditions of the rule were met, and there
       //is a constant value associated with the rule, and this is
@@ -620,12 +722,10 @@ public class Processor<T> {
     return new ProcessedSingleItem(ruleExecutionContext.getSubFieldValue(), false);
   }
 
-  private ProcessedSinglePlusConditionCheck processCondition(JsonObject condition, RuleExecutionContext ruleExecutionContext, String originalData,
-                                                             boolean conditionsMet, String ruleConstVal,
-                                                             boolean isCustom) {
-    String valueParam = condition.getString(VALUE);
-    for (String function : ProcessorHelper.getFunctionsFromCondition(condition)) {
-      ProcessedSinglePlusConditionCheck processedFunction = processFunction(function, ruleExecutionContext, isCustom, valueParam, condition,
+  private ProcessedSinglePlusConditionCheck processCondition(CompiledCondition condition, RuleExecutionContext ruleExecutionContext,
+                                                             String originalData, boolean conditionsMet, String ruleConstVal) {
+    for (CompiledCondition.FunctionCall function : condition.getFunctions()) {
+      ProcessedSinglePlusConditionCheck processedFunction = processFunction(function, ruleExecutionContext, condition,
         conditionsMet, ruleConstVal);
       conditionsMet = processedFunction.isConditionsMet();
       ruleExecutionContext.setSubFieldValue(processedFunction.getData());
@@ -642,23 +742,27 @@ public class Processor<T> {
     return new ProcessedSinglePlusConditionCheck(ruleExecutionContext.getSubFieldValue(), false, true);
   }
 
-  private ProcessedSinglePlusConditionCheck processFunction(String function, RuleExecutionContext ruleExecutionContext, boolean isCustom,
-                                                            String valueParam, JsonObject condition,
-                                                            boolean conditionsMet, String ruleConstVal) {
-    if (leader != null && condition.getBoolean("LDR") != null) {
+  private ProcessedSinglePlusConditionCheck processFunction(CompiledCondition.FunctionCall function, RuleExecutionContext ruleExecutionContext,
+                                                            CompiledCondition condition, boolean conditionsMet, String ruleConstVal) {
+    if (leader != null && condition.isLeaderRequired()) {
 
       //the rule also has a condition on the leader field
       //whose value also needs to be passed into any declared function
       ruleExecutionContext.setSubFieldValue(leader.toString());
     }
 
-    ruleExecutionContext.setRuleParameter(condition.getJsonObject("parameter"));
-    if (CUSTOM.equals(function.trim())) {
+    String valueParam = condition.getValue();
+    ruleExecutionContext.setTypedRuleParameter(condition.getParameter());
+    if (function.isCustom()) {
       try {
         if (valueParam == null) {
           throw new NullPointerException("valueParam == null");
         }
+        long start = startTiming();
         String data = (String) JSManager.runJScript(valueParam, ruleExecutionContext.getSubFieldValue());
+        if (instrumented) {
+          instrumentation.recordScript(valueParam, System.nanoTime() - start);
+        }
         ruleExecutionContext.setSubFieldValue(data);
       } catch (Exception e) {
 
@@ -668,8 +772,12 @@ public class Processor<T> {
         LOGGER.warn(e.getMessage(), e);
       }
     } else {
-      String c = NormalizationFunctionRunner.runFunction(function, ruleExecutionContext);
-      if (valueParam != null && !c.equals(valueParam) && !isCustom) {
+
+      //unknown functions are reported once when the rules are compiled and leave the data as is
+      String c = function.getFunction() != null
+        ? runFunction(function, ruleExecutionContext)
+        : ruleExecutionContext.getSubFieldValue();
+      if (valueParam != null && !c.equals(valueParam) && !condition.isCustomRule()) {
 
         //still allow a condition to compare the output of a function on the data to a constant value
         //unless this is a custom javascript function in which case, the value holds the custom function
@@ -685,19 +793,20 @@ public class Processor<T> {
     return new ProcessedSinglePlusConditionCheck(ruleExecutionContext.getSubFieldValue(), false, conditionsMet);
   }
 
-  private boolean checkIfAnyFunctionIsCustom(String[] functions, boolean isCustom) {
-
-    //we need to know if one of the functions is a custom function
-    //so that we know how to handle the value field - the custom indication
-    //may not be the first function listed in the function list
-    //a little wasteful, but this will probably only loop at most over 2 or 3 function names
-    for (String function : functions) {
-      if (CUSTOM.equals(function.trim())) {
-        isCustom = true;
-        break;
-      }
+  private String runFunction(CompiledCondition.FunctionCall function, RuleExecutionContext ruleExecutionContext) {
+    long start = startTiming();
+    String data = NormalizationFunctionRunner.runFunction(function.getFunction(), ruleExecutionContext);
+    if (instrumented) {
+      instrumentation.recordFunction(function.getFunction().name(), System.nanoTime() - start);
     }
-    return isCustom;
+    return data;
+  }
+
+  /**
+   * @return current time to measure a mapping step from, or 0 if the mapping is not instrumented
+   */
+  private long startTiming() {
+    return instrumented ? System.nanoTime() : 0L;
   }
 
   /**
@@ -730,7 +839,8 @@ public class Processor<T> {
    * @return the generated data string
    */
   private String generateDataString() {
-    StringBuilder finalData = new StringBuilder();
+    StringBuilder finalData = dataString;
+    finalData.setLength(0);
     for (StringBuilder sb : buffers2concat) {
       if (!sb.isEmpty()) {
         if (!finalData.isEmpty()) {
@@ -754,7 +864,7 @@ public class Processor<T> {
    * @param splitConf - (add description)
    * @throws ScriptException - (add description)
    */
-  private void expandSubfields(List<Subfield> subFields, JsonObject splitConf) throws ScriptException {
+  private void expandSubfields(List<Subfield> subFields, JsonObject splitConf, Splitter splitter) throws ScriptException {
 
     List<Subfield> expandedSubs = new ArrayList<>();
     String func = splitConf.getString(TYPE);
@@ -768,11 +878,17 @@ public class Processor<T> {
 
       if (isCustom) {
         try {
+          long start = startTiming();
           splitData = ((Map<?, ?>) JSManager.runJScript(param, data)).values().iterator();
+          if (instrumented) {
+            instrumentation.recordScript(param, System.nanoTime() - start);
+          }
         } catch (Exception e) {
           LOGGER.warn("expandSubfields:: Expanding a field via subFieldSplit must return an array of results. ");
           throw e;
         }
+      } else if (splitter != null) {
+        splitData = NormalizationFunctionRunner.runSplitFunction(splitter, data);
       } else {
         splitData = NormalizationFunctionRunner.runSplitFunction(func, data, param);
       }
@@ -787,7 +903,27 @@ public class Processor<T> {
     subFields.addAll(expandedSubs);
   }
 
-  private static Object getValue(Object object, String[] path, String value) {
+  private Object getValue(Object object, String[] path, String value) {
+    if (!generatedAccessors) {
+      return getValueReflectively(object, path, value);
+    }
+    Class<?> ownerType = object.getClass();
+    Class<?> type = Integer.TYPE;
+    for (String pathSegment : path) {
+      PropertyAccessor accessor = EntityAccessors.find(ownerType, pathSegment);
+      if (accessor == null) {
+        LOGGER.warn("getValue:: Couldn't find property: {} of {}", pathSegment, ownerType.getName());
+        continue;
+      }
+      type = accessor.getValueType();
+      if (accessor.getKind() == PropertyAccessor.Kind.COLLECTION) {
+        ownerType = type;
+      }
+    }
+    return getValue(type, value);
+  }
+
+  private static Object getValueReflectively(Object object, String[] path, String value) {
 
     Class<?> type = Integer.TYPE;
     for (String pathSegment : path) {
@@ -831,15 +967,55 @@ public class Processor<T> {
    *                                 populated from previous subfield values
    * @return                         - returns boolean based on if new object has been built
    */
-  static boolean buildObject(Object object, String[] path, boolean newComp, Object val,
-                             Object[] complexPreviouslyCreated) {
+  boolean buildObject(Object object, String[] path, boolean newComp, Object val,
+                      Object[] complexPreviouslyCreated) {
+    if (!generatedAccessors) {
+      return buildObjectReflectively(object, path, newComp, val, complexPreviouslyCreated);
+    }
+    for (String pathSegment : path) {
+      PropertyAccessor accessor = EntityAccessors.find(object.getClass(), pathSegment);
+      if (accessor == null) {
+        LOGGER.warn("buildObject:: Couldn't find property: {} of {}", pathSegment, object.getClass().getName());
+        return false;
+      }
+      try {
+        switch (accessor.getKind()) {
+          case COLLECTION -> {
+            Collection<Object> coll = accessor.getCollection(object);
+            if (accessor.hasValueElements()) {
+              coll.add(val);
+            } else {
+              object = setObjectCorrectly(newComp, accessor, coll, object, complexPreviouslyCreated[0]);
+              complexPreviouslyCreated[0] = object;
+            }
+          }
+          case NESTED -> object = accessor.get(object);
+          case VALUE -> {
+            if (accessor.getType() != val.getClass()) {
+              LOGGER.warn("buildObject:: Value of type {} cannot be set to property: {} of type {}",
+                val.getClass().getName(), pathSegment, accessor.getType().getName());
+              return false;
+            }
+            accessor.set(object, val);
+          }
+        }
+      } catch (Exception e) {
+        LOGGER.warn(e.getMessage(), e);
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean buildObjectReflectively(Object object, String[] path, boolean newComp, Object val,
+                                                 Object[] complexPreviouslyCreated) {
     for (String pathSegment : path) {
       try {
         Field field = getField(object.getClass(), pathSegment);
         Class<?> type = field.getType();
         if (type.isAssignableFrom(List.class) || type.isAssignableFrom(Set.class)) {
           // handle collection field
-          Method method = getMethod(object.getClass(), columnNametoCamelCaseWithget(pathSegment));
+          Method method = getMethod(object.getClass(), EntityAccessors.getterName(pathSegment));
           Collection<Object> coll = setColl(method, object);
           ParameterizedType listType = getParameterizedType(field);
           Class<?> listTypeClass = (Class<?>) listType.getActualTypeArguments()[0];
@@ -854,9 +1030,9 @@ public class Processor<T> {
           //currently not needed for instances, may be needed in the future
           //non primitive member in instance object but represented as a list or set of non
           //primitive objects
-          object = getMethod(object.getClass(), columnNametoCamelCaseWithget(pathSegment)).invoke(object);
+          object = getMethod(object.getClass(), EntityAccessors.getterName(pathSegment)).invoke(object);
         } else { // primitive
-          getMethod(object.getClass(), columnNametoCamelCaseWithset(pathSegment), val.getClass())
+          getMethod(object.getClass(), EntityAccessors.setterName(pathSegment), val.getClass())
             .invoke(object, val);
         }
       } catch (Exception e) {
@@ -899,6 +1075,20 @@ public class Processor<T> {
     return PARAM_TYPE_CACHE.computeIfAbsent(field, fieldObj -> (ParameterizedType) fieldObj.getGenericType());
   }
 
+  private static Object setObjectCorrectly(boolean newComp, PropertyAccessor accessor, Collection<Object> coll,
+                                           Object object, Object complexPreviouslyCreated) {
+    if (newComp) {
+      Object o = accessor.newValue();
+      coll.add(o);
+      accessor.set(object, coll);
+      return o;
+    } else if ((complexPreviouslyCreated != null) &&
+      (complexPreviouslyCreated.getClass().isAssignableFrom(accessor.getValueType()))) {
+      return complexPreviouslyCreated;
+    }
+    return object;
+  }
+
   private static Object setObjectCorrectly(boolean newComp, Class<?> listTypeClass, Class<?> type, String pathSegment,
                                            Collection<Object> coll, Object object, Object complexPreviouslyCreated)
     throws IllegalAccessException, InstantiationException, InvocationTargetException, NoSuchMethodException {
@@ -906,7 +1096,7 @@ public class Processor<T> {
     if (newComp) {
       Object o = listTypeClass.getDeclaredConstructor().newInstance();
       coll.add(o);
-      getMethod(object.getClass(), columnNametoCamelCaseWithset(pathSegment), type).invoke(object, coll);
+      getMethod(object.getClass(), EntityAccessors.setterName(pathSegment), type).invoke(object, coll);
       return o;
     } else if ((complexPreviouslyCreated != null) &&
       (complexPreviouslyCreated.getClass().isAssignableFrom(listTypeClass))) {
@@ -920,32 +1110,15 @@ public class Processor<T> {
     return ((Collection<Object>) method.invoke(object));
   }
 
-  private static String columnNametoCamelCaseWithset(String str) {
-    StringBuilder sb = new StringBuilder(str);
-    sb.replace(0, 1, String.valueOf(Character.toUpperCase(sb.charAt(0))));
-    for (int i = 0; i < sb.length(); i++) {
-      if (sb.charAt(i) == '_') {
-        sb.deleteCharAt(i);
-        sb.replace(i, i + 1, String.valueOf(Character.toUpperCase(sb.charAt(i))));
-      }
-    }
-    return "set" + sb;
+  public boolean checkIfSubfieldShouldBeHandled(Set<String> subFieldsSet, Subfield subfield) {
+    return subFieldsSet.isEmpty() || subFieldsSet.contains(Character.toString(subfield.getCode()));
   }
 
-  private static String columnNametoCamelCaseWithget(String str) {
-    StringBuilder sb = new StringBuilder(str);
-    sb.replace(0, 1, String.valueOf(Character.toUpperCase(sb.charAt(0))));
-    for (int i = 0; i < sb.length(); i++) {
-      if (sb.charAt(i) == '_') {
-        sb.deleteCharAt(i);
-        sb.replace(i, i + 1, String.valueOf(Character.toUpperCase(sb.charAt(i))));
-      }
+  private boolean checkIfSubfieldShouldBeHandled(Set<String> subFieldsSet, long subfieldMask, Subfield subfield) {
+    if (SubfieldMask.isSupported(subfieldMask)) {
+      return subfieldMask == 0 || SubfieldMask.contains(subfieldMask, subfield.getCode());
     }
-    return "get" + sb;
-  }
-
-  public boolean checkIfSubfieldShouldBeHandled(Set<String> subFieldsSet, Subfield subfield) {
-    return subFieldsSet.isEmpty() || subFieldsSet.contains(Character.toString(subfield.getCode()));
+    return checkIfSubfieldShouldBeHandled(subFieldsSet, subfield);
   }
 
   /**
@@ -970,10 +1143,8 @@ public class Processor<T> {
    *             }
    *           ]
    */
-  private void addSubFieldDelimiterForAuthorities(DataField dataField, JsonArray mappingArray) {
-    if (!dataField.getTag().startsWith("1")
-      && !dataField.getTag().startsWith("4")
-      && !dataField.getTag().startsWith("5")) {
+  private void addSubFieldDelimiterForAuthorities(String tag, JsonArray mappingArray) {
+    if (!isAuthorityHeadingTag(tag)) {
       return;
     }
     final List<String> doubleDashedSubfields = List.of("x", "y", "z", "v");
@@ -1004,13 +1175,13 @@ public class Processor<T> {
    * saftLaterHeading, when the control subfield $w has "b" value.
    * saft*Trunc for every saft* field with "i" and numeric subfields excluded
    */
-  private JsonArray addExtraMappingsForAuthorities(final DataField dataField, final JsonArray regularMapping) {
-    boolean is5XXField = dataField.getTag().startsWith("5");
+  private JsonArray addExtraMappingsForAuthorities(final String tag, final int relations, final JsonArray regularMapping) {
+    boolean is5XXField = tag.startsWith("5");
     if (!is5XXField || regularMapping == null || regularMapping.isEmpty()) {
       return regularMapping;
     }
     final JsonArray extendedMapping = new JsonArray();
-    List<String> targets = retrieveTargetsFromControlSubfield(dataField);
+    List<String> targets = retrieveTargetsFromRelations(relations);
     List<LinkedHashMap<String, Object>> mappingList = regularMapping.getList();
     List<LinkedHashMap<String, Object>> truncatedMappingList = createTruncatedMappingList(mappingList);
     targets.forEach(target ->  extendedMapping.addAll(createRelationsMappingForTarget(target, truncatedMappingList)));
@@ -1048,28 +1219,66 @@ public class Processor<T> {
     return truncatedMappingList;
   }
 
-  private List<String> retrieveTargetsFromControlSubfield(DataField dataField) {
-    List<String> targets = new ArrayList<>();
-    if (dataField.getSubfield('w') == null) {
-      return targets;
-    }
-    String subfieldData = dataField.getSubfield('w').getData();
-    if (subfieldData.contains("g")) {
-      targets.add("saftBroaderTerm");
-    }
-    if (subfieldData.contains("h")) {
-      targets.add("saftNarrowerTerm");
+  /**
+   * Packs relations declared by the control subfield $w into a bit mask,
+   * one bit per code of {@link #RELATION_CODES}.
+   */
+  private static int retrieveRelationsFromControlSubfield(DataField dataField) {
+    Subfield controlSubfield = dataField.getSubfield('w');
+    if (controlSubfield == null) {
+      return 0;
     }
-    if (subfieldData.contains("a")) {
-      targets.add("saftEarlierHeading");
+    String subfieldData = controlSubfield.getData();
+    int relations = 0;
+    for (int i = 0; i < RELATION_CODES.length(); i++) {
+      if (subfieldData.indexOf(RELATION_CODES.charAt(i)) >= 0) {
+        relations |= 1 << i;
+      }
     }
-    if (subfieldData.contains("b")) {
-      targets.add("saftLaterHeading");
+    return relations;
+  }
+
+  private static List<String> retrieveTargetsFromRelations(int relations) {
+    List<String> targets = new ArrayList<>();
+    for (int i = 0; i < RELATION_TARGETS.size(); i++) {
+      if ((relations & (1 << i)) != 0) {
+        targets.add(RELATION_TARGETS.get(i));
+      }
     }
     return targets;
   }
 
   private void buildAndFillSimpleObject(Object entity, String[] embeddedFields, String value) {
+    if (!generatedAccessors) {
+      buildAndFillSimpleObjectReflectively(entity, embeddedFields, value);
+      return;
+    }
+    try {
+      Object currentObject = entity;
+      for (int i = 0; i < embeddedFields.length - 1; i++) {
+        PropertyAccessor accessor = findAccessor(currentObject, embeddedFields[i]);
+        Object nextObject = accessor.get(currentObject);
+        if (nextObject == null) {
+          nextObject = accessor.newValue();
+          accessor.set(currentObject, nextObject);
+        }
+        currentObject = nextObject;
+      }
+      findAccessor(currentObject, embeddedFields[embeddedFields.length - 1]).set(currentObject, value);
+    } catch (Exception e) {
+      LOGGER.warn("buildSimpleJsonObject:: Error in building simple JsonObject in the mapping process: ", e);
+    }
+  }
+
+  private static PropertyAccessor findAccessor(Object object, String propertyName) {
+    PropertyAccessor accessor = EntityAccessors.find(object.getClass(), propertyName);
+    if (accessor == null) {
+      throw new IllegalArgumentException("Couldn't find property: " + propertyName + " of " + object.getClass().getName());
+    }
+    return accessor;
+  }
+
+  private void buildAndFillSimpleObjectReflectively(Object entity, String[] embeddedFields, String value) {
     Object currentObject = entity;
     try {
       currentObject = getOrCreateNestedObject(embeddedFields, currentObject);
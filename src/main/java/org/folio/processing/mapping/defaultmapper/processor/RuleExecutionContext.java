@@ -1,6 +1,7 @@
 package org.folio.processing.mapping.defaultmapper.processor;
 
 import io.vertx.core.json.JsonObject;
+import org.folio.processing.mapping.defaultmapper.processor.functions.RuleParameter;
 import org.folio.processing.mapping.defaultmapper.processor.parameters.MappingParameters;
 import org.marc4j.marc.DataField;
 
@@ -13,6 +14,7 @@ public class RuleExecutionContext {
   private String subFieldValue;
   private MappingParameters mappingParameters;
   private JsonObject ruleParameter;
+  private RuleParameter typedRuleParameter;
 
 
   public DataField getDataField() {
@@ -37,6 +39,25 @@ public class RuleExecutionContext {
 
   public void setRuleParameter(JsonObject ruleParameter) {
     this.ruleParameter = ruleParameter;
+    this.typedRuleParameter = null;
+  }
+
+  /**
+   * Sets rule parameter compiled in advance, so functions do not need to re-read it for every record.
+   */
+  public void setTypedRuleParameter(RuleParameter ruleParameter) {
+    this.ruleParameter = ruleParameter != null ? ruleParameter.getSource() : null;
+    this.typedRuleParameter = ruleParameter;
+  }
+
+  /**
+   * @return typed view of the rule parameter or null if the rule has no parameter
+   */
+  public RuleParameter getTypedRuleParameter() {
+    if (typedRuleParameter == null && ruleParameter != null) {
+      typedRuleParameter = RuleParameter.of(ruleParameter);
+    }
+    return typedRuleParameter;
   }
 
   public MappingParameters getMappingParameters() {
@@ -46,4 +67,15 @@ public class RuleExecutionContext {
   public void setMappingParameters(MappingParameters mappingParameters) {
     this.mappingParameters = mappingParameters;
   }
+
+  /**
+   * Clears the context, so the Processor can reuse it for the next field.
+   */
+  void reset() {
+    dataField = null;
+    subFieldValue = null;
+    mappingParameters = null;
+    ruleParameter = null;
+    typedRuleParameter = null;
+  }
 }
@@ -0,0 +1,190 @@
+package org.folio.processing.mapping.defaultmapper.processor.accessor;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.processing.mapping.defaultmapper.processor.LoaderHelper;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.folio.processing.mapping.defaultmapper.processor.LoaderHelper.isPrimitiveOrPrimitiveWrapperOrString;
+
+/**
+ * Registry of generated property accessors of mapped entities (Instance, Holdings, Authority, etc.).
+ * Accessors are resolved once per entity class and property name and then reused for every record,
+ * so populating an entity does not go through java.lang.reflect calls.
+ * <p>
+ * Processors use the accessors unless they are created with them switched off, or the
+ * {@value #ENABLED_PROPERTY} system property is set to false, in which case the reflective population is used.
+ */
+public final class EntityAccessors {
+
+  public static final String ENABLED_PROPERTY = "org.folio.processing.mapping.generatedAccessors";
+
+  private static final Logger LOGGER = LogManager.getLogger(EntityAccessors.class);
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  private static final ClassValue<Map<String, Optional<PropertyAccessor>>> ACCESSORS = new ClassValue<>() {
+    @Override
+    protected Map<String, Optional<PropertyAccessor>> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  private EntityAccessors() {
+  }
+
+  /**
+   * @return false if the {@value #ENABLED_PROPERTY} system property switches the accessors off
+   */
+  public static boolean isEnabledByDefault() {
+    return Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"));
+  }
+
+  /**
+   * Returns accessor of the property of the given entity class.
+   *
+   * @param entityClass  - class declaring (or inheriting) the property
+   * @param propertyName - name of the property, i.e. a segment of the mapping target path
+   * @return property accessor or null if the class has no such property
+   */
+  public static PropertyAccessor find(Class<?> entityClass, String propertyName) {
+    return ACCESSORS.get(entityClass)
+      .computeIfAbsent(propertyName, name -> Optional.ofNullable(createAccessor(entityClass, name)))
+      .orElse(null);
+  }
+
+  public static String getterName(String propertyName) {
+    return "get" + capitalize(propertyName);
+  }
+
+  public static String setterName(String propertyName) {
+    return "set" + capitalize(propertyName);
+  }
+
+  private static String capitalize(String str) {
+    StringBuilder sb = new StringBuilder(str);
+    sb.replace(0, 1, String.valueOf(Character.toUpperCase(sb.charAt(0))));
+    for (int i = 0; i < sb.length(); i++) {
+      if (sb.charAt(i) == '_') {
+        sb.deleteCharAt(i);
+        sb.replace(i, i + 1, String.valueOf(Character.toUpperCase(sb.charAt(i))));
+      }
+    }
+    return sb.toString();
+  }
+
+  private static PropertyAccessor createAccessor(Class<?> entityClass, String propertyName) {
+    Field field;
+    try {
+      field = LoaderHelper.getField(entityClass, propertyName);
+    } catch (NoSuchFieldException e) {
+      LOGGER.debug("createAccessor:: Couldn't find field: {} of {}", propertyName, entityClass.getName());
+      return null;
+    }
+
+    Class<?> type = field.getType();
+    PropertyAccessor.Kind kind;
+    Class<?> valueType = type;
+    if (type.isAssignableFrom(List.class) || type.isAssignableFrom(Set.class)) {
+      kind = PropertyAccessor.Kind.COLLECTION;
+      valueType = (Class<?>) ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+    } else if (!isPrimitiveOrPrimitiveWrapperOrString(type)) {
+      kind = PropertyAccessor.Kind.NESTED;
+    } else {
+      kind = PropertyAccessor.Kind.VALUE;
+    }
+    boolean valueElements = kind == PropertyAccessor.Kind.COLLECTION && isPrimitiveOrPrimitiveWrapperOrString(valueType);
+
+    return new PropertyAccessor(propertyName, type, kind, valueType, valueElements,
+      createGetter(entityClass, propertyName), createSetter(entityClass, propertyName, type),
+      valueElements || kind == PropertyAccessor.Kind.VALUE ? null : createFactory(valueType));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Function<Object, Object> createGetter(Class<?> entityClass, String propertyName) {
+    String getterName = getterName(propertyName);
+    try {
+      MethodHandle handle = LOOKUP.unreflect(entityClass.getMethod(getterName));
+      try {
+        CallSite site = LambdaMetafactory.metafactory(LOOKUP, "apply", MethodType.methodType(Function.class),
+          MethodType.methodType(Object.class, Object.class), handle, handle.type().wrap());
+        return (Function<Object, Object>) site.getTarget().invokeExact();
+      } catch (Throwable e) {
+        LOGGER.debug("createGetter:: Falling back to method handle for: {}", getterName, e);
+        MethodHandle generic = handle.asType(MethodType.methodType(Object.class, Object.class));
+        return owner -> invoke(generic, owner);
+      }
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      return owner -> {
+        throw new IllegalStateException("Couldn't find method: " + getterName + " of " + entityClass.getName(), e);
+      };
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static BiConsumer<Object, Object> createSetter(Class<?> entityClass, String propertyName, Class<?> type) {
+    String setterName = setterName(propertyName);
+    try {
+      MethodHandle handle = LOOKUP.unreflect(entityClass.getMethod(setterName, type));
+      try {
+        CallSite site = LambdaMetafactory.metafactory(LOOKUP, "accept", MethodType.methodType(BiConsumer.class),
+          MethodType.methodType(void.class, Object.class, Object.class), handle,
+          handle.type().wrap().changeReturnType(void.class));
+        return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+      } catch (Throwable e) {
+        LOGGER.debug("createSetter:: Falling back to method handle for: {}", setterName, e);
+        MethodHandle generic = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        return (owner, value) -> invoke(generic, owner, value);
+      }
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      return (owner, value) -> {
+        throw new IllegalStateException("Couldn't find method: " + setterName + " of " + entityClass.getName(), e);
+      };
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Supplier<Object> createFactory(Class<?> type) {
+    if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+      return null;
+    }
+    try {
+      MethodHandle handle = LOOKUP.findConstructor(type, MethodType.methodType(void.class));
+      try {
+        CallSite site = LambdaMetafactory.metafactory(LOOKUP, "get", MethodType.methodType(Supplier.class),
+          MethodType.methodType(Object.class), handle, handle.type());
+        return (Supplier<Object>) site.getTarget().invokeExact();
+      } catch (Throwable e) {
+        LOGGER.debug("createFactory:: Falling back to method handle for: {}", type.getName(), e);
+        MethodHandle generic = handle.asType(MethodType.methodType(Object.class));
+        return () -> invoke(generic);
+      }
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  private static Object invoke(MethodHandle handle, Object... args) {
+    try {
+      return handle.invokeWithArguments(args);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package org.folio.processing.mapping.defaultmapper.processor.accessor;
+
+import java.util.Collection;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Accessor of a single property of a mapped entity class, backed by generated functional
+ * interfaces instead of reflective calls.
+ */
+public final class PropertyAccessor {
+
+  /**
+   * Shape of the property as seen by the mapping target path.
+   */
+  public enum Kind {
+    /** List or Set property */
+    COLLECTION,
+    /** Nested (non collection) object property */
+    NESTED,
+    /** Primitive, primitive wrapper or String property */
+    VALUE
+  }
+
+  private final String name;
+  private final Class<?> type;
+  private final Kind kind;
+  private final Class<?> valueType;
+  private final boolean valueElements;
+  private final Function<Object, Object> getter;
+  private final BiConsumer<Object, Object> setter;
+  private final Supplier<Object> valueTypeFactory;
+
+  PropertyAccessor(String name, Class<?> type, Kind kind, Class<?> valueType, boolean valueElements,
+                   Function<Object, Object> getter, BiConsumer<Object, Object> setter,
+                   Supplier<Object> valueTypeFactory) {
+    this.name = name;
+    this.type = type;
+    this.kind = kind;
+    this.valueType = valueType;
+    this.valueElements = valueElements;
+    this.getter = getter;
+    this.setter = setter;
+    this.valueTypeFactory = valueTypeFactory;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return declared type of the property
+   */
+  public Class<?> getType() {
+    return type;
+  }
+
+  public Kind getKind() {
+    return kind;
+  }
+
+  /**
+   * @return element type for collection properties, declared type for any other property
+   */
+  public Class<?> getValueType() {
+    return valueType;
+  }
+
+  /**
+   * @return true if the property is a collection of primitives, primitive wrappers or Strings
+   */
+  public boolean hasValueElements() {
+    return valueElements;
+  }
+
+  public Object get(Object owner) {
+    return getter.apply(owner);
+  }
+
+  @SuppressWarnings("unchecked")
+  public Collection<Object> getCollection(Object owner) {
+    return (Collection<Object>) getter.apply(owner);
+  }
+
+  public void set(Object owner, Object value) {
+    setter.accept(owner, value);
+  }
+
+  /**
+   * Creates a new instance of the value type, i.e. of the collection element for collection properties.
+   *
+   * @return new instance of the value type
+   * @throws IllegalStateException if the value type cannot be instantiated
+   */
+  public Object newValue() {
+    if (valueTypeFactory == null) {
+      throw new IllegalStateException("No default constructor for " + valueType.getName() + " of property: " + name);
+    }
+    return valueTypeFactory.get();
+  }
+}
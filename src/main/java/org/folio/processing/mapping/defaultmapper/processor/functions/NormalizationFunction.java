@@ -24,6 +24,8 @@ import org.folio.rest.jaxrs.model.Location;
 import org.folio.rest.jaxrs.model.SubjectSource;
 import org.folio.rest.jaxrs.model.SubjectType;
 import org.folio.processing.mapping.defaultmapper.processor.RuleExecutionContext;
+import org.folio.processing.mapping.defaultmapper.processor.parameters.ReferenceDataIndex;
+import org.folio.processing.mapping.defaultmapper.processor.parameters.ReferenceDataIndex.Lookup;
 import org.folio.processing.mapping.defaultmapper.processor.functions.enums.CallNumberTypesEnum;
 import org.folio.processing.mapping.defaultmapper.processor.functions.enums.ElectronicAccessRelationshipEnum;
 import org.folio.processing.mapping.defaultmapper.processor.functions.enums.HoldingsTypeEnum;
@@ -37,8 +39,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
-import java.util.function.Predicate;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -56,16 +59,21 @@ public enum NormalizationFunction implements Function<RuleExecutionContext, Stri
     private static final String FROM_PARAMETER = "from";
     private static final String TO_PARAMETER = "to";
 
+    @Override
+    public Set<String> getIntegerParameters() {
+      return Set.of(FROM_PARAMETER, TO_PARAMETER);
+    }
+
     @Override
     public String apply(RuleExecutionContext context) {
       String subFieldValue = context.getSubFieldValue();
-      if (subFieldValue == null || subFieldValue.length() < context.getRuleParameter().getInteger(TO_PARAMETER) + 1) {
+      RuleParameter ruleParameter = context.getTypedRuleParameter();
+      Integer to = ruleParameter.getInteger(TO_PARAMETER);
+      if (subFieldValue == null || subFieldValue.length() < to + 1) {
         return EMPTY_STRING;
       }
-      JsonObject ruleParameter = context.getRuleParameter();
-      if (ruleParameter != null && ruleParameter.containsKey(FROM_PARAMETER) && ruleParameter.containsKey(TO_PARAMETER)) {
-        Integer from = context.getRuleParameter().getInteger(FROM_PARAMETER);
-        Integer to = context.getRuleParameter().getInteger(TO_PARAMETER);
+      Integer from = ruleParameter.getInteger(FROM_PARAMETER);
+      if (from != null) {
         return subFieldValue.substring(from, to);
       } else {
         return subFieldValue;
@@ -113,15 +121,15 @@ public enum NormalizationFunction implements Function<RuleExecutionContext, Stri
     private static final String PERIOD = ".";
     private static final String COMMA = ",";
     private static final String HYPHEN = "-";
-    private static final String REGEXP_FOR_TEXT_ENDS_WITH_SINGLE_LETTER_AND_PERIOD = "^(.*?)\\s.[.]$";
-    private static final String REGEXP_FOR_TEXT_ENDS_WITH_SINGLE_LETTER_AND_PERIOD_FOLLOWED_BY_COMMA = "^(.*?)\\s.,[.]$";
+    private static final Pattern REGEXP_FOR_TEXT_ENDS_WITH_SINGLE_LETTER_AND_PERIOD = Pattern.compile("^(.*?)\\s.[.]$");
+    private static final Pattern REGEXP_FOR_TEXT_ENDS_WITH_SINGLE_LETTER_AND_PERIOD_FOLLOWED_BY_COMMA = Pattern.compile("^(.*?)\\s.,[.]$");
 
     @Override
     public String apply(RuleExecutionContext context) {
       String subFieldData = context.getSubFieldValue().trim();
-      if (subFieldData.matches(REGEXP_FOR_TEXT_ENDS_WITH_SINGLE_LETTER_AND_PERIOD) || subFieldData.endsWith(HYPHEN)) {
+      if (REGEXP_FOR_TEXT_ENDS_WITH_SINGLE_LETTER_AND_PERIOD.matcher(subFieldData).matches() || subFieldData.endsWith(HYPHEN)) {
         return subFieldData;
-      } else if (subFieldData.matches(REGEXP_FOR_TEXT_ENDS_WITH_SINGLE_LETTER_AND_PERIOD_FOLLOWED_BY_COMMA)) {
+      } else if (REGEXP_FOR_TEXT_ENDS_WITH_SINGLE_LETTER_AND_PERIOD_FOLLOWED_BY_COMMA.matcher(subFieldData).matches()) {
         return subFieldData.substring(INTEGER_ZERO, subFieldData.length() - 2).concat(PERIOD);
       } else if (subFieldData.endsWith(PERIOD) || subFieldData.endsWith(COMMA)) {
         return subFieldData.substring(INTEGER_ZERO, subFieldData.length() - 1);
@@ -218,24 +226,11 @@ public enum NormalizationFunction implements Function<RuleExecutionContext, Stri
         return StringUtils.EMPTY;
       }
       char sixthChar = subFieldValue.charAt(6);
-      String defaultDateTypeId = findDateTypeId(dateTypes, StringUtils.EMPTY);
-      return matchInstanceDateTypeViaCode(sixthChar, dateTypes, defaultDateTypeId);
-    }
-
-    private String findDateTypeId(List<InstanceDateType> dates, String defaultId) {
-      return dates.stream()
-        .filter(date -> date.getName().equalsIgnoreCase(DEFAULT_DATE_TYPE))
-        .findFirst()
-        .map(InstanceDateType::getId)
-        .orElse(defaultId);
-    }
-
-    private String matchInstanceDateTypeViaCode(char sixthChar, List<InstanceDateType> instanceDateTypes, String defaultId) {
-      return instanceDateTypes.stream()
-        .filter(instanceFormat -> instanceFormat.getCode().equalsIgnoreCase(String.valueOf(sixthChar)))
-        .findFirst()
-        .map(InstanceDateType::getId)
-        .orElse(defaultId);
+      var dateTypesIndex = context.getMappingParameters().instanceDateTypesIndex();
+      String defaultDateTypeId = findValue(dateTypesIndex, Lookup.NAME_IGNORE_CASE, DEFAULT_DATE_TYPE, InstanceDateType::getId,
+        StringUtils.EMPTY);
+      return findValue(dateTypesIndex, Lookup.CODE_IGNORE_CASE, String.valueOf(sixthChar), InstanceDateType::getId,
+        defaultDateTypeId);
     }
   },
 
@@ -260,11 +255,8 @@ public enum NormalizationFunction implements Function<RuleExecutionContext, Stri
       if (instanceFormats == null) {
         return StringUtils.EMPTY;
       }
-      return instanceFormats.stream()
-        .filter(instanceFormat -> instanceFormat.getCode().equalsIgnoreCase(getLastSubfieldValue(context.getSubFieldValue())))
-        .findFirst()
-        .map(InstanceFormat::getId)
-        .orElse(StringUtils.EMPTY);
+      return findValue(context.getMappingParameters().instanceFormatsIndex(), Lookup.CODE_IGNORE_CASE,
+        getLastSubfieldValue(context.getSubFieldValue()), InstanceFormat::getId, StringUtils.EMPTY);
     }
   },
 
@@ -278,11 +270,8 @@ public enum NormalizationFunction implements Function<RuleExecutionContext, Stri
       if (types == null || typeName == null) {
         return STUB_FIELD_TYPE_ID;
       }
-      return types.stream()
-        .filter(classificationType -> classificationType.getName().equalsIgnoreCase(typeName))
-        .findFirst()
-        .map(ClassificationType::getId)
-        .orElse(STUB_FIELD_TYPE_ID);
+      return findValue(context.getMappingParameters().classificationTypesIndex(), Lookup.NAME_IGNORE_CASE, typeName,
+        ClassificationType::getId, STUB_FIELD_TYPE_ID);
     }
   },
 
@@ -293,11 +282,8 @@ public enum NormalizationFunction implements Function<RuleExecutionContext, Stri
       if (types == null) {
         return StringUtils.EMPTY;
       }
-      return types.stream()
-        .filter(type -> type.getCode().equalsIgnoreCase(context.getSubFieldValue()))
-        .findFirst()
-        .map(ContributorType::getId)
-        .orElse(StringUtils.EMPTY);
+      return findValue(context.getMappingParameters().contributorTypesIndex(), Lookup.CODE_IGNORE_CASE,
+        context.getSubFieldValue(), ContributorType::getId, StringUtils.EMPTY);
     }
   },
 
@@ -308,11 +294,8 @@ public enum NormalizationFunction implements Function<RuleExecutionContext, Stri
       if (types == null) {
         return context.getSubFieldValue();
       }
-      return types.stream()
-        .filter(type -> type.getCode().equalsIgnoreCase(context.getSubFieldValue()))
-        .findFirst()
-        .map(ContributorType::getName)
-        .orElse(context.getSubFieldValue());
+      return findValue(context.getMappingParameters().contributorTypesIndex(), Lookup.CODE_IGNORE_CASE,
+        context.getSubFieldValue(), ContributorType::getName, context.getSubFieldValue());
     }
   },
 
@@ -326,11 +309,8 @@ public enum NormalizationFunction implements Function<RuleExecutionContext, Stri
       if (typeNames == null || typeName == null) {
         return STUB_FIELD_TYPE_ID;
       }
-      return typeNames.stream()
-        .filter(contributorTypeName -> contributorTypeName.getName().equalsIgnoreCase(typeName))
-        .findFirst()
-        .map(ContributorNameType::getId)
-        .orElse(STUB_FIELD_TYPE_ID);
+      return findValue(context.getMappingParameters().contributorNameTypesIndex(), Lookup.NAME_IGNORE_CASE, typeName,
+        ContributorNameType::getId, STUB_FIELD_TYPE_ID);
     }
   },
 
@@ -353,10 +333,11 @@ public enum NormalizationFunction implements Function<RuleExecutionContext, Stri
         return StringUtils.EMPTY;
       }
 
+      var typesIndex = context.getMappingParameters().contributorTypesIndex();
       for (Subfield contributorCodeSubfield : context.getDataField().getSubfields(contributorCodeSfName.charAt(0))) {
         if (contributorCodeSubfield != null) {
           String contributorTypeId =
-            getContributorTypeIdBy(types, type -> type.getCode().equals(contributorCodeSubfield.getData()));
+            findValue(typesIndex, Lookup.CODE, contributorCodeSubfield.getData(), ContributorType::getId, StringUtils.EMPTY);
           if (!contributorTypeId.isEmpty()) {
             return contributorTypeId;
           }
@@ -365,10 +346,9 @@ public enum NormalizationFunction implements Function<RuleExecutionContext, Stri
 
       for (Subfield contributorNameSubfield : context.getDataField().getSubfields(contributorNameSfName.charAt(0))) {
         if (contributorNameSubfield != null) {
-          String contributorTypeId =
-            getContributorTypeIdBy(types, type -> equalsIgnoringPunctuationIfNeeded(contributorNameSubfield, type));
-          if (!contributorTypeId.isEmpty()) {
-            return contributorTypeId;
+          int position = findPositionIgnoringPunctuationIfNeeded(typesIndex, contributorNameSubfield.getData().trim());
+          if (position >= 0 && !isEmpty(typesIndex.get(position).getId())) {
+            return typesIndex.get(position).getId();
           }
         }
       }
@@ -376,20 +356,32 @@ public enum NormalizationFunction implements Function<RuleExecutionContext, Stri
       return StringUtils.EMPTY;
     }
 
-    private boolean equalsIgnoringPunctuationIfNeeded(Subfield contributorNameSubfield, ContributorType type) {
-      String currentSubfield = contributorNameSubfield.getData().trim();
-      if (type.getName().endsWith(PERIOD)) {
-        if (currentSubfield.endsWith(PERIOD)) {
-          return type.getName().equalsIgnoreCase(currentSubfield);
-        }
-        if (currentSubfield.endsWith(SEMICOLON) || currentSubfield.endsWith(COMMA)) {
-          return type.getName().equalsIgnoreCase(currentSubfield.substring(INTEGER_ZERO, currentSubfield.length() - 1));
-        } else {
-          return type.getName().substring(INTEGER_ZERO, type.getName().length() - 1).equalsIgnoreCase(currentSubfield);
-        }
+    /**
+     * Finds the first type whose name matches the subfield value. Names ending with a period match the value
+     * with the same trailing period, with a trailing comma or semicolon instead of it or without it.
+     * Other names match the value without one trailing punctuation mark.
+     */
+    private int findPositionIgnoringPunctuationIfNeeded(ReferenceDataIndex<ContributorType> typesIndex, String currentSubfield) {
+      String nameWithPeriod;
+      if (currentSubfield.endsWith(PERIOD)) {
+        nameWithPeriod = currentSubfield;
+      } else if (currentSubfield.endsWith(SEMICOLON) || currentSubfield.endsWith(COMMA)) {
+        String trimmed = currentSubfield.substring(INTEGER_ZERO, currentSubfield.length() - 1);
+        nameWithPeriod = trimmed.endsWith(PERIOD) ? trimmed : null;
+      } else {
+        nameWithPeriod = currentSubfield + PERIOD;
       }
-      currentSubfield = trimPunctuationIfNeeded(currentSubfield);
-      return type.getName().equalsIgnoreCase(currentSubfield);
+      String nameWithoutPeriod = trimPunctuationIfNeeded(currentSubfield);
+      if (nameWithoutPeriod.endsWith(PERIOD)) {
+        nameWithoutPeriod = null;
+      }
+
+      int withPeriodPosition = typesIndex.positionOf(Lookup.NAME_IGNORE_CASE, nameWithPeriod);
+      int withoutPeriodPosition = typesIndex.positionOf(Lookup.NAME_IGNORE_CASE, nameWithoutPeriod);
+      if (withPeriodPosition < 0 || withoutPeriodPosition < 0) {
+        return Math.max(withPeriodPosition, withoutPeriodPosition);
+      }
+      return Math.min(withPeriodPosition, withoutPeriodPosition);
     }
 
     private String trimPunctuationIfNeeded(String currentSubfield) {
@@ -401,14 +393,6 @@ public enum NormalizationFunction implements Function<RuleExecutionContext, Stri
       return currentSubfield;
     }
 
-    private String getContributorTypeIdBy(List<ContributorType> types, Predicate<ContributorType> criteria) {
-      return types.stream()
-        .filter(criteria)
-        .map(ContributorType::getId)
-        .findFirst()
-        .orElse(StringUtils.EMPTY);
-    }
-
   },
 
   SET_INSTANCE_TYPE_ID() {
@@ -424,22 +408,38 @@ public enum NormalizationFunction implements Function<RuleExecutionContext, Stri
       String instanceTypeValue = context.getDataField() != null
         ? getLastSubfieldValue(context.getSubFieldValue()) : unspecifiedTypeCode;
 
-      return getInstanceTypeByCode(instanceTypeValue, types)
+      var typesIndex = context.getMappingParameters().instanceTypesIndex();
+      return getInstanceTypeByCode(instanceTypeValue, typesIndex, types)
         .map(InstanceType::getId)
-        .orElseGet(() -> getInstanceTypeByCode(unspecifiedTypeCode, types)
+        .orElseGet(() -> getInstanceTypeByCode(unspecifiedTypeCode, typesIndex, types)
           .map(InstanceType::getId)
           .orElse(STUB_FIELD_TYPE_ID));
     }
 
-    private Optional<InstanceType> getInstanceTypeByCode(String instanceTypeValue, List<InstanceType> instanceTypes) {
+    private Optional<InstanceType> getInstanceTypeByCode(String instanceTypeValue, ReferenceDataIndex<InstanceType> typesIndex,
+                                                         List<InstanceType> instanceTypes) {
+      int byName = typesIndex.positionOf(Lookup.NAME_IGNORE_CASE, instanceTypeValue);
+      int byCode = typesIndex.positionOf(Lookup.CODE_IGNORE_CASE, instanceTypeValue);
+      int position = byName < 0 || byCode < 0 ? Math.max(byName, byCode) : Math.min(byName, byCode);
+      if (position < 0) {
+        return Optional.empty();
+      }
+      InstanceType instanceType = typesIndex.get(position);
+      if (isValidInstanceType(instanceType)) {
+        return Optional.of(instanceType);
+      }
+      // the first matching type has blank name or code, fall back to the search skipping such types
       return instanceTypes
         .stream()
-        .filter(instanceType -> StringUtils.isNotBlank(instanceType.getName()) && StringUtils.isNotBlank(instanceType.getCode()))
-        .filter(instanceType ->
-          instanceType.getName().equalsIgnoreCase(instanceTypeValue) || instanceType.getCode().equalsIgnoreCase(instanceTypeValue))
+        .filter(this::isValidInstanceType)
+        .filter(type -> type.getName().equalsIgnoreCase(instanceTypeValue) || type.getCode().equalsIgnoreCase(instanceTypeValue))
         .findFirst();
     }
 
+    private boolean isValidInstanceType(InstanceType instanceType) {
+      return StringUtils.isNotBlank(instanceType.getName()) && StringUtils.isNotBlank(instanceType.getCode());
+    }
+
   },
 
   SET_ELECTRONIC_ACCESS_RELATIONS_ID() {
@@ -451,12 +451,8 @@ public enum NormalizationFunction implements Function<RuleExecutionContext, Stri
       }
       char ind2 = context.getDataField().getIndicator2();
       String name = ElectronicAccessRelationshipEnum.getNameByIndicator(ind2);
-      return electronicAccessRelationships
-        .stream()
-        .filter(electronicAccessRelationship -> electronicAccessRelationship.getName().equalsIgnoreCase(name))
-        .findFirst()
-        .map(ElectronicAccessRelationship::getId)
-        .orElse(STUB_FIELD_TYPE_ID);
+      return findValue(context.getMappingParameters().electronicAccessRelationshipsIndex(), Lookup.NAME_IGNORE_CASE, name,
+        ElectronicAccessRelationship::getId, STUB_FIELD_TYPE_ID);
     }
   },
 
@@ -470,11 +466,8 @@ public enum NormalizationFunction implements Function<RuleExecutionContext, Stri
       if (subjectSources == null || typeName == null) {
         return StringUtils.EMPTY;
       }
-      return subjectSources.stream()
-        .filter(subjectSource -> subjectSource.getName().trim().equalsIgnoreCase(typeName))
-        .findFirst()
-        .map(SubjectSource::getId)
-        .orElse(StringUtils.EMPTY);
+      return findValue(context.getMappingParameters().subjectSourcesIndex(), Lookup.TRIMMED_NAME_IGNORE_CASE, typeName,
+        SubjectSource::getId, StringUtils.EMPTY);
     }
   },
 
@@ -488,11 +481,8 @@ public enum NormalizationFunction implements Function<RuleExecutionContext, Stri
         return StringUtils.EMPTY;
       }
 
-      return subjectSources.stream()
-        .filter(subjectSource -> sourceCode.equalsIgnoreCase(subjectSource.getCode()))
-        .findFirst()
-        .map(SubjectSource::getId)
-        .orElse(StringUtils.EMPTY);
+      return findValue(context.getMappingParameters().subjectSourcesIndex(), Lookup.CODE_IGNORE_CASE, sourceCode,
+        SubjectSource::getId, StringUtils.EMPTY);
     }
   },
 
@@ -506,11 +496,8 @@ public enum NormalizationFunction implements Function<RuleExecutionContext, Stri
       if (subjectTypes == null || typeName == null) {
         return StringUtils.EMPTY;
       }
-      return subjectTypes.stream()
-        .filter(subjectType -> subjectType.getName().trim().equalsIgnoreCase(typeName))
-        .findFirst()
-        .map(SubjectType::getId)
-        .orElse(StringUtils.EMPTY);
+      return findValue(context.getMappingParameters().subjectTypesIndex(), Lookup.TRIMMED_NAME_IGNORE_CASE, typeName,
+        SubjectType::getId, StringUtils.EMPTY);
     }
   },
 
@@ -524,11 +511,8 @@ public enum NormalizationFunction implements Function<RuleExecutionContext, Stri
       if (identifierTypes == null || typeCode == null) {
         return STUB_FIELD_TYPE_ID;
       }
-      return identifierTypes.stream()
-        .filter(identifierType -> identifierType.getCode().trim().equalsIgnoreCase(typeCode))
-        .findFirst()
-        .map(AuthorityIdentifierType::getId)
-        .orElse(StringUtils.EMPTY);
+      return findValue(context.getMappingParameters().authorityIdentifierTypesIndex(), Lookup.TRIMMED_CODE_IGNORE_CASE,
+        typeCode, AuthorityIdentifierType::getId, StringUtils.EMPTY);
     }
   },
 
@@ -542,11 +526,8 @@ public enum NormalizationFunction implements Function<RuleExecutionContext, Stri
       if (identifierTypes == null || typeName == null) {
         return STUB_FIELD_TYPE_ID;
       }
-      return identifierTypes.stream()
-        .filter(identifierType -> identifierType.getName().trim().equalsIgnoreCase(typeName))
-        .findFirst()
-        .map(IdentifierType::getId)
-        .orElse(STUB_FIELD_TYPE_ID);
+      return findValue(context.getMappingParameters().identifierTypesIndex(), Lookup.TRIMMED_NAME_IGNORE_CASE, typeName,
+        IdentifierType::getId, STUB_FIELD_TYPE_ID);
     }
   },
 
@@ -562,18 +543,15 @@ public enum NormalizationFunction implements Function<RuleExecutionContext, Stri
         return STUB_FIELD_TYPE_ID;
       }
       String type = getIdentifierTypeName(context);
-      return identifierTypes.stream()
-        .filter(identifierType -> identifierType.getName().equalsIgnoreCase(type))
-        .findFirst()
-        .map(IdentifierType::getId)
-        .orElse(STUB_FIELD_TYPE_ID);
+      return findValue(context.getMappingParameters().identifierTypesIndex(), Lookup.NAME_IGNORE_CASE, type,
+        IdentifierType::getId, STUB_FIELD_TYPE_ID);
     }
 
     private String getIdentifierTypeName(RuleExecutionContext context) {
       JsonArray typeNames = context.getRuleParameter().getJsonArray(NAMES_PARAMETER);
-      String oclcRegex = context.getRuleParameter().getString(OCLC_REGEX);
+      Pattern oclcRegex = context.getTypedRuleParameter().getPattern(OCLC_REGEX);
       String type = typeNames.getString(0);
-      if (oclcRegex != null && context.getSubFieldValue().matches(oclcRegex)) {
+      if (oclcRegex != null && oclcRegex.matcher(context.getSubFieldValue()).matches()) {
         type = typeNames.getString(1);
       }
       return type;
@@ -591,18 +569,9 @@ public enum NormalizationFunction implements Function<RuleExecutionContext, Stri
       if (instanceNoteTypes == null || noteTypeName == null) {
         return STUB_FIELD_TYPE_ID;
       }
-      return getNoteTypeByName(noteTypeName, instanceNoteTypes)
-        .map(InstanceNoteType::getId)
-        .orElseGet(() -> getNoteTypeByName(DEFAULT_NOTE_TYPE_NAME, instanceNoteTypes)
-          .map(InstanceNoteType::getId)
-          .orElse(STUB_FIELD_TYPE_ID));
-    }
-
-    private Optional<InstanceNoteType> getNoteTypeByName(String noteTypeName, List<InstanceNoteType> noteTypes) {
-      return noteTypes
-        .stream()
-        .filter(instanceNoteType -> instanceNoteType.getName().equalsIgnoreCase(noteTypeName))
-        .findFirst();
+      var noteTypesIndex = context.getMappingParameters().instanceNoteTypesIndex();
+      return findValue(noteTypesIndex, Lookup.NAME_IGNORE_CASE, noteTypeName, InstanceNoteType::getId,
+        findValue(noteTypesIndex, Lookup.NAME_IGNORE_CASE, DEFAULT_NOTE_TYPE_NAME, InstanceNoteType::getId, STUB_FIELD_TYPE_ID));
     }
   },
 
@@ -625,11 +594,8 @@ public enum NormalizationFunction implements Function<RuleExecutionContext, Stri
       if (alternativeTitleTypes == null || alternativeTitleTypeName == null) {
         return STUB_FIELD_TYPE_ID;
       }
-      return alternativeTitleTypes.stream()
-        .filter(alternativeTitleType -> alternativeTitleType.getName().equalsIgnoreCase(alternativeTitleTypeName))
-        .findFirst()
-        .map(AlternativeTitleType::getId)
-        .orElse(STUB_FIELD_TYPE_ID);
+      return findValue(context.getMappingParameters().alternativeTitleTypesIndex(), Lookup.NAME_IGNORE_CASE,
+        alternativeTitleTypeName, AlternativeTitleType::getId, STUB_FIELD_TYPE_ID);
     }
   },
 
@@ -652,20 +618,18 @@ public enum NormalizationFunction implements Function<RuleExecutionContext, Stri
       if (issuanceModes == null || issuanceModes.isEmpty()) {
         return StringUtils.EMPTY;
       }
-      String defaultIssuanceModeId = findIssuanceModeId(issuanceModes, IssuanceModeEnum.UNSPECIFIED, StringUtils.EMPTY);
-      return matchIssuanceModeIdViaLeaderSymbol(seventhChar, issuanceModes, defaultIssuanceModeId);
+      var issuanceModesIndex = context.getMappingParameters().issuanceModesIndex();
+      String defaultIssuanceModeId = findIssuanceModeId(issuanceModesIndex, IssuanceModeEnum.UNSPECIFIED, StringUtils.EMPTY);
+      return matchIssuanceModeIdViaLeaderSymbol(seventhChar, issuanceModesIndex, defaultIssuanceModeId);
     }
 
-    private String findIssuanceModeId(List<IssuanceMode> issuanceModes, IssuanceModeEnum issuanceModeType,
+    private String findIssuanceModeId(ReferenceDataIndex<IssuanceMode> issuanceModes, IssuanceModeEnum issuanceModeType,
                                       String defaultId) {
-      return issuanceModes.stream()
-        .filter(issuanceMode -> issuanceMode.getName().equalsIgnoreCase(issuanceModeType.getValue()))
-        .findFirst()
-        .map(IssuanceMode::getId)
-        .orElse(defaultId);
+      return findValue(issuanceModes, Lookup.NAME_IGNORE_CASE, issuanceModeType.getValue(), IssuanceMode::getId, defaultId);
     }
 
-    private String matchIssuanceModeIdViaLeaderSymbol(char seventhChar, List<IssuanceMode> issuanceModes, String defaultId) {
+    private String matchIssuanceModeIdViaLeaderSymbol(char seventhChar, ReferenceDataIndex<IssuanceMode> issuanceModes,
+                                                      String defaultId) {
       IssuanceModeEnum issuanceMode = matchSymbolToIssuanceMode(seventhChar);
       return findIssuanceModeId(issuanceModes, issuanceMode, defaultId);
     }
@@ -693,15 +657,8 @@ public enum NormalizationFunction implements Function<RuleExecutionContext, Stri
         return StringUtils.EMPTY;
       }
       String marcHoldingsType = HoldingsTypeEnum.getNameByCharacter(sixthChar);
-      return findHoldingsTypeId(holdingsTypes, marcHoldingsType);
-    }
-
-    private String findHoldingsTypeId(List<HoldingsType> holdingsTypes, String marcHoldingsType) {
-      return holdingsTypes.stream()
-        .filter(holdingsType -> holdingsType.getName().equalsIgnoreCase(marcHoldingsType))
-        .findFirst()
-        .map(HoldingsType::getId)
-        .orElse(StringUtils.EMPTY);
+      return findValue(context.getMappingParameters().holdingsTypesIndex(), Lookup.NAME_IGNORE_CASE, marcHoldingsType,
+        HoldingsType::getId, StringUtils.EMPTY);
     }
   },
 
@@ -714,12 +671,8 @@ public enum NormalizationFunction implements Function<RuleExecutionContext, Stri
       }
       char ind1 = context.getDataField().getIndicator1();
       String name = CallNumberTypesEnum.getNameByIndicator(ind1);
-      return callNumberTypes
-        .stream()
-        .filter(callNumberType -> callNumberType.getName().equalsIgnoreCase(name))
-        .findFirst()
-        .map(CallNumberType::getId)
-        .orElse(StringUtils.EMPTY);
+      return findValue(context.getMappingParameters().callNumberTypesIndex(), Lookup.NAME_IGNORE_CASE, name,
+        CallNumberType::getId, StringUtils.EMPTY);
     }
   },
 
@@ -731,11 +684,8 @@ public enum NormalizationFunction implements Function<RuleExecutionContext, Stri
         return STUB_FIELD_TYPE_ID;
       }
       var subFieldValue = context.getSubFieldValue();
-      return locations.stream()
-        .filter(location -> location.getCode().equals(subFieldValue))
-        .findFirst()
-        .map(Location::getId)
-        .orElse(STUB_FIELD_TYPE_ID);
+      return findValue(context.getMappingParameters().locationsIndex(), Lookup.CODE, subFieldValue, Location::getId,
+        STUB_FIELD_TYPE_ID);
     }
   },
 
@@ -768,14 +718,18 @@ public enum NormalizationFunction implements Function<RuleExecutionContext, Stri
         return STUB_FIELD_TYPE_ID;
       }
 
-      return authorityNoteTypes.stream()
-        .filter(authorityNoteType -> authorityNoteType.getName().equalsIgnoreCase(noteTypeName))
-        .map(AuthorityNoteType::getId)
-        .findFirst()
-        .orElse(STUB_FIELD_TYPE_ID);
+      return findValue(context.getMappingParameters().authorityNoteTypesIndex(), Lookup.NAME_IGNORE_CASE, noteTypeName,
+        AuthorityNoteType::getId, STUB_FIELD_TYPE_ID);
     }
   };
 
+  /**
+   * @return names of the rule parameters the function reads as integers, checked when mapping rules are compiled
+   */
+  public Set<String> getIntegerParameters() {
+    return Collections.emptySet();
+  }
+
   public IssuanceModeEnum matchSymbolToIssuanceMode(char symbol) {
     for (IssuanceModeEnum issuanceMode : IssuanceModeEnum.values()) {
       for (int i = 0; i < issuanceMode.getSymbols().length; i++) {
@@ -787,6 +741,18 @@ public enum NormalizationFunction implements Function<RuleExecutionContext, Stri
     return IssuanceModeEnum.UNSPECIFIED;
   }
 
+  /**
+   * Looks up the first reference data entry matching the key and extracts the value from it.
+   *
+   * @return extracted value or the default value if there is no matching entry or its value is null
+   */
+  protected <T> String findValue(ReferenceDataIndex<T> index, Lookup lookup, String key, Function<T, String> valueExtractor,
+                                 String defaultValue) {
+    T entry = index.find(lookup, key);
+    String value = entry == null ? null : valueExtractor.apply(entry);
+    return value != null ? value : defaultValue;
+  }
+
   protected String getLastSubfieldValue(String concatenatedSubfieldsData) {
     String[] subfields = concatenatedSubfieldsData.split("~");
     return subfields[subfields.length - 1];
@@ -7,6 +7,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Iterator;
+import java.util.Locale;
 
 /**
  * Run a splitter on a string or run a function.
@@ -32,16 +33,70 @@ public class NormalizationFunctionRunner {
     return null;
   }
 
+  /**
+   * Create the splitter of funcName with param, so it can be reused for every subfield.
+   * Return null if funcName is not "split_every".
+   *
+   * @return the splitter
+   * @throws NumberFormatException if param is not a number
+   */
+  public static Splitter createSplitter(String funcName, String param) {
+    if (SPLIT_FUNCTION_SPLIT_EVERY.equalsIgnoreCase(funcName)) {
+      return Splitter.fixedLength(Integer.parseInt(param));
+    }
+    return null;
+  }
+
+  /**
+   * Split val with the splitter created by {@link #createSplitter(String, String)}.
+   * Return null if val is null.
+   *
+   * @return the chunks
+   */
+  public static Iterator<String> runSplitFunction(Splitter splitter, String subFieldData) {
+    return subFieldData != null ? splitter.split(subFieldData).iterator() : null;
+  }
+
+  /**
+   * Resolve the function by its name as declared in mapping rules, e.g. "set_identifier_type_id_by_name".
+   *
+   * @return the function or null if there is no function with such name
+   */
+  public static NormalizationFunction findFunction(String functionName) {
+    if (functionName == null) {
+      return null;
+    }
+    try {
+      return NormalizationFunction.valueOf(functionName.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
   /**
    * Run the function funcName on val and param.
    *
    * @return the function's result
    */
   public static String runFunction(String functionName, RuleExecutionContext ruleExecutionContext) {
+    NormalizationFunction function = findFunction(functionName);
+    if (function == null) {
+      LOGGER.warn("runFunction:: Unknown normalization function: {}", functionName);
+      return ruleExecutionContext.getSubFieldValue();
+    }
+    return runFunction(function, ruleExecutionContext);
+  }
+
+  /**
+   * Run the resolved function on val and param.
+   *
+   * @return the function's result
+   */
+  public static String runFunction(NormalizationFunction function, RuleExecutionContext ruleExecutionContext) {
     try {
-      String result = NormalizationFunction.valueOf(functionName.trim().toUpperCase()).apply(ruleExecutionContext);
+      String result = function.apply(ruleExecutionContext);
       if(result != null && result.equals(StringUtils.EMPTY)){
-        LOGGER.debug("runFunction:: Result of {} function is empty", functionName);
+        LOGGER.debug("runFunction:: Result of {} function is empty", function);
       }
       return result;
     } catch (RuntimeException e) {
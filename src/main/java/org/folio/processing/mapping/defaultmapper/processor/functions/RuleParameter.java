@@ -0,0 +1,105 @@
+package org.folio.processing.mapping.defaultmapper.processor.functions;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.vertx.core.json.JsonObject;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Typed view of the "parameter" of a rule condition. Views are created once per condition when mapping rules
+ * are compiled, numeric values are extracted when the view is created, regular expressions are compiled
+ * on the first request and shared by all parameters declaring the same expression.
+ */
+public final class RuleParameter {
+
+  private static final int MAX_CACHED_PATTERNS = 1024;
+  private static final Cache<String, Pattern> PATTERNS = CacheBuilder.newBuilder()
+    .maximumSize(MAX_CACHED_PATTERNS)
+    .build();
+
+  private final JsonObject source;
+  private final Map<String, Integer> integers;
+  private final Set<String> nonNumericNames;
+  private final Map<String, Optional<Pattern>> patterns = new ConcurrentHashMap<>();
+
+  private RuleParameter(JsonObject source) {
+    this.source = source;
+    Map<String, Integer> numericValues = new HashMap<>();
+    Set<String> nonNumeric = new HashSet<>();
+    source.forEach(entry -> {
+      if (entry.getValue() instanceof Number number) {
+        numericValues.put(entry.getKey(), number.intValue());
+      } else if (entry.getValue() != null) {
+        nonNumeric.add(entry.getKey());
+      }
+    });
+    this.integers = Map.copyOf(numericValues);
+    this.nonNumericNames = Set.copyOf(nonNumeric);
+  }
+
+  /**
+   * Creates typed view of the rule parameter.
+   * Rule parameters are expected not to be modified once the view has been created.
+   *
+   * @param source - rule parameter
+   * @return typed view or null if the rule parameter is null
+   */
+  public static RuleParameter of(JsonObject source) {
+    return source != null ? new RuleParameter(source) : null;
+  }
+
+  /**
+   * Compiles the regular expression, expressions are compiled once and cached by their string.
+   *
+   * @param regex - regular expression
+   * @return compiled pattern
+   */
+  public static Pattern compilePattern(String regex) {
+    checkNotNull(regex);
+    return PATTERNS.asMap().computeIfAbsent(regex, Pattern::compile);
+  }
+
+  public JsonObject getSource() {
+    return source;
+  }
+
+  /**
+   * @return integer value of the parameter or null if the parameter is missing
+   * @throws IllegalArgumentException if the parameter is not a number
+   */
+  public Integer getInteger(String name) {
+    Integer value = integers.get(name);
+    if (value == null && nonNumericNames.contains(name)) {
+      throw new IllegalArgumentException(String.format("Parameter '%s' is not a number: %s", name, source.getValue(name)));
+    }
+    return value;
+  }
+
+  /**
+   * @return true if the parameter is present, but is not a number
+   */
+  public boolean isNonNumeric(String name) {
+    return nonNumericNames.contains(name);
+  }
+
+  public String getString(String name) {
+    return source.getString(name);
+  }
+
+  /**
+   * @return compiled regular expression held by the parameter or null if the parameter is missing
+   */
+  public Pattern getPattern(String name) {
+    return patterns.computeIfAbsent(name, key -> Optional.ofNullable(source.getString(key)).map(RuleParameter::compilePattern))
+      .orElse(null);
+  }
+}
@@ -0,0 +1,70 @@
+package org.folio.processing.mapping.defaultmapper.processor.instrumentation;
+
+/**
+ * Receives timings of the mapping steps performed by the Processor.
+ * Timings are inclusive: time of a tag covers its rules, time of a rule covers its functions.
+ * Implementations are shared by the Processors of a mapper and have to be thread-safe.
+ */
+public interface MappingInstrumentation {
+
+  /**
+   * Instrumentation that records nothing, the Processor does not read the clock when it is used.
+   */
+  MappingInstrumentation NOOP = new MappingInstrumentation() {
+    @Override
+    public boolean isEnabled() {
+      return false;
+    }
+
+    @Override
+    public void recordTag(String tag, long timeNanos) {
+      // nothing to record
+    }
+
+    @Override
+    public void recordRule(String target, long timeNanos) {
+      // nothing to record
+    }
+
+    @Override
+    public void recordFunction(String function, long timeNanos) {
+      // nothing to record
+    }
+
+    @Override
+    public void recordScript(String script, long timeNanos) {
+      // nothing to record
+    }
+  };
+
+  /**
+   * @return false if the Processor should not measure the mapping steps
+   */
+  default boolean isEnabled() {
+    return true;
+  }
+
+  /**
+   * @param tag       - tag of the mapped field, "LDR" for the leader
+   * @param timeNanos - time spent mapping the field
+   */
+  void recordTag(String tag, long timeNanos);
+
+  /**
+   * @param target    - target of the applied rule, e.g. "identifiers.value"
+   * @param timeNanos - time spent applying the rule
+   */
+  void recordRule(String target, long timeNanos);
+
+  /**
+   * @param function  - name of the normalization function
+   * @param timeNanos - time spent in the function
+   */
+  void recordFunction(String function, long timeNanos);
+
+  /**
+   * @param script    - custom JS function
+   * @param timeNanos - time spent running the function
+   */
+  void recordScript(String script, long timeNanos);
+}
@@ -0,0 +1,105 @@
+package org.folio.processing.mapping.defaultmapper.processor.instrumentation;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Instrumentation that accumulates invocation counts and total time per tag, rule target,
+ * normalization function and custom JS function.
+ * <p>
+ * Tags come from the mapped records and custom JS functions are keyed by their content, so every kind of step
+ * keeps timings of at most {@value #MAX_KEYS} distinct keys; steps with further keys are accumulated
+ * under {@value #OTHER}.
+ */
+public class MappingStatistics implements MappingInstrumentation {
+
+  public static final int MAX_KEYS = 1024;
+  public static final String OTHER = "(other)";
+
+  private final Map<String, Counters> tags = new ConcurrentHashMap<>();
+  private final Map<String, Counters> rules = new ConcurrentHashMap<>();
+  private final Map<String, Counters> functions = new ConcurrentHashMap<>();
+  private final Map<String, Counters> scripts = new ConcurrentHashMap<>();
+
+  @Override
+  public void recordTag(String tag, long timeNanos) {
+    record(tags, tag, timeNanos);
+  }
+
+  @Override
+  public void recordRule(String target, long timeNanos) {
+    record(rules, target, timeNanos);
+  }
+
+  @Override
+  public void recordFunction(String function, long timeNanos) {
+    record(functions, function, timeNanos);
+  }
+
+  @Override
+  public void recordScript(String script, long timeNanos) {
+    record(scripts, script, timeNanos);
+  }
+
+  /**
+   * @return statistics accumulated since creation or the last {@link #reset()}
+   */
+  public Snapshot snapshot() {
+    return new Snapshot(snapshot(tags), snapshot(rules), snapshot(functions), snapshot(scripts));
+  }
+
+  public void reset() {
+    tags.clear();
+    rules.clear();
+    functions.clear();
+    scripts.clear();
+  }
+
+  private static void record(Map<String, Counters> counters, String key, long timeNanos) {
+    if (key != null) {
+      Counters keyCounters = counters.get(key);
+      if (keyCounters == null) {
+        keyCounters = counters.computeIfAbsent(counters.size() < MAX_KEYS ? key : OTHER, k -> new Counters());
+      }
+      keyCounters.record(timeNanos);
+    }
+  }
+
+  private static Map<String, Timing> snapshot(Map<String, Counters> counters) {
+    Map<String, Timing> timings = new HashMap<>();
+    counters.forEach((key, keyCounters) -> timings.put(key, keyCounters.snapshot()));
+    return timings;
+  }
+
+  /**
+   * Accumulated timing of a mapping step.
+   *
+   * @param invocations    - number of invocations
+   * @param totalTimeNanos - total time of all invocations
+   */
+  public record Timing(long invocations, long totalTimeNanos) {
+  }
+
+  /**
+   * Timings keyed by tag, rule target, normalization function name and custom JS function.
+   */
+  public record Snapshot(Map<String, Timing> tags, Map<String, Timing> rules, Map<String, Timing> functions,
+                         Map<String, Timing> scripts) {
+  }
+
+  private static final class Counters {
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder totalTimeNanos = new LongAdder();
+
+    void record(long timeNanos) {
+      invocations.increment();
+      totalTimeNanos.add(timeNanos);
+    }
+
+    Timing snapshot() {
+      return new Timing(invocations.sum(), totalTimeNanos.sum());
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package org.folio.processing.mapping.defaultmapper.processor.parameters;
 
+import com.google.common.cache.CacheBuilder;
 import org.apache.commons.collections4.list.UnmodifiableList;
 import org.folio.AcquisitionMethod;
 import org.folio.AcquisitionsUnit;
@@ -42,9 +43,16 @@ import org.folio.rest.jaxrs.model.MarcFieldProtectionSetting;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 /**
  * Class to store parameters needed for mapping functions
+ * <p>
+ * Lookup indexes of the reference data and accepted values built from it are cached by the identity of the lists
+ * and dropped whenever a list is set, so a list must not be modified in place once it has been set,
+ * unless it is set again or {@link #invalidateReferenceDataIndexes()} is called afterwards.
  */
 public class MappingParameters {
 
@@ -88,6 +96,11 @@ public class MappingParameters {
   private List<Fund> funds;
   private List<ExpenseClass> expenseClasses;
   private List<String> tenantConfigurationAddresses;
+  private final AtomicLong referenceDataVersion = new AtomicLong();
+  private final Map<List<?>, ReferenceDataIndex<?>> referenceDataIndexes = CacheBuilder.newBuilder()
+    .weakKeys()
+    .<List<?>, ReferenceDataIndex<?>>build()
+    .asMap();
 
   public MappingParameters withInitializedState(boolean initialized) {
     this.initialized = initialized;
@@ -103,6 +116,7 @@ public class MappingParameters {
   }
 
   public MappingParameters withIdentifierTypes(List<IdentifierType> identifierTypes) {
+    invalidateReferenceDataIndexes();
     this.identifierTypes = new UnmodifiableList<>(identifierTypes);
     return this;
   }
@@ -112,6 +126,7 @@ public class MappingParameters {
   }
 
   public MappingParameters withClassificationTypes(List<ClassificationType> classificationTypes) {
+    invalidateReferenceDataIndexes();
     this.classificationTypes = new UnmodifiableList<>(classificationTypes);
     return this;
   }
@@ -121,11 +136,13 @@ public class MappingParameters {
   }
 
   public MappingParameters withInstanceTypes(List<InstanceType> instanceTypes) {
+    invalidateReferenceDataIndexes();
     this.instanceTypes = new UnmodifiableList<>(instanceTypes);
     return this;
   }
 
   public MappingParameters withElectronicAccessRelationships(List<ElectronicAccessRelationship> electronicAccessRelationships) {
+    invalidateReferenceDataIndexes();
     this.electronicAccessRelationships = new UnmodifiableList<>(electronicAccessRelationships);
     return this;
   }
@@ -135,6 +152,7 @@ public class MappingParameters {
   }
 
   public MappingParameters withInstanceFormats(List<InstanceFormat> instanceFormats) {
+    invalidateReferenceDataIndexes();
     this.instanceFormats = new UnmodifiableList<>(instanceFormats);
     return this;
   }
@@ -144,6 +162,7 @@ public class MappingParameters {
   }
 
   public MappingParameters withContributorTypes(List<ContributorType> contributorTypes) {
+    invalidateReferenceDataIndexes();
     this.contributorTypes = new UnmodifiableList<>(contributorTypes);
     return this;
   }
@@ -153,6 +172,7 @@ public class MappingParameters {
   }
 
   public MappingParameters withContributorNameTypes(List<ContributorNameType> contributorNameTypes) {
+    invalidateReferenceDataIndexes();
     this.contributorNameTypes = new UnmodifiableList<>(contributorNameTypes);
     return this;
   }
@@ -162,6 +182,7 @@ public class MappingParameters {
   }
 
   public MappingParameters withInstanceNoteTypes(List<InstanceNoteType> instanceNoteTypes) {
+    invalidateReferenceDataIndexes();
     this.instanceNoteTypes = new UnmodifiableList<>(instanceNoteTypes);
     return this;
   }
@@ -171,6 +192,7 @@ public class MappingParameters {
   }
 
   public MappingParameters withAlternativeTitleTypes(List<AlternativeTitleType> alternativeTitleTypes) {
+    invalidateReferenceDataIndexes();
     this.alternativeTitleTypes = new UnmodifiableList<>(alternativeTitleTypes);
     return this;
   }
@@ -180,11 +202,13 @@ public class MappingParameters {
   }
 
   public MappingParameters withIssuanceModes(List<IssuanceMode> issuanceModes) {
+    invalidateReferenceDataIndexes();
     this.issuanceModes = new UnmodifiableList<>(issuanceModes);
     return this;
   }
 
   public void setInstanceDateTypes(List<InstanceDateType> instanceDateTypes) {
+    invalidateReferenceDataIndexes();
     this.instanceDateTypes = instanceDateTypes;
   }
 
@@ -193,6 +217,7 @@ public class MappingParameters {
   }
 
   public MappingParameters withInstanceDateTypes(List<InstanceDateType> instanceDateTypes) {
+    invalidateReferenceDataIndexes();
     this.instanceDateTypes = new UnmodifiableList<>(instanceDateTypes);
     return this;
   }
@@ -202,14 +227,17 @@ public class MappingParameters {
   }
 
   public void setIdentifierTypes(List<IdentifierType> identifierTypes) {
+    invalidateReferenceDataIndexes();
     this.identifierTypes = identifierTypes;
   }
 
   public void setClassificationTypes(List<ClassificationType> classificationTypes) {
+    invalidateReferenceDataIndexes();
     this.classificationTypes = classificationTypes;
   }
 
   public void setInstanceTypes(List<InstanceType> instanceTypes) {
+    invalidateReferenceDataIndexes();
     this.instanceTypes = instanceTypes;
   }
 
@@ -218,30 +246,37 @@ public class MappingParameters {
   }
 
   public void setElectronicAccessRelationships(List<ElectronicAccessRelationship> electronicAccessRelationships) {
+    invalidateReferenceDataIndexes();
     this.electronicAccessRelationships = electronicAccessRelationships;
   }
 
   public void setInstanceFormats(List<InstanceFormat> instanceFormats) {
+    invalidateReferenceDataIndexes();
     this.instanceFormats = instanceFormats;
   }
 
   public void setContributorTypes(List<ContributorType> contributorTypes) {
+    invalidateReferenceDataIndexes();
     this.contributorTypes = contributorTypes;
   }
 
   public void setContributorNameTypes(List<ContributorNameType> contributorNameTypes) {
+    invalidateReferenceDataIndexes();
     this.contributorNameTypes = contributorNameTypes;
   }
 
   public void setInstanceNoteTypes(List<InstanceNoteType> instanceNoteTypes) {
+    invalidateReferenceDataIndexes();
     this.instanceNoteTypes = instanceNoteTypes;
   }
 
   public void setAlternativeTitleTypes(List<AlternativeTitleType> alternativeTitleTypes) {
+    invalidateReferenceDataIndexes();
     this.alternativeTitleTypes = alternativeTitleTypes;
   }
 
   public void setIssuanceModes(List<IssuanceMode> issuanceModes) {
+    invalidateReferenceDataIndexes();
     this.issuanceModes = issuanceModes;
   }
 
@@ -250,15 +285,18 @@ public class MappingParameters {
   }
 
   public void setInstanceStatuses(List<InstanceStatus> instanceStatuses) {
+    invalidateReferenceDataIndexes();
     this.instanceStatuses = instanceStatuses;
   }
 
   public MappingParameters withInstanceStatuses(List<InstanceStatus> instanceStatuses) {
+    invalidateReferenceDataIndexes();
     this.instanceStatuses = new UnmodifiableList<>(instanceStatuses);
     return this;
   }
 
   public MappingParameters withNatureOfContentTerms(List<NatureOfContentTerm> natureOfContentTerms) {
+    invalidateReferenceDataIndexes();
     this.natureOfContentTerms = new UnmodifiableList<>(natureOfContentTerms);
     return this;
   }
@@ -268,6 +306,7 @@ public class MappingParameters {
   }
 
   public void setNatureOfContentTerms(List<NatureOfContentTerm> natureOfContentTerms) {
+    invalidateReferenceDataIndexes();
     this.natureOfContentTerms = natureOfContentTerms;
   }
 
@@ -276,6 +315,7 @@ public class MappingParameters {
   }
 
   public void setInstanceRelationshipTypes(List<InstanceRelationshipType> instanceRelationshipTypes) {
+    invalidateReferenceDataIndexes();
     this.instanceRelationshipTypes = instanceRelationshipTypes;
   }
 
@@ -284,6 +324,7 @@ public class MappingParameters {
   }
 
   public void setHoldingsTypes(List<HoldingsType> holdingsTypes) {
+    invalidateReferenceDataIndexes();
     this.holdingsTypes = holdingsTypes;
   }
 
@@ -292,6 +333,7 @@ public class MappingParameters {
   }
 
   public void setHoldingsNoteTypes(List<HoldingsNoteType> holdingsNoteTypes) {
+    invalidateReferenceDataIndexes();
     this.holdingsNoteTypes = holdingsNoteTypes;
   }
 
@@ -300,6 +342,7 @@ public class MappingParameters {
   }
 
   public void setIllPolicies(List<IllPolicy> illPolicies) {
+    invalidateReferenceDataIndexes();
     this.illPolicies = illPolicies;
   }
 
@@ -308,6 +351,7 @@ public class MappingParameters {
   }
 
   public void setCallNumberTypes(List<CallNumberType> callNumberTypes) {
+    invalidateReferenceDataIndexes();
     this.callNumberTypes = callNumberTypes;
   }
 
@@ -316,6 +360,7 @@ public class MappingParameters {
   }
 
   public void setStatisticalCodes(List<StatisticalCode> statisticalCodes) {
+    invalidateReferenceDataIndexes();
     this.statisticalCodes = statisticalCodes;
   }
 
@@ -324,6 +369,7 @@ public class MappingParameters {
   }
 
   public void setStatisticalCodeTypes(List<StatisticalCodeType> statisticalCodeTypes) {
+    invalidateReferenceDataIndexes();
     this.statisticalCodeTypes = statisticalCodeTypes;
   }
 
@@ -332,6 +378,7 @@ public class MappingParameters {
   }
 
   public void setLocations(List<Location> locations) {
+    invalidateReferenceDataIndexes();
     this.locations = locations;
   }
 
@@ -340,6 +387,7 @@ public class MappingParameters {
   }
 
   public void setMaterialTypes(List<MaterialType> materialTypes) {
+    invalidateReferenceDataIndexes();
     this.materialTypes = materialTypes;
   }
 
@@ -348,6 +396,7 @@ public class MappingParameters {
   }
 
   public void setItemDamageStatuses(List<ItemDamageStatus> itemDamageStatuses) {
+    invalidateReferenceDataIndexes();
     this.itemDamageStatuses = itemDamageStatuses;
   }
 
@@ -356,6 +405,7 @@ public class MappingParameters {
   }
 
   public void setLoanTypes(List<LoanType> loanTypes) {
+    invalidateReferenceDataIndexes();
     this.loanTypes = loanTypes;
   }
 
@@ -364,6 +414,7 @@ public class MappingParameters {
   }
 
   public void setItemNoteTypes(List<ItemNoteType> itemNoteTypes) {
+    invalidateReferenceDataIndexes();
     this.itemNoteTypes = itemNoteTypes;
   }
 
@@ -380,6 +431,7 @@ public class MappingParameters {
   }
 
   public void setMarcFieldProtectionSettings(List<MarcFieldProtectionSetting> marcFieldProtectionSettings) {
+    invalidateReferenceDataIndexes();
     this.marcFieldProtectionSettings = marcFieldProtectionSettings;
   }
 
@@ -388,6 +440,7 @@ public class MappingParameters {
   }
 
   public void setAuthorityNoteTypes(List<AuthorityNoteType> authorityNoteTypes) {
+    invalidateReferenceDataIndexes();
     this.authorityNoteTypes = authorityNoteTypes;
   }
 
@@ -396,65 +449,78 @@ public class MappingParameters {
   }
 
   public void setAuthoritySourceFiles(List<AuthoritySourceFile> authoritySourceFiles) {
+    invalidateReferenceDataIndexes();
     this.authoritySourceFiles = authoritySourceFiles;
   }
 
   public MappingParameters withInstanceRelationshipTypes(List<InstanceRelationshipType> instanceRelationshipTypes) {
+    invalidateReferenceDataIndexes();
     this.instanceRelationshipTypes = new UnmodifiableList<>(instanceRelationshipTypes);
     return this;
   }
 
   public MappingParameters withHoldingsTypes(List<HoldingsType> holdingsTypes) {
+    invalidateReferenceDataIndexes();
     this.holdingsTypes = new UnmodifiableList<>(holdingsTypes);
     return this;
   }
 
   public MappingParameters withHoldingsNoteTypes(List<HoldingsNoteType> holdingsNoteTypes) {
+    invalidateReferenceDataIndexes();
     this.holdingsNoteTypes = new UnmodifiableList<>(holdingsNoteTypes);
     return this;
   }
 
   public MappingParameters withIllPolicies(List<IllPolicy> illPolicies) {
+    invalidateReferenceDataIndexes();
     this.illPolicies = new UnmodifiableList<>(illPolicies);
     return this;
   }
 
   public MappingParameters withCallNumberTypes(List<CallNumberType> callNumberTypes) {
+    invalidateReferenceDataIndexes();
     this.callNumberTypes = new UnmodifiableList<>(callNumberTypes);
     return this;
   }
 
   public MappingParameters withStatisticalCodes(List<StatisticalCode> statisticalCodes) {
+    invalidateReferenceDataIndexes();
     this.statisticalCodes = new UnmodifiableList<>(statisticalCodes);
     return this;
   }
 
   public MappingParameters withStatisticalCodeTypes(List<StatisticalCodeType> statisticalCodeTypes) {
+    invalidateReferenceDataIndexes();
     this.statisticalCodeTypes = new UnmodifiableList<>(statisticalCodeTypes);
     return this;
   }
 
   public MappingParameters withLocations(List<Location> locations) {
+    invalidateReferenceDataIndexes();
     this.locations = new UnmodifiableList<>(locations);
     return this;
   }
 
   public MappingParameters withMaterialTypes(List<MaterialType> materialTypes) {
+    invalidateReferenceDataIndexes();
     this.materialTypes = new UnmodifiableList<>(materialTypes);
     return this;
   }
 
   public MappingParameters withItemDamagedStatuses(List<ItemDamageStatus> itemDamageStatuses) {
+    invalidateReferenceDataIndexes();
     this.itemDamageStatuses = new UnmodifiableList<>(itemDamageStatuses);
     return this;
   }
 
   public MappingParameters withLoanTypes(List<LoanType> loantypes) {
+    invalidateReferenceDataIndexes();
     this.loanTypes = new UnmodifiableList<>(loantypes);
     return this;
   }
 
   public MappingParameters withItemNoteTypes(List<ItemNoteType> itemNoteTypes) {
+    invalidateReferenceDataIndexes();
     this.itemNoteTypes = new UnmodifiableList<>(itemNoteTypes);
     return this;
   }
@@ -465,16 +531,19 @@ public class MappingParameters {
   }
 
   public MappingParameters withMarcFieldProtectionSettings(List<MarcFieldProtectionSetting> marcFieldProtectionSettings) {
+    invalidateReferenceDataIndexes();
     this.marcFieldProtectionSettings = new UnmodifiableList<>(marcFieldProtectionSettings);
     return this;
   }
 
   public MappingParameters withAuthorityNoteTypes(List<AuthorityNoteType> authorityNoteTypes) {
+    invalidateReferenceDataIndexes();
     this.authorityNoteTypes = Collections.unmodifiableList(authorityNoteTypes);
     return this;
   }
 
   public MappingParameters withAuthoritySourceFiles(List<AuthoritySourceFile> authoritySourceFiles) {
+    invalidateReferenceDataIndexes();
     this.authoritySourceFiles = Collections.unmodifiableList(authoritySourceFiles);
     return this;
   }
@@ -483,10 +552,12 @@ public class MappingParameters {
   }
 
   public void setOrganizations(List<Organization> organizations) {
+    invalidateReferenceDataIndexes();
     this.organizations = organizations;
   }
 
   public MappingParameters withOrganizations(List<Organization> organizations) {
+    invalidateReferenceDataIndexes();
     this.organizations = new UnmodifiableList<>(organizations);
     return this;
   }
@@ -496,10 +567,12 @@ public class MappingParameters {
   }
 
   public void setLinkingRules(List<LinkingRuleDto> linkingRules) {
+    invalidateReferenceDataIndexes();
     this.linkingRules = linkingRules;
   }
 
   public MappingParameters withLinkingRules(List<LinkingRuleDto> linkingRules) {
+    invalidateReferenceDataIndexes();
     this.linkingRules = new UnmodifiableList<>(linkingRules);
     return this;
   }
@@ -509,6 +582,7 @@ public class MappingParameters {
   }
 
   public void setSubjectSources(List<SubjectSource> subjectSources) {
+    invalidateReferenceDataIndexes();
     this.subjectSources = subjectSources;
   }
 
@@ -517,15 +591,18 @@ public class MappingParameters {
   }
 
   public void setSubjectTypes(List<SubjectType> subjectTypes) {
+    invalidateReferenceDataIndexes();
     this.subjectTypes = subjectTypes;
   }
 
   public MappingParameters withSubjectSources(List<SubjectSource> subjectSources) {
+    invalidateReferenceDataIndexes();
     this.subjectSources = new UnmodifiableList<>(subjectSources);
     return this;
   }
 
   public MappingParameters withSubjectTypes(List<SubjectType> subjectTypes) {
+    invalidateReferenceDataIndexes();
     this.subjectTypes = new UnmodifiableList<>(subjectTypes);
     return this;
   }
@@ -535,10 +612,12 @@ public class MappingParameters {
   }
 
   public void setAcquisitionsUnits(List<AcquisitionsUnit> acquisitionsUnits) {
+    invalidateReferenceDataIndexes();
     this.acquisitionsUnits = acquisitionsUnits;
   }
 
   public MappingParameters withAcquisitionsUnits(List<AcquisitionsUnit> acquisitionsUnits) {
+    invalidateReferenceDataIndexes();
     this.acquisitionsUnits = acquisitionsUnits;
     return this;
   }
@@ -548,10 +627,12 @@ public class MappingParameters {
   }
 
   public void setAcquisitionMethods(List<AcquisitionMethod> acquisitionMethods) {
+    invalidateReferenceDataIndexes();
     this.acquisitionMethods = acquisitionMethods;
   }
 
   public MappingParameters withAcquisitionMethods(List<AcquisitionMethod> acquisitionMethods) {
+    invalidateReferenceDataIndexes();
     this.acquisitionMethods = acquisitionMethods;
     return this;
   }
@@ -561,10 +642,12 @@ public class MappingParameters {
   }
 
   public void setFunds(List<Fund> funds) {
+    invalidateReferenceDataIndexes();
     this.funds = funds;
   }
 
   public MappingParameters withFunds(List<Fund> funds) {
+    invalidateReferenceDataIndexes();
     this.funds = funds;
     return this;
   }
@@ -574,10 +657,12 @@ public class MappingParameters {
   }
 
   public void setExpenseClasses(List<ExpenseClass> expenseClasses) {
+    invalidateReferenceDataIndexes();
     this.expenseClasses = expenseClasses;
   }
 
   public MappingParameters withExpenseClasses(List<ExpenseClass> expenseClasses) {
+    invalidateReferenceDataIndexes();
     this.expenseClasses = expenseClasses;
     return this;
   }
@@ -587,10 +672,12 @@ public class MappingParameters {
   }
 
   public void setTenantConfigurationAddresses(List<String> tenantConfigurationAddresses) {
+    invalidateReferenceDataIndexes();
     this.tenantConfigurationAddresses = tenantConfigurationAddresses;
   }
 
   public MappingParameters withTenantConfigurationAddresses(List<String> tenantConfigurationAddresses) {
+    invalidateReferenceDataIndexes();
     this.tenantConfigurationAddresses = tenantConfigurationAddresses;
     return this;
   }
@@ -600,11 +687,117 @@ public class MappingParameters {
   }
 
   public void setAuthorityIdentifierTypes(List<AuthorityIdentifierType> authorityIdentifierTypes) {
+    invalidateReferenceDataIndexes();
     this.authorityIdentifierTypes = authorityIdentifierTypes;
   }
 
   public MappingParameters withAuthorityIdentifierTypes(List<AuthorityIdentifierType> authorityIdentifierTypes) {
+    invalidateReferenceDataIndexes();
     this.authorityIdentifierTypes = new UnmodifiableList<>(authorityIdentifierTypes);
     return this;
   }
+
+  /**
+   * Drops the lookup indexes and accepted values built from the reference data, so they are rebuilt on the next use.
+   * Called by every setter of the reference data, has to be called explicitly only after a list that has been set
+   * is modified in place.
+   */
+  public void invalidateReferenceDataIndexes() {
+    referenceDataVersion.incrementAndGet();
+    referenceDataIndexes.clear();
+  }
+
+  /**
+   * @return version of the reference data, changed every time the reference data indexes are invalidated
+   */
+  public long referenceDataVersion() {
+    return referenceDataVersion.get();
+  }
+
+  /*
+   * Lookup indexes of the reference data. An index is built on the first use and reused
+   * until the reference data indexes are invalidated.
+   */
+
+  public ReferenceDataIndex<IdentifierType> identifierTypesIndex() {
+    return index(identifierTypes, IdentifierType::getId, null, IdentifierType::getName);
+  }
+
+  public ReferenceDataIndex<ClassificationType> classificationTypesIndex() {
+    return index(classificationTypes, ClassificationType::getId, null, ClassificationType::getName);
+  }
+
+  public ReferenceDataIndex<InstanceType> instanceTypesIndex() {
+    return index(instanceTypes, InstanceType::getId, InstanceType::getCode, InstanceType::getName);
+  }
+
+  public ReferenceDataIndex<ElectronicAccessRelationship> electronicAccessRelationshipsIndex() {
+    return index(electronicAccessRelationships, ElectronicAccessRelationship::getId, null, ElectronicAccessRelationship::getName);
+  }
+
+  public ReferenceDataIndex<InstanceFormat> instanceFormatsIndex() {
+    return index(instanceFormats, InstanceFormat::getId, InstanceFormat::getCode, null);
+  }
+
+  public ReferenceDataIndex<ContributorType> contributorTypesIndex() {
+    return index(contributorTypes, ContributorType::getId, ContributorType::getCode, ContributorType::getName);
+  }
+
+  public ReferenceDataIndex<ContributorNameType> contributorNameTypesIndex() {
+    return index(contributorNameTypes, ContributorNameType::getId, null, ContributorNameType::getName);
+  }
+
+  public ReferenceDataIndex<InstanceNoteType> instanceNoteTypesIndex() {
+    return index(instanceNoteTypes, InstanceNoteType::getId, null, InstanceNoteType::getName);
+  }
+
+  public ReferenceDataIndex<AlternativeTitleType> alternativeTitleTypesIndex() {
+    return index(alternativeTitleTypes, AlternativeTitleType::getId, null, AlternativeTitleType::getName);
+  }
+
+  public ReferenceDataIndex<IssuanceMode> issuanceModesIndex() {
+    return index(issuanceModes, IssuanceMode::getId, null, IssuanceMode::getName);
+  }
+
+  public ReferenceDataIndex<InstanceDateType> instanceDateTypesIndex() {
+    return index(instanceDateTypes, InstanceDateType::getId, InstanceDateType::getCode, InstanceDateType::getName);
+  }
+
+  public ReferenceDataIndex<HoldingsType> holdingsTypesIndex() {
+    return index(holdingsTypes, HoldingsType::getId, null, HoldingsType::getName);
+  }
+
+  public ReferenceDataIndex<CallNumberType> callNumberTypesIndex() {
+    return index(callNumberTypes, CallNumberType::getId, null, CallNumberType::getName);
+  }
+
+  public ReferenceDataIndex<Location> locationsIndex() {
+    return index(locations, Location::getId, Location::getCode, null);
+  }
+
+  public ReferenceDataIndex<SubjectSource> subjectSourcesIndex() {
+    return index(subjectSources, SubjectSource::getId, SubjectSource::getCode, SubjectSource::getName);
+  }
+
+  public ReferenceDataIndex<SubjectType> subjectTypesIndex() {
+    return index(subjectTypes, SubjectType::getId, null, SubjectType::getName);
+  }
+
+  public ReferenceDataIndex<AuthorityIdentifierType> authorityIdentifierTypesIndex() {
+    return index(authorityIdentifierTypes, AuthorityIdentifierType::getId, AuthorityIdentifierType::getCode, null);
+  }
+
+  public ReferenceDataIndex<AuthorityNoteType> authorityNoteTypesIndex() {
+    return index(authorityNoteTypes, AuthorityNoteType::getId, null, AuthorityNoteType::getName);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> ReferenceDataIndex<T> index(List<T> referenceData, Function<T, String> idExtractor,
+                                          Function<T, String> codeExtractor, Function<T, String> nameExtractor) {
+    if (referenceData == null) {
+      return ReferenceDataIndex.empty();
+    }
+    return (ReferenceDataIndex<T>) referenceDataIndexes.computeIfAbsent(referenceData,
+      list -> ReferenceDataIndex.of(referenceData, idExtractor, codeExtractor, nameExtractor));
+  }
 }
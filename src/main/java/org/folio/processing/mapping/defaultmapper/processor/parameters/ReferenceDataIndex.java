@@ -0,0 +1,131 @@
+package org.folio.processing.mapping.defaultmapper.processor.parameters;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Immutable lookup index over a list of reference data entries (identifier types, locations, etc.).
+ * Every lookup returns the first entry of the list satisfying it, i.e. the same entry a linear
+ * search over the list would return.
+ *
+ * @param <T> type of the reference data entries
+ */
+public final class ReferenceDataIndex<T> {
+
+  /**
+   * Supported lookups, case-insensitive lookups match the same way as {@link String#equalsIgnoreCase(String)}.
+   */
+  public enum Lookup {
+    ID,
+    CODE,
+    CODE_IGNORE_CASE,
+    TRIMMED_CODE_IGNORE_CASE,
+    NAME_IGNORE_CASE,
+    TRIMMED_NAME_IGNORE_CASE
+  }
+
+  private static final ReferenceDataIndex<?> EMPTY = new ReferenceDataIndex<>(Collections.emptyList(), new EnumMap<>(Lookup.class));
+
+  private final List<T> entries;
+  private final Map<Lookup, Map<String, Integer>> positions;
+
+  private ReferenceDataIndex(List<T> entries, Map<Lookup, Map<String, Integer>> positions) {
+    this.entries = entries;
+    this.positions = positions;
+  }
+
+  /**
+   * Builds index of the given entries.
+   *
+   * @param entries       - reference data entries
+   * @param idExtractor   - extracts id of an entry
+   * @param codeExtractor - extracts code of an entry, null if entries have no code
+   * @param nameExtractor - extracts name of an entry, null if entries have no name
+   * @return index of the entries
+   */
+  public static <T> ReferenceDataIndex<T> of(List<T> entries, Function<T, String> idExtractor,
+                                             Function<T, String> codeExtractor, Function<T, String> nameExtractor) {
+    if (entries == null || entries.isEmpty()) {
+      return empty();
+    }
+    Map<Lookup, Map<String, Integer>> positions = new EnumMap<>(Lookup.class);
+    index(positions, Lookup.ID, entries, idExtractor, false, false);
+    if (codeExtractor != null) {
+      index(positions, Lookup.CODE, entries, codeExtractor, false, false);
+      index(positions, Lookup.CODE_IGNORE_CASE, entries, codeExtractor, false, true);
+      index(positions, Lookup.TRIMMED_CODE_IGNORE_CASE, entries, codeExtractor, true, true);
+    }
+    if (nameExtractor != null) {
+      index(positions, Lookup.NAME_IGNORE_CASE, entries, nameExtractor, false, true);
+      index(positions, Lookup.TRIMMED_NAME_IGNORE_CASE, entries, nameExtractor, true, true);
+    }
+    return new ReferenceDataIndex<>(Collections.unmodifiableList(new ArrayList<>(entries)), positions);
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T> ReferenceDataIndex<T> empty() {
+    return (ReferenceDataIndex<T>) EMPTY;
+  }
+
+  /**
+   * @return first entry matching the key or null if there is no such entry
+   */
+  public T find(Lookup lookup, String key) {
+    int position = positionOf(lookup, key);
+    return position < 0 ? null : entries.get(position);
+  }
+
+  /**
+   * @return position in the list of the first entry matching the key or -1 if there is no such entry
+   */
+  public int positionOf(Lookup lookup, String key) {
+    Map<String, Integer> lookupPositions = positions.get(lookup);
+    if (key == null || lookupPositions == null) {
+      return -1;
+    }
+    Integer position = lookupPositions.get(isIgnoreCase(lookup) ? foldCase(key) : key);
+    return position == null ? -1 : position;
+  }
+
+  public T get(int position) {
+    return entries.get(position);
+  }
+
+  /**
+   * Folds case of the value so that two values are equal after folding
+   * if and only if they are equal according to {@link String#equalsIgnoreCase(String)}.
+   *
+   * @param value - value to fold
+   * @return value with folded case
+   */
+  public static String foldCase(String value) {
+    StringBuilder folded = new StringBuilder(value.length());
+    value.codePoints().forEach(codePoint -> folded.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint))));
+    return folded.toString();
+  }
+
+  private static boolean isIgnoreCase(Lookup lookup) {
+    return lookup != Lookup.ID && lookup != Lookup.CODE;
+  }
+
+  private static <T> void index(Map<Lookup, Map<String, Integer>> positions, Lookup lookup, List<T> entries,
+                                Function<T, String> extractor, boolean trim, boolean ignoreCase) {
+    Map<String, Integer> lookupPositions = new HashMap<>();
+    for (int i = 0; i < entries.size(); i++) {
+      T entry = entries.get(i);
+      String key = entry == null ? null : extractor.apply(entry);
+      if (key != null) {
+        if (trim) {
+          key = key.trim();
+        }
+        lookupPositions.putIfAbsent(ignoreCase ? foldCase(key) : key, i);
+      }
+    }
+    positions.put(lookup, lookupPositions);
+  }
+}
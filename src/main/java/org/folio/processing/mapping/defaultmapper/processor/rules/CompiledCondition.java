@@ -0,0 +1,165 @@
+package org.folio.processing.mapping.defaultmapper.processor.rules;
+
+import io.vertx.core.json.JsonObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.processing.mapping.defaultmapper.processor.functions.NormalizationFunction;
+import org.folio.processing.mapping.defaultmapper.processor.functions.NormalizationFunctionRunner;
+import org.folio.processing.mapping.defaultmapper.processor.functions.RuleParameter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compiled condition of a mapping rule. Function names declared by the condition "type"
+ * are resolved to {@link NormalizationFunction} constants once, when the rules are compiled.
+ */
+public final class CompiledCondition {
+
+  private static final Logger LOGGER = LogManager.getLogger(CompiledCondition.class);
+  private static final String TYPE = "type";
+  private static final String VALUE = "value";
+  private static final String PARAMETER = "parameter";
+  private static final String LDR = "LDR";
+  private static final String CUSTOM = "custom";
+
+  private final List<FunctionCall> functions;
+  private final String value;
+  private final RuleParameter parameter;
+  private final boolean leaderRequired;
+  private final boolean custom;
+  private final boolean customRule;
+
+  private CompiledCondition(JsonObject source, boolean customRule) {
+    this.functions = compileFunctions(source.getString(TYPE));
+    this.value = source.getString(VALUE);
+    this.parameter = RuleParameter.of(source.getJsonObject(PARAMETER));
+    validateIntegerParameters();
+    this.leaderRequired = source.getValue(LDR) != null;
+    this.custom = functions.stream().anyMatch(FunctionCall::isCustom);
+    this.customRule = customRule || custom;
+  }
+
+  /**
+   * Compiles conditions of a rule.
+   *
+   * @param conditions - "conditions" of a rule
+   * @return compiled conditions in declaration order
+   */
+  static List<CompiledCondition> compileAll(List<JsonObject> conditions) {
+    List<CompiledCondition> compiledConditions = new ArrayList<>(conditions.size());
+    boolean customRule = false;
+    for (JsonObject condition : conditions) {
+      CompiledCondition compiledCondition = new CompiledCondition(condition, customRule);
+      customRule = compiledCondition.isCustomRule();
+      compiledConditions.add(compiledCondition);
+    }
+    return Collections.unmodifiableList(compiledConditions);
+  }
+
+  /**
+   * @return functions of the condition in declaration order
+   */
+  public List<FunctionCall> getFunctions() {
+    return functions;
+  }
+
+  /**
+   * @return value the function result is compared to or the JS function for custom conditions
+   */
+  public String getValue() {
+    return value;
+  }
+
+  /**
+   * @return compiled "parameter" of the condition or null if the condition has no parameter
+   */
+  public RuleParameter getParameter() {
+    return parameter;
+  }
+
+  /**
+   * @return true if the functions of the condition are applied to the leader instead of the field data
+   */
+  public boolean isLeaderRequired() {
+    return leaderRequired;
+  }
+
+  public boolean isCustom() {
+    return custom;
+  }
+
+  /**
+   * @return true if this condition or any preceding condition of the rule declares a custom function
+   */
+  public boolean isCustomRule() {
+    return customRule;
+  }
+
+  /**
+   * Reports parameters the functions read as integers, but that are not numbers, once per condition.
+   * Functions reject such parameters when they are applied.
+   */
+  private void validateIntegerParameters() {
+    if (parameter == null) {
+      return;
+    }
+    for (FunctionCall functionCall : functions) {
+      if (functionCall.getFunction() != null) {
+        for (String name : functionCall.getFunction().getIntegerParameters()) {
+          if (parameter.isNonNumeric(name)) {
+            LOGGER.warn("validateIntegerParameters:: Parameter '{}' of function {} is not a number: {}",
+              name, functionCall.getName(), parameter.getSource().getValue(name));
+          }
+        }
+      }
+    }
+  }
+
+  private static List<FunctionCall> compileFunctions(String type) {
+    if (type == null) {
+      LOGGER.warn("compileFunctions:: Condition does not declare functions");
+      return Collections.emptyList();
+    }
+    String[] names = type.split(",");
+    List<FunctionCall> functionCalls = new ArrayList<>(names.length);
+    for (String name : names) {
+      functionCalls.add(new FunctionCall(name.trim()));
+    }
+    return Collections.unmodifiableList(functionCalls);
+  }
+
+  /**
+   * Function declared by a condition.
+   */
+  public static final class FunctionCall {
+    private final String name;
+    private final boolean custom;
+    private final NormalizationFunction function;
+
+    FunctionCall(String name) {
+      this.name = name;
+      this.custom = CUSTOM.equals(name);
+      this.function = custom ? null : NormalizationFunctionRunner.findFunction(name);
+      if (!custom && function == null) {
+        LOGGER.warn("FunctionCall:: Unknown normalization function: {}", name);
+      }
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public boolean isCustom() {
+      return custom;
+    }
+
+    /**
+     * @return resolved normalization function or null if the function is custom or unknown
+     */
+    public NormalizationFunction getFunction() {
+      return function;
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package org.folio.processing.mapping.defaultmapper.processor.rules;
+
+import io.vertx.core.json.JsonArray;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiled mapping entries of a single MARC tag.
+ */
+public final class CompiledFieldMapping {
+
+  private final List<CompiledMappingEntry> entries;
+  private final List<CompiledIndicators> indicators;
+
+  private CompiledFieldMapping(List<CompiledMappingEntry> entries, List<CompiledIndicators> indicators) {
+    this.entries = entries;
+    this.indicators = indicators;
+  }
+
+  /**
+   * Compiles the array of mapping entries declared for a MARC tag.
+   *
+   * @param mappingEntry - mapping entries of the tag
+   * @return compiled field mapping
+   */
+  public static CompiledFieldMapping compile(JsonArray mappingEntry) {
+    List<CompiledMappingEntry> entries = new ArrayList<>(mappingEntry.size());
+    List<CompiledIndicators> indicators = new ArrayList<>();
+    for (int i = 0; i < mappingEntry.size(); i++) {
+      CompiledMappingEntry entry = new CompiledMappingEntry(mappingEntry.getJsonObject(i));
+      entries.add(entry);
+      if (entry.getIndicators() != null) {
+        indicators.add(entry.getIndicators());
+      }
+    }
+    return new CompiledFieldMapping(List.copyOf(entries), List.copyOf(indicators));
+  }
+
+  public List<CompiledMappingEntry> getEntries() {
+    return entries;
+  }
+
+  /**
+   * @return true if at least one mapping entry of the tag declares indicators
+   */
+  public boolean hasIndicators() {
+    return !indicators.isEmpty();
+  }
+
+  /**
+   * Checks whether the field indicators are claimed by any of the entries that declare indicators,
+   * in which case entries without indicators are not applied to the field.
+   * A declared pair claims the field when its first indicator is equal to the field one,
+   * or when it is a wildcard and the second indicator corresponds.
+   *
+   * @param ind1 - first indicator of the data field
+   * @param ind2 - second indicator of the data field
+   * @return true if the indicators are claimed by some entry
+   */
+  public boolean isClaimedByIndicators(char ind1, char ind2) {
+    for (CompiledIndicators pair : indicators) {
+      if (CompiledIndicators.isEqual(pair.getInd1(), ind1)
+        || CompiledIndicators.isWildcard(pair.getInd1()) && CompiledIndicators.corresponds(pair.getInd2(), ind2)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,212 @@
+package org.folio.processing.mapping.defaultmapper.processor.rules;
+
+import com.google.common.base.Splitter;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.apache.commons.lang.BooleanUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.processing.mapping.defaultmapper.processor.LoaderHelper;
+import org.folio.processing.mapping.defaultmapper.processor.functions.NormalizationFunctionRunner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled rule mapping a MARC field (or a set of its subfields) to a target of the entity.
+ */
+public final class CompiledFieldRule {
+
+  private static final Logger LOGGER = LogManager.getLogger(CompiledFieldRule.class);
+  private static final String TARGET = "target";
+  private static final String SUBFIELD = "subfield";
+  private static final String RULES = "rules";
+  private static final String ALTERNATIVE_MAPPING = "alternativeMapping";
+
+  private final JsonObject source;
+  private final String target;
+  private final String[] targetPath;
+  private final Set<String> subfields;
+  private final List<String> requiredSubfields;
+  private final List<String> exclusiveSubfields;
+  private final long subfieldMask;
+  private final long requiredSubfieldMask;
+  private final long exclusiveSubfieldMask;
+  private final JsonArray rules;
+  private final List<CompiledRule> compiledRules;
+  private final JsonArray delimiters;
+  private final JsonObject subFieldSplit;
+  private final Splitter subFieldSplitter;
+  private final boolean applyRulesOnConcatenatedData;
+  private final boolean ignoreSubsequentSubfields;
+  private final boolean createSingleObject;
+  private final CompiledFieldRule alternativeMapping;
+  private final Map<Class<?>, Boolean> mappingValidity = new ConcurrentHashMap<>();
+
+  CompiledFieldRule(JsonObject source) {
+    this.source = source;
+    this.target = source.getString(TARGET);
+    this.targetPath = target != null ? target.split("\\.") : null;
+    this.subfields = toSubfieldSet(source.getJsonArray(SUBFIELD));
+    this.requiredSubfields = toStringList(source.getJsonArray("requiredSubfield"));
+    this.exclusiveSubfields = toStringList(source.getJsonArray("exclusiveSubfield"));
+    this.subfieldMask = subfields != null ? SubfieldMask.of(subfields) : SubfieldMask.UNSUPPORTED;
+    this.requiredSubfieldMask = requiredSubfields != null ? SubfieldMask.of(requiredSubfields) : SubfieldMask.UNSUPPORTED;
+    this.exclusiveSubfieldMask = exclusiveSubfields != null ? SubfieldMask.of(exclusiveSubfields) : SubfieldMask.UNSUPPORTED;
+    this.rules = source.getJsonArray(RULES);
+    this.compiledRules = CompiledRule.compileAll(rules);
+    this.delimiters = source.getJsonArray("subFieldDelimiter");
+    this.subFieldSplit = source.getJsonObject("subFieldSplit");
+    this.subFieldSplitter = subFieldSplit != null ? toSplitter(subFieldSplit) : null;
+    this.applyRulesOnConcatenatedData = BooleanUtils.isTrue(source.getBoolean("applyRulesOnConcatenatedData"));
+    this.ignoreSubsequentSubfields = BooleanUtils.isTrue(source.getBoolean("ignoreSubsequentSubfields"));
+    this.createSingleObject = BooleanUtils.isTrue(source.getBoolean("createSingleObject"));
+    JsonObject alternative = source.getJsonObject(ALTERNATIVE_MAPPING);
+    this.alternativeMapping = alternative != null ? new CompiledFieldRule(alternative) : null;
+  }
+
+  public JsonObject getSource() {
+    return source;
+  }
+
+  public String getTarget() {
+    return target;
+  }
+
+  /**
+   * @return target split into path segments, the returned array must not be modified
+   */
+  public String[] getTargetPath() {
+    return targetPath;
+  }
+
+  /**
+   * @return codes of the subfields handled by the rule or null if the rule does not declare subfields
+   */
+  public Set<String> getSubfields() {
+    return subfields;
+  }
+
+  public List<String> getRequiredSubfields() {
+    return requiredSubfields;
+  }
+
+  public List<String> getExclusiveSubfields() {
+    return exclusiveSubfields;
+  }
+
+  /**
+   * @return {@link SubfieldMask} of the subfields handled by the rule, unsupported if the rule does not declare subfields
+   */
+  public long getSubfieldMask() {
+    return subfieldMask;
+  }
+
+  /**
+   * @return {@link SubfieldMask} of the required subfields, unsupported if the rule does not declare them
+   */
+  public long getRequiredSubfieldMask() {
+    return requiredSubfieldMask;
+  }
+
+  /**
+   * @return {@link SubfieldMask} of the exclusive subfields, unsupported if the rule does not declare them
+   */
+  public long getExclusiveSubfieldMask() {
+    return exclusiveSubfieldMask;
+  }
+
+  public JsonArray getRules() {
+    return rules;
+  }
+
+  /**
+   * @return compiled rules applied to the data before it is mapped or null if the rule does not declare them
+   */
+  public List<CompiledRule> getCompiledRules() {
+    return compiledRules;
+  }
+
+  public JsonArray getDelimiters() {
+    return delimiters;
+  }
+
+  public JsonObject getSubFieldSplit() {
+    return subFieldSplit;
+  }
+
+  /**
+   * @return splitter of the "split_every" subFieldSplit function or null if the rule declares another function
+   */
+  public Splitter getSubFieldSplitter() {
+    return subFieldSplitter;
+  }
+
+  public boolean isApplyRulesOnConcatenatedData() {
+    return applyRulesOnConcatenatedData;
+  }
+
+  public boolean isIgnoreSubsequentSubfields() {
+    return ignoreSubsequentSubfields;
+  }
+
+  public boolean isCreateSingleObject() {
+    return createSingleObject;
+  }
+
+  public CompiledFieldRule getAlternativeMapping() {
+    return alternativeMapping;
+  }
+
+  /**
+   * Checks whether the target of the rule can be populated on the given entity.
+   * The result depends on the entity class only, so it is resolved once per class.
+   *
+   * @param entity - entity being populated
+   * @return true if the target path is valid for the entity
+   */
+  public boolean isMappingValid(Object entity) {
+    return mappingValidity.computeIfAbsent(entity.getClass(), entityClass -> checkMappingValid(entity));
+  }
+
+  private boolean checkMappingValid(Object entity) {
+    try {
+      return LoaderHelper.isMappingValid(entity, targetPath);
+    } catch (InstantiationException | IllegalAccessException e) {
+      LOGGER.warn("checkMappingValid:: Failed to validate mapping for target: {}", target, e);
+      return false;
+    }
+  }
+
+  private static Splitter toSplitter(JsonObject subFieldSplit) {
+    try {
+      return NormalizationFunctionRunner.createSplitter(subFieldSplit.getString("type"), subFieldSplit.getString("value"));
+    } catch (NumberFormatException e) {
+      LOGGER.warn("toSplitter:: Invalid subFieldSplit value: {}", subFieldSplit.getString("value"));
+      return null;
+    }
+  }
+
+  private static Set<String> toSubfieldSet(JsonArray subfieldsJson) {
+    if (subfieldsJson == null) {
+      return null;
+    }
+    Set<String> subfieldSet = new HashSet<>();
+    for (Object subfield : subfieldsJson) {
+      if (subfield instanceof String code) {
+        subfieldSet.add(code);
+      }
+    }
+    return Collections.unmodifiableSet(subfieldSet);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<String> toStringList(JsonArray array) {
+    return array == null ? null : Collections.unmodifiableList(new ArrayList<>((List<String>) array.getList()));
+  }
+}
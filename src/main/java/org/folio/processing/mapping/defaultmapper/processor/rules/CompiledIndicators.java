@@ -0,0 +1,52 @@
+package org.folio.processing.mapping.defaultmapper.processor.rules;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Pre-parsed "indicators" section of a mapping entry.
+ */
+public final class CompiledIndicators {
+
+  private static final String IND_1 = "ind1";
+  private static final String IND_2 = "ind2";
+  private static final String WILDCARD_INDICATOR = "*";
+
+  private final String ind1;
+  private final String ind2;
+
+  CompiledIndicators(JsonObject indicators) {
+    this.ind1 = indicators.getString(IND_1);
+    this.ind2 = indicators.getString(IND_2);
+  }
+
+  public String getInd1() {
+    return ind1;
+  }
+
+  public String getInd2() {
+    return ind2;
+  }
+
+  /**
+   * Checks whether both data field indicators correspond to this pair, wildcard matches any indicator.
+   *
+   * @param dataFieldInd1 - first indicator of the data field
+   * @param dataFieldInd2 - second indicator of the data field
+   * @return true if both indicators correspond
+   */
+  public boolean matches(char dataFieldInd1, char dataFieldInd2) {
+    return corresponds(ind1, dataFieldInd1) && corresponds(ind2, dataFieldInd2);
+  }
+
+  static boolean corresponds(String ruleIndicator, char dataFieldIndicator) {
+    return isEqual(ruleIndicator, dataFieldIndicator) || isWildcard(ruleIndicator);
+  }
+
+  static boolean isEqual(String ruleIndicator, char dataFieldIndicator) {
+    return ruleIndicator != null && ruleIndicator.length() == 1 && ruleIndicator.charAt(0) == dataFieldIndicator;
+  }
+
+  static boolean isWildcard(String ruleIndicator) {
+    return WILDCARD_INDICATOR.equals(ruleIndicator);
+  }
+}
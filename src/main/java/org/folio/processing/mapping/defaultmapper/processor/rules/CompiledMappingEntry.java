@@ -0,0 +1,90 @@
+package org.folio.processing.mapping.defaultmapper.processor.rules;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.apache.commons.lang.BooleanUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiled mapping entry of a MARC tag. An entry either maps the field itself or
+ * declares an "entity" - a group of field rules populating the same target object.
+ */
+public final class CompiledMappingEntry {
+
+  private static final String INDICATORS = "indicators";
+  private static final String ENTITY = "entity";
+
+  private final JsonObject source;
+  private final CompiledIndicators indicators;
+  private final boolean ignoreSubsequentFields;
+  private final boolean entityRequested;
+  private final boolean entityPerRepeatedSubfield;
+  private final boolean keepTrailingBackslash;
+  private final CompiledFieldRule rule;
+  private final List<CompiledFieldRule> fieldRules;
+
+  CompiledMappingEntry(JsonObject source) {
+    this.source = source;
+    JsonObject indicatorsJson = source.getJsonObject(INDICATORS);
+    this.indicators = indicatorsJson != null ? new CompiledIndicators(indicatorsJson) : null;
+    this.ignoreSubsequentFields = BooleanUtils.isTrue(source.getBoolean("ignoreSubsequentFields"));
+    this.entityPerRepeatedSubfield = BooleanUtils.isTrue(source.getBoolean("entityPerRepeatedSubfield"));
+    this.keepTrailingBackslash = BooleanUtils.isTrue(source.getBoolean("keepTrailingBackslash"));
+    this.rule = new CompiledFieldRule(source);
+
+    JsonArray entity = source.getJsonArray(ENTITY);
+    this.entityRequested = entity != null;
+    if (entity == null) {
+      this.fieldRules = List.of(rule);
+    } else {
+      List<CompiledFieldRule> entityRules = new ArrayList<>(entity.size());
+      for (int i = 0; i < entity.size(); i++) {
+        entityRules.add(new CompiledFieldRule(entity.getJsonObject(i)));
+      }
+      this.fieldRules = List.copyOf(entityRules);
+    }
+  }
+
+  public JsonObject getSource() {
+    return source;
+  }
+
+  /**
+   * @return indicators declared by the entry or null if the entry is applicable to any indicators
+   */
+  public CompiledIndicators getIndicators() {
+    return indicators;
+  }
+
+  public boolean isIgnoreSubsequentFields() {
+    return ignoreSubsequentFields;
+  }
+
+  public boolean isEntityRequested() {
+    return entityRequested;
+  }
+
+  public boolean isEntityPerRepeatedSubfield() {
+    return entityPerRepeatedSubfield;
+  }
+
+  public boolean isKeepTrailingBackslash() {
+    return keepTrailingBackslash;
+  }
+
+  /**
+   * @return the entry itself compiled as a field rule, used for the leader and control fields
+   */
+  public CompiledFieldRule getRule() {
+    return rule;
+  }
+
+  /**
+   * @return rules of the declared entity, or the entry itself if no entity is declared
+   */
+  public List<CompiledFieldRule> getFieldRules() {
+    return fieldRules;
+  }
+}
@@ -0,0 +1,175 @@
+package org.folio.processing.mapping.defaultmapper.processor.rules;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Immutable, tag-indexed execution plan built from default mapping rules.
+ * <p>
+ * Compiled plans are shared by all {@link org.folio.processing.mapping.defaultmapper.processor.Processor} instances.
+ * They are cached by the identity of the rules object first and by the rules content second, so callers
+ * that re-read the same rules for every record still compile them only once.
+ * <p>
+ * Mapping rules are treated as immutable once they have been passed to {@link #of(JsonObject)}: the plan of
+ * a rules object is looked up by its identity only, so changes made to the object afterwards are not seen.
+ * Changed rules have to be passed as a new object (e.g. a copy), or the object has to be
+ * {@linkplain #invalidate(JsonObject) invalidated} after it has been modified.
+ * Rules are compiled from a copy of the passed object, so a plan never changes after it has been built.
+ */
+public final class CompiledMappingRules {
+
+  private static final int MAX_CACHED_RULES_BY_CONTENT = 16;
+  private static final Cache<JsonObject, CompiledMappingRules> RULES_BY_INSTANCE = CacheBuilder.newBuilder()
+    .weakKeys()
+    .build();
+  private static final Cache<Long, ContentEntry> RULES_BY_CONTENT = CacheBuilder.newBuilder()
+    .maximumSize(MAX_CACHED_RULES_BY_CONTENT)
+    .build();
+
+  private final Map<String, CompiledFieldMapping> fieldMappings;
+  private final Map<String, List<FieldReplacementRule>> fieldReplacementRules;
+  private final Map<DerivedMappingKey, CompiledFieldMapping> derivedFieldMappings = new ConcurrentHashMap<>();
+
+  private CompiledMappingRules(JsonObject mappingRules) {
+    Map<String, CompiledFieldMapping> mappings = new HashMap<>();
+    Map<String, List<FieldReplacementRule>> replacementRules = new HashMap<>();
+    for (String tag : mappingRules.fieldNames()) {
+      if (mappingRules.getValue(tag) instanceof JsonArray mappingEntry) {
+        mappings.put(tag, CompiledFieldMapping.compile(mappingEntry));
+        List<FieldReplacementRule> tagReplacementRules = FieldReplacementRule.compileAll(mappingEntry);
+        if (!tagReplacementRules.isEmpty()) {
+          replacementRules.put(tag, tagReplacementRules);
+        }
+      }
+    }
+    this.fieldMappings = Map.copyOf(mappings);
+    this.fieldReplacementRules = Map.copyOf(replacementRules);
+  }
+
+  /**
+   * Returns compiled plan for the specified mapping rules, compiling them on the first request.
+   * The rules must not be modified after the call, unless they are {@linkplain #invalidate(JsonObject) invalidated}.
+   *
+   * @param mappingRules - default mapping rules
+   * @return compiled mapping rules
+   */
+  public static CompiledMappingRules of(JsonObject mappingRules) {
+    checkNotNull(mappingRules);
+    CompiledMappingRules compiledRules = RULES_BY_INSTANCE.getIfPresent(mappingRules);
+    if (compiledRules == null) {
+      compiledRules = ofContent(mappingRules);
+      RULES_BY_INSTANCE.put(mappingRules, compiledRules);
+    }
+    return compiledRules;
+  }
+
+  /**
+   * Drops the plan cached for the rules object, so the next {@link #of(JsonObject)} call for it
+   * reads its current content. Has to be called after the rules object has been modified.
+   *
+   * @param mappingRules - modified mapping rules
+   */
+  public static void invalidate(JsonObject mappingRules) {
+    RULES_BY_INSTANCE.invalidate(checkNotNull(mappingRules));
+  }
+
+  /**
+   * Looks up the plan by the content hash of the rules, which is computed without holding any lock,
+   * and confirms the hit by comparing the rules with the copy the plan was compiled from.
+   */
+  private static CompiledMappingRules ofContent(JsonObject mappingRules) {
+    long contentHash = contentHashOf(mappingRules);
+    ContentEntry contentEntry = RULES_BY_CONTENT.getIfPresent(contentHash);
+    if (contentEntry != null && contentEntry.mappingRules().equals(mappingRules)) {
+      return contentEntry.compiledRules();
+    }
+    JsonObject rulesCopy = mappingRules.copy();
+    CompiledMappingRules compiledRules = new CompiledMappingRules(rulesCopy);
+    RULES_BY_CONTENT.put(contentHash, new ContentEntry(rulesCopy, compiledRules));
+    return compiledRules;
+  }
+
+  /**
+   * Computes 64-bit hash of the whole content of the rules.
+   */
+  private static long contentHashOf(Object value) {
+    if (value instanceof JsonObject jsonObject) {
+      value = jsonObject.getMap();
+    } else if (value instanceof JsonArray jsonArray) {
+      value = jsonArray.getList();
+    }
+    if (value instanceof Map<?, ?> map) {
+      long hash = 1;
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        hash += (entry.getKey().hashCode() * 31L + contentHashOf(entry.getValue())) * 0x9E3779B97F4A7C15L;
+      }
+      return hash;
+    } else if (value instanceof List<?> list) {
+      long hash = 2;
+      for (Object element : list) {
+        hash = hash * 0x9E3779B97F4A7C15L + contentHashOf(element);
+      }
+      return hash;
+    }
+    return value == null ? 0 : value.hashCode();
+  }
+
+  /**
+   * Returns compiled mapping for the specified MARC tag.
+   *
+   * @param tag - MARC field tag or "LDR" for the leader
+   * @return compiled field mapping or null if there are no rules for the tag
+   */
+  public CompiledFieldMapping getFieldMapping(String tag) {
+    return fieldMappings.get(tag);
+  }
+
+  /**
+   * Returns field replacement rules declared for the specified MARC tag.
+   *
+   * @param tag - MARC field tag
+   * @return replacement rules or empty list if the tag has none
+   */
+  public List<FieldReplacementRule> getFieldReplacementRules(String tag) {
+    return fieldReplacementRules.getOrDefault(tag, Collections.emptyList());
+  }
+
+  /**
+   * Returns compiled mapping derived from the rules of the specified MARC tag, e.g. the mapping extended
+   * depending on a control subfield of the field, deriving it on the first request.
+   * Derived mappings are kept as long as the compiled rules, so the derivation has to depend
+   * only on the rules, the tag and the variant.
+   *
+   * @param tag        - MARC field tag
+   * @param variant    - variant of the derived mapping for the tag
+   * @param derivation - derives the mapping for the key, should not return null
+   * @return derived field mapping
+   */
+  public CompiledFieldMapping getDerivedFieldMapping(String tag, int variant,
+                                                     Function<DerivedMappingKey, CompiledFieldMapping> derivation) {
+    return derivedFieldMappings.computeIfAbsent(new DerivedMappingKey(tag, variant), derivation);
+  }
+
+  /**
+   * Key of a derived field mapping.
+   *
+   * @param tag     - MARC field tag
+   * @param variant - variant of the derived mapping for the tag
+   */
+  public record DerivedMappingKey(String tag, int variant) {
+  }
+
+  private record ContentEntry(JsonObject mappingRules, CompiledMappingRules compiledRules) {
+  }
+}
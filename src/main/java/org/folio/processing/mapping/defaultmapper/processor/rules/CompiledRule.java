@@ -0,0 +1,70 @@
+package org.folio.processing.mapping.defaultmapper.processor.rules;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compiled rule applied to the data of a field before it is mapped, e.g. a chain of normalization functions
+ * or a constant value set when all conditions of the rule are met.
+ */
+public final class CompiledRule {
+
+  private static final String CONDITIONS = "conditions";
+  private static final String VALUE = "value";
+
+  private final String value;
+  private final List<CompiledCondition> conditions;
+  private final boolean custom;
+
+  private CompiledRule(JsonObject source) {
+    this.value = source.getString(VALUE);
+    JsonArray conditionsJson = source.getJsonArray(CONDITIONS);
+    List<JsonObject> conditionList = new ArrayList<>();
+    if (conditionsJson != null) {
+      for (int i = 0; i < conditionsJson.size(); i++) {
+        conditionList.add(conditionsJson.getJsonObject(i));
+      }
+    }
+    this.conditions = CompiledCondition.compileAll(conditionList);
+    this.custom = !conditions.isEmpty() && conditions.get(conditions.size() - 1).isCustomRule();
+  }
+
+  /**
+   * Compiles "rules" of a field rule.
+   *
+   * @param rules - rules, may be null
+   * @return compiled rules or null if rules are not specified
+   */
+  static List<CompiledRule> compileAll(JsonArray rules) {
+    if (rules == null) {
+      return null;
+    }
+    List<CompiledRule> compiledRules = new ArrayList<>(rules.size());
+    for (int i = 0; i < rules.size(); i++) {
+      compiledRules.add(new CompiledRule(rules.getJsonObject(i)));
+    }
+    return Collections.unmodifiableList(compiledRules);
+  }
+
+  /**
+   * @return constant value of the rule or null if the rule does not declare it
+   */
+  public String getValue() {
+    return value;
+  }
+
+  public List<CompiledCondition> getConditions() {
+    return conditions;
+  }
+
+  /**
+   * @return true if any condition of the rule declares a custom function
+   */
+  public boolean isCustom() {
+    return custom;
+  }
+}
@@ -0,0 +1,88 @@
+package org.folio.processing.mapping.defaultmapper.processor.rules;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.marc4j.marc.DataField;
+import org.marc4j.marc.Subfield;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.folio.processing.mapping.defaultmapper.processor.util.ExtraFieldUtil.FIELD_REPLACEMENT_BY_3_DIGITS_PROPERTY;
+import static org.folio.processing.mapping.defaultmapper.processor.util.ExtraFieldUtil.FIELD_REPLACEMENT_RULE_PROPERTY;
+import static org.folio.processing.mapping.defaultmapper.processor.util.ExtraFieldUtil.SOURCE_DIGITS_PROPERTY;
+import static org.folio.processing.mapping.defaultmapper.processor.util.ExtraFieldUtil.SUBFIELD_PROPERTY;
+import static org.folio.processing.mapping.defaultmapper.processor.util.ExtraFieldUtil.TARGET_FIELD_PROPERTY;
+
+/**
+ * Compiled "fieldReplacementBy3Digits" rule of a mapping entry. The field is re-tagged to the target field
+ * declared for the first 3 characters of the rule subfield, e.g. 880 field with $6 "245-01" is mapped as 245 field.
+ */
+public final class FieldReplacementRule {
+
+  private static final int DIGITS_LENGTH = 3;
+
+  private final List<Character> subfieldCodes;
+  private final Map<String, String> targetFields;
+
+  private FieldReplacementRule(JsonObject source) {
+    List<Character> codes = new ArrayList<>();
+    JsonArray subfields = source.getJsonArray(SUBFIELD_PROPERTY);
+    if (subfields != null) {
+      for (Object subfield : subfields) {
+        String code = String.valueOf(subfield);
+        if (!code.isEmpty()) {
+          codes.add(code.charAt(0));
+        }
+      }
+    }
+    this.subfieldCodes = List.copyOf(codes);
+
+    Map<String, String> replacements = new HashMap<>();
+    JsonArray replacementRules = source.getJsonArray(FIELD_REPLACEMENT_RULE_PROPERTY);
+    if (replacementRules != null) {
+      for (int i = 0; i < replacementRules.size(); i++) {
+        JsonObject replacementRule = replacementRules.getJsonObject(i);
+        replacements.put(replacementRule.getString(SOURCE_DIGITS_PROPERTY), replacementRule.getString(TARGET_FIELD_PROPERTY));
+      }
+    }
+    this.targetFields = Collections.unmodifiableMap(replacements);
+  }
+
+  /**
+   * Compiles replacement rules declared by the entries of a tag mapping.
+   *
+   * @param mappingEntry - rules of a MARC tag
+   * @return replacement rules in declaration order, empty if the entries declare no replacement
+   */
+  public static List<FieldReplacementRule> compileAll(JsonArray mappingEntry) {
+    List<FieldReplacementRule> replacementRules = new ArrayList<>();
+    for (int i = 0; i < mappingEntry.size(); i++) {
+      JsonObject subFieldMapping = mappingEntry.getJsonObject(i);
+      if (Boolean.TRUE.equals(subFieldMapping.getBoolean(FIELD_REPLACEMENT_BY_3_DIGITS_PROPERTY))) {
+        replacementRules.add(new FieldReplacementRule(subFieldMapping));
+      }
+    }
+    return replacementRules.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(replacementRules);
+  }
+
+  /**
+   * Re-tags the field to the target field of the first 3 characters of the rule subfield,
+   * or to the characters themselves if there is no target field for them.
+   *
+   * @param field - field from record
+   */
+  public void apply(DataField field) {
+    for (Character code : subfieldCodes) {
+      Subfield subfield = field.getSubfield(code);
+      String data = subfield != null ? subfield.getData() : null;
+      if (data != null && data.length() >= DIGITS_LENGTH) {
+        String digits = data.substring(0, DIGITS_LENGTH);
+        field.setTag(targetFields.getOrDefault(digits, digits));
+      }
+    }
+  }
+}
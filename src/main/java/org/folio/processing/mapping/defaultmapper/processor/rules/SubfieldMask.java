@@ -0,0 +1,76 @@
+package org.folio.processing.mapping.defaultmapper.processor.rules;
+
+import org.marc4j.marc.Subfield;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Set of subfield codes packed into a 64-bit mask, one bit per code of the {@code [a-z0-9]} range.
+ * Masks make checks like "field contains all required subfields" a couple of bitwise operations.
+ */
+public final class SubfieldMask {
+
+  /**
+   * Mask of codes that cannot be represented by a mask, e.g. codes outside the {@code [a-z0-9]} range.
+   * Callers have to fall back to comparing the codes themselves.
+   */
+  public static final long UNSUPPORTED = -1L;
+
+  private static final int DIGITS_OFFSET = 'z' - 'a' + 1;
+
+  private SubfieldMask() {
+  }
+
+  /**
+   * @param codes - subfield codes as declared in mapping rules
+   * @return mask of the codes or {@link #UNSUPPORTED} if any of the codes cannot be represented by a mask
+   */
+  public static long of(Collection<String> codes) {
+    long mask = 0;
+    for (String code : codes) {
+      int bit = code != null && code.length() == 1 ? bitOf(code.charAt(0)) : -1;
+      if (bit < 0) {
+        return UNSUPPORTED;
+      }
+      mask |= 1L << bit;
+    }
+    return mask;
+  }
+
+  /**
+   * @param subfields - subfields of a data field
+   * @return mask of the subfield codes, codes outside the {@code [a-z0-9]} range are skipped
+   */
+  public static long ofSubfields(List<Subfield> subfields) {
+    long mask = 0;
+    for (Subfield subfield : subfields) {
+      int bit = bitOf(subfield.getCode());
+      if (bit >= 0) {
+        mask |= 1L << bit;
+      }
+    }
+    return mask;
+  }
+
+  public static boolean isSupported(long mask) {
+    return mask != UNSUPPORTED;
+  }
+
+  /**
+   * @return true if the supported mask contains the code
+   */
+  public static boolean contains(long mask, char code) {
+    int bit = bitOf(code);
+    return bit >= 0 && (mask & (1L << bit)) != 0;
+  }
+
+  private static int bitOf(char code) {
+    if (code >= 'a' && code <= 'z') {
+      return code - 'a';
+    } else if (code >= '0' && code <= '9') {
+      return DIGITS_OFFSET + code - '0';
+    }
+    return -1;
+  }
+}
@@ -1,12 +1,10 @@
 package org.folio.processing.mapping.defaultmapper.processor.util;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
+import java.util.List;
 
-import org.apache.commons.lang.BooleanUtils;
+import org.folio.processing.mapping.defaultmapper.processor.rules.CompiledMappingRules;
+import org.folio.processing.mapping.defaultmapper.processor.rules.FieldReplacementRule;
 import org.marc4j.marc.DataField;
-import org.marc4j.marc.Subfield;
 
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -31,6 +29,8 @@ public final class ExtraFieldUtil {
    * digits (from specific subfield from rules) and target field for this value which should be processed. After that, change source field on 'targetField'.
    * If not matches, change just on first 3 digits value.
    * More info: https://issues.folio.org/browse/MODDICORE-114
+   * Only the rules of the field tag are read, callers applying the rules to many fields should use
+   * {@link #findAndReplaceFieldsIfNeed(DataField, CompiledMappingRules)}.
    *
    * @param field        - field from record, which will be changed if need
    * @param mappingRules - rules for default mapping.
@@ -40,40 +40,23 @@ public final class ExtraFieldUtil {
     if (mappingEntry == null) {
       return;
     }
-
-    for (int i = 0; i < mappingEntry.size(); i++) {
-      JsonObject subFieldMapping = mappingEntry.getJsonObject(i);
-      boolean fieldReplacementBy3Digits = BooleanUtils.isTrue(subFieldMapping.getBoolean(
-        FIELD_REPLACEMENT_BY_3_DIGITS_PROPERTY));
-
-      if (fieldReplacementBy3Digits) {
-        processReplacementBasedOn3Digits(field, subFieldMapping);
-      }
-    }
+    applyReplacementRules(field, FieldReplacementRule.compileAll(mappingEntry));
   }
 
-  private static void processReplacementBasedOn3Digits(DataField field, JsonObject subFieldMapping) {
-    JsonArray fieldReplacementRules = subFieldMapping.getJsonArray(FIELD_REPLACEMENT_RULE_PROPERTY);
-    Map<String, String> replacementRules = retrieveReplacementRules(fieldReplacementRules);
-    subFieldMapping.getJsonArray(SUBFIELD_PROPERTY)
-      .stream()
-      .map(sf -> field.getSubfield(String.valueOf(sf).charAt(0)))
-      .filter(Objects::nonNull)
-      .map(sf -> sf.getData())
-      .filter(Objects::nonNull)
-      .filter(data -> data.length() >= 3)
-      .map(data -> data.substring(0, 3))
-      .forEach(data -> {
-        field.setTag(replacementRules.getOrDefault(data, data));
-      });
+  /**
+   * Applies replacement rules precomputed for the field tag, see {@link #findAndReplaceFieldsIfNeed(DataField, JsonObject)}.
+   * Fields of tags without replacement rules are left as is without looking at the rules.
+   *
+   * @param field         - field from record, which will be changed if need
+   * @param compiledRules - compiled rules for default mapping
+   */
+  public static void findAndReplaceFieldsIfNeed(DataField field, CompiledMappingRules compiledRules) {
+    applyReplacementRules(field, compiledRules.getFieldReplacementRules(field.getTag()));
   }
 
-  private static Map<String, String> retrieveReplacementRules(JsonArray fieldReplacementRules) {
-    Map<String, String> replacementRules = new HashMap<>();
-    for (int i = 0; i < fieldReplacementRules.size(); i++) {
-      replacementRules.put(fieldReplacementRules.getJsonObject(i).getString(SOURCE_DIGITS_PROPERTY),
-        fieldReplacementRules.getJsonObject(i).getString(TARGET_FIELD_PROPERTY));
+  private static void applyReplacementRules(DataField field, List<FieldReplacementRule> replacementRules) {
+    for (int i = 0; i < replacementRules.size(); i++) {
+      replacementRules.get(i).apply(field);
     }
-    return replacementRules;
   }
 }
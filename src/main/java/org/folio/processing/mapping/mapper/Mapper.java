@@ -6,6 +6,7 @@ import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import org.folio.DataImportEventPayload;
 import org.folio.MappingProfile;
+import org.folio.processing.mapping.mapper.reader.FieldOccurrencesReader;
 import org.folio.processing.mapping.mapper.reader.Reader;
 import org.folio.processing.mapping.mapper.writer.Writer;
 import org.folio.processing.value.Value;
@@ -67,6 +68,12 @@ public interface Mapper {
 
   default JsonArray mapMultipleEntitiesByMarcField(DataImportEventPayload eventPayload, MappingContext mappingContext, Reader reader, Writer writer,
                                                    List<MappingRule> mappingRules, String entityType, String marcField) throws IOException {
+    if (reader instanceof FieldOccurrencesReader fieldOccurrencesReader
+      && fieldOccurrencesReader.getRecordType() != null
+      && MARC_BIBLIOGRAPHIC.equals(fieldOccurrencesReader.getRecordType().value())) {
+      return mapMultipleEntitiesByFieldOccurrences(eventPayload, mappingContext, fieldOccurrencesReader, writer,
+        mappingRules, entityType, marcField);
+    }
     HashMap<String, String> payloadContext = eventPayload.getContext();
     JsonArray entities = new JsonArray();
 
@@ -106,6 +113,43 @@ public interface Mapper {
     return entities;
   }
 
+  /**
+   * Maps one entity per occurrence of the MARC field, or a single entity if the record does not contain the field.
+   * The record is read once, every entity is mapped from a view of the record exposing the fields
+   * other than the given field and a single occurrence of the given field.
+   *
+   * @param eventPayload   - current eventPayload
+   * @param mappingContext - current Context
+   * @param reader         - Reader able to narrow the record to a single occurrence of the field
+   * @param writer         - Writer to write values to given event payload
+   * @param mappingRules   - mapping rules of the entity
+   * @param entityType     - type of the mapped entities
+   * @param marcField      - MARC field the entities are mapped by
+   * @return mapped entities
+   * @throws IOException if a low-level I/O problem occurs (JSON serialization)
+   */
+  default JsonArray mapMultipleEntitiesByFieldOccurrences(DataImportEventPayload eventPayload, MappingContext mappingContext,
+                                                          FieldOccurrencesReader reader, Writer writer, List<MappingRule> mappingRules,
+                                                          String entityType, String marcField) throws IOException {
+    HashMap<String, String> payloadContext = eventPayload.getContext();
+    JsonArray entities = new JsonArray();
+
+    reader.initialize(eventPayload, mappingContext);
+    int occurrences = reader.countFieldOccurrences(marcField);
+    try {
+      for (int occurrence = 0; occurrence < Math.max(occurrences, 1); occurrence++) {
+        reader.selectFieldOccurrence(marcField, occurrence < occurrences ? occurrence : -1);
+        payloadContext.put(entityType, EMPTY_JSON);
+        writer.initialize(eventPayload);
+        entities.add(mapSingleEntity(eventPayload, reader, writer, mappingRules, entityType));
+      }
+    } finally {
+      reader.clearFieldSelection();
+    }
+    writer.initialize(eventPayload);
+    return entities;
+  }
+
   default JsonObject mapSingleEntity(DataImportEventPayload eventPayload, Reader reader, Writer writer,
                                      List<MappingRule> mappingRules, String entityType) throws JsonProcessingException {
     for (MappingRule rule : mappingRules) {
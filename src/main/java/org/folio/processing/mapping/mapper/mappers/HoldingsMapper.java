@@ -18,9 +18,10 @@ import org.folio.rest.jaxrs.model.MappingRule;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.folio.processing.events.utils.EventUtils.extractRecordId;
 import static org.folio.processing.mapping.mapper.reader.record.marc.MarcRecordReader.EXPRESSIONS_DIVIDER;
@@ -63,7 +64,7 @@ public class HoldingsMapper implements Mapper {
 
     if (isJsonArray(eventPayload.getContext().get(HOLDINGS)) && !new JsonArray(eventPayload.getContext().get(HOLDINGS)).isEmpty()) {
       mapMultipleHoldingsIfHoldingsEntityExistsInContext(eventPayload, mappingContext, mappingRules, holdings);
-      eventPayload.getContext().put(HOLDINGS, Json.encode(holdings));
+      putAggregatedHoldings(eventPayload, holdings, false);
     } else {
       if (permanentLocationMappingRule.isEmpty() || !isStaredWithMarcField(permanentLocationMappingRule.get().getValue())) {
         adjustContextToContainEntitiesAsJsonObject(eventPayload, EntityType.HOLDINGS);
@@ -76,9 +77,8 @@ public class HoldingsMapper implements Mapper {
         eventPayload.getContext().put(MULTIPLE_HOLDINGS_FIELD, marcField);
         holdings = mapMultipleEntitiesByMarcField(eventPayload, mappingContext, reader, writer, mappingRules, HOLDINGS, marcField);
       }
-      eventPayload.getContext().put(HOLDINGS, Json.encode(distinctHoldingsByPermanentLocation(holdings)));
+      putAggregatedHoldings(eventPayload, holdings, true);
     }
-    eventPayload.getContext().put(HOLDINGS_IDENTIFIERS, Json.encode(getPermanentLocationsFromHoldings(holdings)));
     return eventPayload;
   }
 
@@ -93,26 +93,28 @@ public class HoldingsMapper implements Mapper {
     }
   }
 
-  private List<JsonObject> distinctHoldingsByPermanentLocation(JsonArray holdings) {
-    List<JsonObject> distinctHoldings = new ArrayList<>();
+  /**
+   * Puts mapped holdings and permanent locations of all the mapped holdings to the event payload.
+   * Both are collected in a single pass over the holdings.
+   *
+   * @param eventPayload                - current eventPayload
+   * @param holdings                    - mapped holdings
+   * @param distinctByPermanentLocation - keep only the first holdings per permanent location if true
+   */
+  private void putAggregatedHoldings(DataImportEventPayload eventPayload, JsonArray holdings, boolean distinctByPermanentLocation) {
+    List<JsonObject> aggregatedHoldings = new ArrayList<>(holdings.size());
+    List<String> permanentLocationsIds = new ArrayList<>(holdings.size());
+    Set<String> keptPermanentLocationsIds = new HashSet<>();
     for (int i = 0; i < holdings.size(); i++) {
-      JsonObject holdingsAsJson = getHoldingsAsJson(holdings.getJsonObject(i));
-      String holdingPermanentLocation = holdingsAsJson.getString(PERMANENT_LOCATION_ID);
-
-      if (distinctHoldings.stream().noneMatch(hol -> Objects.equals(getHoldingsAsJson(hol).getString(PERMANENT_LOCATION_ID), holdingPermanentLocation))) {
-        distinctHoldings.add(holdings.getJsonObject(i));
+      JsonObject currentHoldings = holdings.getJsonObject(i);
+      String permanentLocationId = getHoldingsAsJson(currentHoldings).getString(PERMANENT_LOCATION_ID);
+      permanentLocationsIds.add(permanentLocationId);
+      if (!distinctByPermanentLocation || keptPermanentLocationsIds.add(permanentLocationId)) {
+        aggregatedHoldings.add(currentHoldings);
       }
     }
-    return distinctHoldings;
-  }
-
-  private List<String> getPermanentLocationsFromHoldings(JsonArray holdings) {
-    List<String> permanentLocationsIds = new ArrayList<>();
-    holdings.forEach(e -> {
-      JsonObject holdingsAsJson = getHoldingsAsJson((JsonObject) e);
-      permanentLocationsIds.add(holdingsAsJson.getString(PERMANENT_LOCATION_ID));
-    });
-    return permanentLocationsIds;
+    eventPayload.getContext().put(HOLDINGS, Json.encode(aggregatedHoldings));
+    eventPayload.getContext().put(HOLDINGS_IDENTIFIERS, Json.encode(permanentLocationsIds));
   }
 
   private JsonObject getHoldingsAsJson(JsonObject holdings) {
@@ -0,0 +1,40 @@
+package org.folio.processing.mapping.mapper.reader;
+
+import org.folio.rest.jaxrs.model.EntityType;
+
+/**
+ * Reader able to narrow the initialized record to a single occurrence of a field without re-reading the record.
+ * Used to map one entity per occurrence of a field, e.g. one holdings per 852 field of MARC bibliographic record.
+ * Narrowing does not change the underlying record, it only hides the other occurrences of the field from rules.
+ *
+ * @see Reader
+ */
+public interface FieldOccurrencesReader extends Reader {
+
+  /**
+   * @return entity type of the record the reader is initialized with
+   */
+  EntityType getRecordType();
+
+  /**
+   * Counts occurrences of the field in the initialized record.
+   *
+   * @param field - field tag
+   * @return number of occurrences of the field
+   */
+  int countFieldOccurrences(String field);
+
+  /**
+   * Restricts the reader to the fields of the initialized record other than the given field
+   * and to a single occurrence of the given field. Replaces the previous selection.
+   *
+   * @param field      - field tag
+   * @param occurrence - index of the occurrence to keep or -1 to hide all occurrences of the field
+   */
+  void selectFieldOccurrence(String field, int occurrence);
+
+  /**
+   * Makes all the fields of the initialized record visible to rules again.
+   */
+  void clearFieldSelection();
+}
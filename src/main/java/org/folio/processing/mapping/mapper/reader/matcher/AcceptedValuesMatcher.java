@@ -3,7 +3,10 @@ package org.folio.processing.mapping.mapper.reader.matcher;
 /**
  * A comparison function, which determines whether the specified value
  * matches to accepted value retrieved from a {@link org.folio.MappingProfile}
+ *
+ * @deprecated accepted values are matched by {@link org.folio.processing.mapping.mapper.util.AcceptedValues#findId(String)}
  */
+@Deprecated
 @FunctionalInterface
 public interface AcceptedValuesMatcher {
 
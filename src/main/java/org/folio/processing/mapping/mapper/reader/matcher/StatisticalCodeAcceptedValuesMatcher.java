@@ -2,6 +2,10 @@ package org.folio.processing.mapping.mapper.reader.matcher;
 
 import org.apache.commons.lang3.StringUtils;
 
+/**
+ * @deprecated statistical codes are matched by {@link org.folio.processing.mapping.mapper.util.AcceptedValues#findId(String)}
+ */
+@Deprecated
 public class StatisticalCodeAcceptedValuesMatcher implements AcceptedValuesMatcher {
 
   private static final String CODE_SEPARATOR = ": ";
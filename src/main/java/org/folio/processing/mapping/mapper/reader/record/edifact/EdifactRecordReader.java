@@ -37,6 +37,7 @@ import org.folio.EdifactParsedContent;
 import org.folio.ParsedRecord;
 import org.folio.Record;
 import org.folio.Segment;
+import org.folio.processing.events.utils.PayloadContextCache;
 import org.folio.processing.exceptions.ReaderException;
 import org.folio.processing.mapping.mapper.MappingContext;
 import org.folio.processing.mapping.mapper.reader.Reader;
@@ -55,6 +56,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Iterables;
 
+import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.Json;
 import io.vertx.core.json.jackson.DatabindCodec;
 
@@ -86,6 +88,8 @@ public class EdifactRecordReader implements Reader {
   private static final String INCOMING_DATE_FORMAT = "yyyyMMdd";
   private static final DateTimeFormatter ZONE_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
   private static final String INVOICE_LINES_ROOT_PATH = "invoice.invoiceLines[]";
+  private static final PayloadContextCache.Representation<EdifactParsedContent> EDIFACT_PARSED_CONTENT =
+    PayloadContextCache.Representation.derivedFrom(PayloadContextCache.SOURCE_RECORD, EdifactRecordReader::readEdifactParsedContent);
 
   private EntityType entityType;
   private EdifactParsedContent edifactParsedContent;
@@ -137,10 +141,10 @@ public class EdifactRecordReader implements Reader {
   @Override
   public void initialize(DataImportEventPayload eventPayload, MappingContext mappingContext) throws IOException {
     if (eventPayload.getContext() != null && isNotBlank(eventPayload.getContext().get(entityType.value()))) {
-      String recordAsString = eventPayload.getContext().get(entityType.value());
-      Record sourceRecord = Json.decodeValue(recordAsString, Record.class);
-      if (ObjectUtils.allNotNull(sourceRecord.getParsedRecord(), sourceRecord.getParsedRecord().getContent())) {
-        edifactParsedContent = DatabindCodec.mapper().readValue(sourceRecord.getParsedRecord().getContent().toString(), EdifactParsedContent.class);
+      readSourceRecord(eventPayload);
+      EdifactParsedContent parsedContent = PayloadContextCache.get(eventPayload, entityType.value(), EDIFACT_PARSED_CONTENT);
+      if (parsedContent != null) {
+        edifactParsedContent = parsedContent;
         invoiceSegments = getInvoiceSegments(edifactParsedContent);
         invoiceLinesSegmentGroups = getInvoiceLinesSegments(edifactParsedContent);
         payloadContext = eventPayload.getContext();
@@ -150,6 +154,22 @@ public class EdifactRecordReader implements Reader {
     throw new IllegalArgumentException("Can not initialize EdifactRecordReader, event payload has no EDIFACT parsed content");
   }
 
+  private void readSourceRecord(DataImportEventPayload eventPayload) {
+    try {
+      PayloadContextCache.get(eventPayload, entityType.value(), PayloadContextCache.SOURCE_RECORD);
+    } catch (IOException e) {
+      //reported the same way as Json.decodeValue reports records that can not be decoded
+      throw new DecodeException("Failed to decode:" + e.getMessage(), e);
+    }
+  }
+
+  private static EdifactParsedContent readEdifactParsedContent(Record sourceRecord) throws IOException {
+    if (ObjectUtils.allNotNull(sourceRecord.getParsedRecord(), sourceRecord.getParsedRecord().getContent())) {
+      return DatabindCodec.mapper().readValue(sourceRecord.getParsedRecord().getContent().toString(), EdifactParsedContent.class);
+    }
+    return null;
+  }
+
   private List<Segment> getInvoiceSegments(EdifactParsedContent edifactParsedContent) {
     List<Segment> segments = edifactParsedContent.getSegments();
     int invoiceHeaderSegmentsEnd = 0;
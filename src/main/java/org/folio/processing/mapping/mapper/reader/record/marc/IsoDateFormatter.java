@@ -0,0 +1,130 @@
+package org.folio.processing.mapping.mapper.reader.record.marc;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * Formats values written in one of {@link MarcRecordReader#DATE_FORMATS} to ISO date.
+ * Values are screened by their characters first, so titles, call numbers and other values that
+ * cannot be dates are returned without being parsed.
+ * Dates are accepted the way a non-lenient {@link java.text.SimpleDateFormat} accepts them:
+ * fields may have any number of digits and may be preceded by spaces, the formats are tried in declaration order.
+ */
+public final class IsoDateFormatter {
+
+  private static final DateTimeFormatter ISO_DATE_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd");
+  private static final int MIN_DATE_LENGTH = 5;
+  private static final int MAX_DATE_LENGTH = 32;
+  private static final int MAX_FIELD_DIGITS = 9;
+  private static final int MAX_YEAR = 9999;
+  private static final Layout[] LAYOUTS = Layout.values();
+
+  private IsoDateFormatter() {
+  }
+
+  /**
+   * @param value - value to format
+   * @return value formatted as ISO date or the value itself if it is not a date
+   */
+  public static String formatToIsoDate(String value) {
+    if (!isCandidate(value)) {
+      return value;
+    }
+    int[] fields = new int[3];
+    for (Layout layout : LAYOUTS) {
+      LocalDate date = parse(value, layout, fields);
+      if (date != null) {
+        return ISO_DATE_FORMATTER.format(date);
+      }
+    }
+    return value;
+  }
+
+  /**
+   * @param date - date to format
+   * @return date formatted as ISO date
+   */
+  public static String formatIsoDate(TemporalAccessor date) {
+    return ISO_DATE_FORMATTER.format(date);
+  }
+
+  private static boolean isCandidate(String value) {
+    if (value == null || value.length() < MIN_DATE_LENGTH || value.length() > MAX_DATE_LENGTH) {
+      return false;
+    }
+    int separators = 0;
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '-' || c == '/' || c == '.') {
+        separators++;
+      } else if (!isDigit(c) && c != ' ' && c != '\t') {
+        return false;
+      }
+    }
+    return separators == 2;
+  }
+
+  private static LocalDate parse(String value, Layout layout, int[] fields) {
+    int position = 0;
+    for (int field = 0; field < fields.length; field++) {
+      if (field > 0) {
+        if (position >= value.length() || value.charAt(position) != layout.separator) {
+          return null;
+        }
+        position++;
+      }
+      while (position < value.length() && (value.charAt(position) == ' ' || value.charAt(position) == '\t')) {
+        position++;
+      }
+      int start = position;
+      int number = 0;
+      while (position < value.length() && isDigit(value.charAt(position))) {
+        if (position - start == MAX_FIELD_DIGITS) {
+          return null;
+        }
+        number = number * 10 + (value.charAt(position) - '0');
+        position++;
+      }
+      if (position == start) {
+        return null;
+      }
+      fields[field] = number;
+    }
+    if (position != value.length()) {
+      return null;
+    }
+    return switch (layout) {
+      case YEAR_MONTH_DAY -> toDate(fields[0], fields[1], fields[2]);
+      case MONTH_DAY_YEAR -> toDate(fields[2], fields[0], fields[1]);
+      case DAY_MONTH_YEAR, DAY_MONTH_YEAR_DOTTED -> toDate(fields[2], fields[1], fields[0]);
+    };
+  }
+
+  private static LocalDate toDate(int year, int month, int day) {
+    if (year < 1 || year > MAX_YEAR || month < 1 || month > 12
+      || day < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+      return null;
+    }
+    return LocalDate.of(year, month, day);
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  /**
+   * Order of the date fields and their separator, in the order of {@link MarcRecordReader#DATE_FORMATS}.
+   */
+  private enum Layout {
+    YEAR_MONTH_DAY('-'), MONTH_DAY_YEAR('/'), DAY_MONTH_YEAR('-'), DAY_MONTH_YEAR_DOTTED('.');
+
+    private final char separator;
+
+    Layout(char separator) {
+      this.separator = separator;
+    }
+  }
+}
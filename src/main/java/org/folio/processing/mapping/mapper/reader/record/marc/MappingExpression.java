@@ -0,0 +1,159 @@
+package org.folio.processing.mapping.mapper.reader.record.marc;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+import static org.folio.processing.mapping.mapper.reader.record.marc.MarcRecordReader.EXPRESSIONS_DIVIDER;
+import static org.folio.processing.mapping.mapper.reader.record.marc.MarcRecordReader.MARC_PATTERN;
+import static org.folio.processing.mapping.mapper.reader.record.marc.MarcRecordReader.STRING_VALUE_PATTERN;
+import static org.folio.processing.mapping.mapper.reader.record.marc.MarcRecordReader.WHITESPACE_DIVIDER;
+
+/**
+ * Mapping profile rule value compiled into alternatives ("; else " separated expressions),
+ * each of them a list of typed parts. The same profile is applied to every record of a job,
+ * so values are compiled once and cached by their text, which also keeps every version of a profile apart.
+ */
+final class MappingExpression {
+
+  private static final int MAX_CACHED_EXPRESSIONS = 4096;
+  private static final Cache<String, MappingExpression> EXPRESSIONS = CacheBuilder.newBuilder()
+    .maximumSize(MAX_CACHED_EXPRESSIONS)
+    .build();
+  private static final String TODAY_PLACEHOLDER = "###TODAY###";
+  private static final String REMOVE_PLACEHOLDER = "###REMOVE###";
+  private static final String EXPRESSIONS_QUOTE = "\"";
+  private static final String MARC_SPLITTER = "/";
+  private static final String MARC_BYTES_SPLITTER = "-";
+  private static final String LEADER_TAG = "LDR";
+
+  private final List<List<Part>> alternatives;
+
+  private MappingExpression(String value) {
+    String[] expressions = value.split(EXPRESSIONS_DIVIDER);
+    List<List<Part>> compiledAlternatives = new ArrayList<>(expressions.length);
+    for (String expression : expressions) {
+      List<Part> parts = new ArrayList<>();
+      for (String expressionPart : expression.split(WHITESPACE_DIVIDER)) {
+        Part part = compilePart(expressionPart);
+        if (part != null) {
+          parts.add(part);
+        }
+      }
+      compiledAlternatives.add(Collections.unmodifiableList(parts));
+    }
+    this.alternatives = Collections.unmodifiableList(compiledAlternatives);
+  }
+
+  /**
+   * @param value - value of the mapping rule
+   * @return compiled value
+   */
+  static MappingExpression of(String value) {
+    checkNotNull(value);
+    return EXPRESSIONS.asMap().computeIfAbsent(value, MappingExpression::new);
+  }
+
+  /**
+   * @return alternatives in declaration order, parts that are not recognized are left out
+   */
+  List<List<Part>> getAlternatives() {
+    return alternatives;
+  }
+
+  private static Part compilePart(String expressionPart) {
+    if (MARC_PATTERN.matcher(expressionPart).matches()) {
+      return new MarcFieldReference(expressionPart, expressionPart.substring(0, 3),
+        expressionPart.substring(expressionPart.length() - 1));
+    } else if (MarcRecordReader.MARC_CONTROLLED.matcher(expressionPart).matches()) {
+      return Slice.of(expressionPart, StringUtils.substringBefore(expressionPart, MARC_SPLITTER));
+    } else if (MarcRecordReader.MARC_LEADER.matcher(expressionPart).matches()) {
+      return Slice.of(expressionPart, LEADER_TAG);
+    } else if (STRING_VALUE_PATTERN.matcher(expressionPart).matches()) {
+      return new StringLiteral(expressionPart, expressionPart.replace(EXPRESSIONS_QUOTE, EMPTY));
+    } else if (TODAY_PLACEHOLDER.equalsIgnoreCase(expressionPart)) {
+      return new Today(expressionPart);
+    } else if (REMOVE_PLACEHOLDER.equalsIgnoreCase(expressionPart)) {
+      return new Remove(expressionPart);
+    }
+    return null;
+  }
+
+  /**
+   * Part of an expression.
+   */
+  interface Part {
+
+    /**
+     * @return text of the part as declared in the mapping rule
+     */
+    String expression();
+  }
+
+  /**
+   * Reference to subfields of a variable field, e.g. {@code 245$a}.
+   *
+   * @param tag           - field tag
+   * @param subfieldCodes - codes of the subfields to read
+   */
+  record MarcFieldReference(String expression, String tag, String subfieldCodes) implements Part {
+  }
+
+  /**
+   * Positions of a control field or of the leader, e.g. {@code 008/7-10} or {@code LDR/06}.
+   *
+   * @param tag            - control field tag or "LDR" for the leader
+   * @param from           - index of the first position
+   * @param to             - index after the last position
+   * @param validPositions - false if the declared positions are not numbers, reading such slice fails
+   */
+  record Slice(String expression, String tag, int from, int to, boolean validPositions) implements Part {
+
+    private static Slice of(String expression, String tag) {
+      try {
+        String[] fromTo = StringUtils.substringAfter(expression, MARC_SPLITTER).split(MARC_BYTES_SPLITTER);
+        int from = Integer.parseInt(fromTo[0]) - 1;
+        int to = fromTo.length > 1 ? Integer.parseInt(fromTo[1]) : from + 1;
+        return new Slice(expression, tag, from, to, true);
+      } catch (NumberFormatException e) {
+        return new Slice(expression, tag, 0, 0, false);
+      }
+    }
+
+    boolean isLeader() {
+      return LEADER_TAG.equals(tag);
+    }
+
+    void checkPositions() {
+      if (!validPositions) {
+        throw new IllegalArgumentException("Invalid positions of MARC expression: " + expression);
+      }
+    }
+  }
+
+  /**
+   * Quoted string, e.g. {@code "Library of Congress"}.
+   *
+   * @param value - string without quotes
+   */
+  record StringLiteral(String expression, String value) implements Part {
+  }
+
+  /**
+   * {@code ###TODAY###} placeholder.
+   */
+  record Today(String expression) implements Part {
+  }
+
+  /**
+   * {@code ###REMOVE###} placeholder.
+   */
+  record Remove(String expression) implements Part {
+  }
+}
@@ -1,16 +1,15 @@
 package org.folio.processing.mapping.mapper.reader.record.marc;
 
-import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.DecodeException;
 
-import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.DataImportEventPayload;
+import org.folio.processing.events.utils.PayloadContextCache;
 import org.folio.processing.mapping.defaultmapper.processor.parameters.MappingParameters;
 import org.folio.processing.mapping.mapper.MappingContext;
-import org.folio.processing.mapping.mapper.reader.Reader;
-import org.folio.processing.mapping.mapper.reader.matcher.AcceptedValuesMatcher;
-import org.folio.processing.mapping.mapper.reader.matcher.StatisticalCodeAcceptedValuesMatcher;
+import org.folio.processing.mapping.mapper.reader.FieldOccurrencesReader;
+import org.folio.processing.mapping.mapper.util.AcceptedValues;
 import org.folio.processing.value.BooleanValue;
 import org.folio.processing.value.ListValue;
 import org.folio.processing.value.MissingValue;
@@ -30,23 +29,16 @@ import org.marc4j.marc.impl.ControlFieldImpl;
 import org.marc4j.marc.impl.DataFieldImpl;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.ParsePosition;
-import java.text.SimpleDateFormat;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -55,46 +47,45 @@ import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
-import static org.folio.processing.mapping.mapper.util.AcceptedValuesUtil.getAcceptedValues;
+import static org.folio.processing.mapping.mapper.util.AcceptedValuesUtil.getAcceptedValuesIndex;
 import static org.folio.processing.value.Value.ValueType.LIST;
 import static org.folio.processing.value.Value.ValueType.MISSING;
 
 @SuppressWarnings("all")
-public class MarcRecordReader implements Reader {
+public class MarcRecordReader implements FieldOccurrencesReader {
   private static final Logger LOGGER = LogManager.getLogger(MarcRecordReader.class);
 
   public final static Pattern MARC_PATTERN = Pattern.compile("(^[0-9]{3}(\\$[a-z0-9]$){0,2})");
-  private final static Pattern MARC_LEADER = Pattern.compile("^[LDR/]{4}[0-9-]{1,5}");
-  private final static Pattern MARC_CONTROLLED = Pattern.compile("^[/0-9]{4}[0-9-]{1,5}");
+  final static Pattern MARC_LEADER = Pattern.compile("^[LDR/]{4}[0-9-]{1,5}");
+  final static Pattern MARC_CONTROLLED = Pattern.compile("^[/0-9]{4}[0-9-]{1,5}");
   public final static Pattern STRING_VALUE_PATTERN = Pattern.compile("(\"[^\"]+\")");
   public final static String WHITESPACE_DIVIDER = "\\s(?=(?:[^'\"`]*(['\"`])[^'\"`]*\\1)*[^'\"`]*$)";
   public final static String EXPRESSIONS_DIVIDER = "; else ";
   private final static String EXPRESSIONS_ARRAY = "[]";
   private final static String EXPRESSIONS_QUOTE = "\"";
-  private final static String MARC_SPLITTER = "/";
-  private final static String MARC_BYTES_SPLITTER = "-";
-  private final static String FIRST_BRACKET = "(";
-  private final static String SECOND_BRACKET = ")";
-  private static final String TODAY_PLACEHOLDER = "###TODAY###";
-  private static final String REMOVE_PLACEHOLDER = "###REMOVE###";
   private static final String ISO_DATE_FORMAT = "yyyy-MM-dd";
   public static final String[] DATE_FORMATS = new String[]{ISO_DATE_FORMAT, "MM/dd/yyyy", "dd-MM-yyyy", "dd.MM.yyyy"};
   private static final String MAPPING_PARAMS = "MAPPING_PARAMS";
   private static final String DATE_TIME_FORMAT = "dd-MM-yyyy HH:mm:ss";
   private static final String UTC_TIMEZONE = "UTC";
   private static final List<String> NEEDS_VALIDATION_BY_ACCEPTED_VALUES = List.of("vendor", "materialSupplier", "accessProvider","relationshipId", "donorOrganizationIds");
-  private static final String STATISTICAL_CODE_ID_FIELD = "statisticalCodeId";
   private static final String BLANK = "";
-  private static final String VENDOR_ID = "vendor";
+  private static final PayloadContextCache.Representation<Record> MARC_RECORD =
+    PayloadContextCache.Representation.derivedFrom(PayloadContextCache.SOURCE_RECORD, MarcRecordReader::readMarcRecord);
 
   private EntityType entityType;
-  private Map<String, AcceptedValuesMatcher> acceptedValuesMatchers;
   private Record marcRecord;
+  //indexes of the record built once, so rules do not scan the record fields
+  private Map<String, List<VariableField>> fieldsByTag = Collections.emptyMap();
+  private Map<String, ControlField> controlFieldsByTag = Collections.emptyMap();
+  private String marshalledLeader;
+  //field whose occurrences are narrowed to selectedFields, see selectFieldOccurrence
+  private String selectedTag;
+  private List<VariableField> selectedFields = Collections.emptyList();
   private MappingParameters mappingParameters;
 
   MarcRecordReader(EntityType entityType) {
     this.entityType = entityType;
-    this.acceptedValuesMatchers = Map.of(STATISTICAL_CODE_ID_FIELD, new StatisticalCodeAcceptedValuesMatcher());
   }
 
   @Override
@@ -102,17 +93,11 @@ public class MarcRecordReader implements Reader {
     try {
       if (eventPayload.getContext() != null && eventPayload.getContext().containsKey(entityType.value())) {
         this.mappingParameters = mappingContext.getMappingParameters();
-        String stringRecord = eventPayload.getContext().get(entityType.value());
-        org.folio.Record sourceRecord = new JsonObject(stringRecord).mapTo(org.folio.Record.class);
-        if (sourceRecord != null
-          && sourceRecord.getParsedRecord() != null
-          && sourceRecord.getParsedRecord().getContent() != null) {
-          MarcReader reader = buildMarcReader(sourceRecord);
-          if (reader.hasNext()) {
-            this.marcRecord = reader.next();
-          } else {
-            throw new IllegalArgumentException("Can not initialize MarcRecordReader, no suitable marc record found in event payload");
-          }
+        //the record is parsed once per payload entry and shared with other readers of the payload
+        Record parsedRecord = readMarcRecord(eventPayload);
+        if (parsedRecord != null) {
+          this.marcRecord = parsedRecord;
+          indexMarcRecord();
         }
       } else {
         throw new IllegalArgumentException("Can not initialize MarcRecordReader, no suitable entity type found in event payload");
@@ -146,24 +131,23 @@ public class MarcRecordReader implements Reader {
       return MissingValue.getInstance();
     }
 
-    String[] expressions = ruleExpression.getValue().split(EXPRESSIONS_DIVIDER);
+    //expressions are compiled once per rule value, see MappingExpression
+    MappingExpression compiledExpression = MappingExpression.of(ruleExpression.getValue());
     boolean arrayValue = ruleExpression.getPath().endsWith(EXPRESSIONS_ARRAY);
     List<String> resultList = new ArrayList<>();
-    for (String expression : expressions) {
+    for (List<MappingExpression.Part> expressionParts : compiledExpression.getAlternatives()) {
       StringBuilder sb = new StringBuilder();
       StringBuilder sbForMultiple = new StringBuilder();
-      String[] expressionParts = expression.split(WHITESPACE_DIVIDER);
-      for (String expressionPart : expressionParts) {
-        if (MARC_PATTERN.matcher(expressionPart).matches()
-          || (MARC_CONTROLLED.matcher(expressionPart).matches())
-          || (MARC_LEADER.matcher(expressionPart).matches())) {
+      for (MappingExpression.Part expressionPart : expressionParts) {
+        if (expressionPart instanceof MappingExpression.MarcFieldReference
+          || expressionPart instanceof MappingExpression.Slice) {
           processMARCExpression(arrayValue, isRepeatableField, resultList, sb, sbForMultiple, expressionPart, ruleExpression);
-        } else if (STRING_VALUE_PATTERN.matcher(expressionPart).matches()) {
-          sbForMultiple = processStringExpression(ruleExpression, arrayValue, resultList, sb, sbForMultiple, expressionPart);
-        } else if (TODAY_PLACEHOLDER.equalsIgnoreCase(expressionPart)) {
+        } else if (expressionPart instanceof MappingExpression.StringLiteral stringLiteral) {
+          sbForMultiple = processStringExpression(ruleExpression, arrayValue, resultList, sb, sbForMultiple, stringLiteral);
+        } else if (expressionPart instanceof MappingExpression.Today) {
           processTodayExpression(sb, sbForMultiple);
-        } else if (REMOVE_PLACEHOLDER.equalsIgnoreCase(expressionPart)) {
-          return StringValue.of(expressionPart, true);
+        } else if (expressionPart instanceof MappingExpression.Remove) {
+          return StringValue.of(expressionPart.expression(), true);
         }
       }
       resultList = resultList.stream().filter(r -> isNotBlank(r)).collect(Collectors.toList());
@@ -193,10 +177,11 @@ public class MarcRecordReader implements Reader {
    * @param resultList            resultList uses for saving result
    * @param sb                    uses for appending single marc to buffer
    * @param multipleStringBuilder uses for appending to results from buffer
-   * @param expressionPart        this String must be marc uses for serching values in marcRecord
+   * @param expressionPart        compiled marc expression uses for serching values in marcRecord
    * @param ruleExpression        uses for mapping values before processing
    */
-  private void processMARCExpression(boolean arrayValue, boolean isRepeatableField, List<String> resultList, StringBuilder sb, StringBuilder multipleStringBuilder, String expressionPart, MappingRule ruleExpression) {
+  private void processMARCExpression(boolean arrayValue, boolean isRepeatableField, List<String> resultList, StringBuilder sb, StringBuilder multipleStringBuilder,
+                                     MappingExpression.Part expressionPart, MappingRule ruleExpression) {
     List<String> marcValues = readValuesFromMarcRecord(expressionPart).stream().filter(m -> isNotBlank(m)).collect(Collectors.toList());
     if (arrayValue || (isRepeatableField && marcValues.size() > 1)) {
       if (!resultList.isEmpty() && marcValues.size() == resultList.size()) {
@@ -220,108 +205,22 @@ public class MarcRecordReader implements Reader {
   }
 
   private String getFromMappingParameters(MappingRule ruleExpression, String value) {
-    AcceptedValuesMatcher acceptedValuesMatcher = Objects.isNull(ruleExpression.getName()) ? null
-      : acceptedValuesMatchers.get(ruleExpression.getName());
+    //accepted values and their reverse index are built once per rule name and mapping parameters
+    AcceptedValues acceptedValues = getAcceptedValuesIndex(ruleExpression.getName(), mappingParameters);
 
-    Map<String, String> acceptedValues = getAcceptedValues(ruleExpression.getName(), mappingParameters);
-
-    if (!acceptedValues.isEmpty()) {
-      for (Map.Entry<String, String> entry : acceptedValues.entrySet()) {
-        if ((acceptedValuesMatcher != null && acceptedValuesMatcher.matches(entry.getValue(), value))
-          || entry.getValue().equalsIgnoreCase(value) || equalsBasedOnBrackets(ruleExpression.getName(), entry.getValue(), value)) {
-          value = entry.getKey();
-        }
-      }
+    String acceptedValueId = acceptedValues.findId(value);
+    if (acceptedValueId != null) {
+      value = acceptedValueId;
     }
     boolean needsValidationByAcceptedValues = NEEDS_VALIDATION_BY_ACCEPTED_VALUES.contains(String.valueOf(ruleExpression.getName()));
 
-    if (needsValidationByAcceptedValues && !acceptedValues.containsKey(value)) {
+    if (needsValidationByAcceptedValues && !acceptedValues.containsId(value)) {
       return BLANK;
     }
 
     return value;
   }
 
-  private boolean equalsBasedOnBrackets(String ruleName, String mappingParameter, String value) {
-    if (mappingParameter.contains(FIRST_BRACKET) && mappingParameter.contains(SECOND_BRACKET)) {
-      if (retrieveStringFromLastBrackets(mappingParameter).equalsIgnoreCase(value)) {
-        return true;
-      } else if (retrieveStringWithBracketsFromLastOne(mappingParameter).equalsIgnoreCase(value)) {
-        return true;
-      } else if (retrieveNameOrValueWithoutBrackets(mappingParameter).equalsIgnoreCase(value)) {
-        return true;
-      } else if (ruleName.equalsIgnoreCase(VENDOR_ID) &&
-        (retrieveCodeWithoutBrackets(mappingParameter).equalsIgnoreCase(retrieveNameOrValueWithoutBrackets(value)) ||
-        retrieveNameOrValueWithoutBrackets(mappingParameter).equalsIgnoreCase(retrieveNameOrValueWithoutBrackets(value)))) {
-        return true;
-      }
-      return false;
-    }
-    return false;
-  }
-
-  private String retrieveStringFromLastBrackets(String mappingParameter) {
-    return mappingParameter.substring(mappingParameter.lastIndexOf(FIRST_BRACKET) + 1, mappingParameter.lastIndexOf(SECOND_BRACKET));
-  }
-
-  private String retrieveStringWithBracketsFromLastOne(String mappingParameter) {
-    if (mappingParameter.indexOf(FIRST_BRACKET) > mappingParameter.indexOf(SECOND_BRACKET))
-      return mappingParameter.substring(mappingParameter.indexOf(FIRST_BRACKET), mappingParameter.lastIndexOf(SECOND_BRACKET) + 1);
-    return mappingParameter.substring(mappingParameter.indexOf(FIRST_BRACKET), mappingParameter.indexOf(SECOND_BRACKET) + 1);
-  }
-
-  private String retrieveNameOrValueWithoutBrackets(String mappingParameter) {
-    mappingParameter = mappingParameter.trim();
-
-    int startIndex = mappingParameter.startsWith(FIRST_BRACKET) ? 1 : 0;
-
-    int endIndex = findFirstParenthesesIndex(mappingParameter, startIndex);
-
-    return mappingParameter.substring(startIndex, endIndex).trim();
-  }
-
-  private String retrieveCodeWithoutBrackets(String mappingParameter) {
-    mappingParameter = mappingParameter.trim();
-
-    // Find the last opening bracket's index to handle nested brackets
-    int lastOpenBracketIndex = mappingParameter.lastIndexOf(FIRST_BRACKET);
-
-    // If there is no opening bracket, return an empty string or null
-    if (lastOpenBracketIndex == -1) {
-      return "";  // or return null;
-    }
-
-    // Find the first closing bracket index after the last opening bracket
-    int firstCloseBracketIndex = mappingParameter.indexOf(SECOND_BRACKET, lastOpenBracketIndex);
-
-    // If there is no closing bracket after the last opening bracket, return an empty string
-    if (firstCloseBracketIndex == -1) {
-      return "";
-    }
-
-    // Extract the substring between the last opening bracket and the first closing bracket after it
-    String codeWithoutBrackets = mappingParameter.substring(lastOpenBracketIndex + 1, firstCloseBracketIndex).trim();
-
-    return codeWithoutBrackets;
-  }
-
-  /**
-   * Finds the index of the first occurrence of either bracket starting from the given index.
-   * Returns the input string's length if no brackets are found.
-   * @param input             mapping parameter
-   * @param startIndex        start index of code without parentheses
-   * @return index of first occured parentheses in mapping parameter
-   */
-  private int findFirstParenthesesIndex(String input, int startIndex) {
-    for (int i = startIndex; i < input.length(); i++) {
-      char c = input.charAt(i);
-      if (c == FIRST_BRACKET.charAt(0) || c == SECOND_BRACKET.charAt(0)) {
-        return i;
-      }
-    }
-    return input.length();
-  }
-
   /**
    * Process string expression method
    *
@@ -329,13 +228,13 @@ public class MarcRecordReader implements Reader {
    * @param resultList            resultList uses for saving result
    * @param sb                    uses for appending value to buffer
    * @param multipleStringBuilder uses for appending to results from buffer
-   * @param expressionPart        this String must be marc uses for serching values in marcRecord
+   * @param expressionPart        compiled quoted string
    * @param ruleExpression        uses for mapping values before processing
    * @return empty StringBuilder if arrayValue or
    */
-  private StringBuilder processStringExpression(MappingRule ruleExpression, boolean arrayValue, List<String> resultList, StringBuilder sb, StringBuilder multipleStringBuilder, String expressionPart) {
-    String value = expressionPart.replace(EXPRESSIONS_QUOTE, EMPTY);
-    value = getFromMappingParameters(ruleExpression, value);
+  private StringBuilder processStringExpression(MappingRule ruleExpression, boolean arrayValue, List<String> resultList, StringBuilder sb, StringBuilder multipleStringBuilder,
+                                                MappingExpression.StringLiteral expressionPart) {
+    String value = getFromMappingParameters(ruleExpression, expressionPart.value());
     if (isNotEmpty(value)) {
       if (arrayValue && resultList.isEmpty()) {
         resultList.add(value);
@@ -357,12 +256,12 @@ public class MarcRecordReader implements Reader {
    */
   private void processTodayExpression(StringBuilder sb, StringBuilder multipleStringBuilder) {
     try {
-      DateTimeFormatter isoFormatter = DateTimeFormatter.ofPattern(ISO_DATE_FORMAT);
       String tenantConfigurationZone = this.mappingParameters.getTenantConfigurationZone();
       String tenantTimezone = (isEmpty(tenantConfigurationZone)) ? UTC_TIMEZONE : tenantConfigurationZone;
       ZonedDateTime zonedDateTime = ZonedDateTime.now(ZoneId.of(tenantTimezone));
-      sb.append(isoFormatter.format(zonedDateTime));
-      multipleStringBuilder.append(isoFormatter.format(zonedDateTime));
+      String today = IsoDateFormatter.formatIsoDate(zonedDateTime);
+      sb.append(today);
+      multipleStringBuilder.append(today);
     } catch (Exception e) {
       LOGGER.warn("processTodayExpression:: Can not process ##TODAY## expression", e);
       throw new IllegalArgumentException("Can not process ##TODAY## expression", e);
@@ -464,13 +363,13 @@ public class MarcRecordReader implements Reader {
     }
   }
 
-  private List<String> readValuesFromMarcRecord(String marcPath) {
+  private List<String> readValuesFromMarcRecord(MappingExpression.Part marcExpression) {
     List<String> results = new ArrayList<>();
-    if (MARC_PATTERN.matcher(marcPath).matches()) {
-      List<VariableField> fields = marcRecord.getVariableFields(marcPath.substring(0, 3));
+    if (marcExpression instanceof MappingExpression.MarcFieldReference fieldReference) {
+      List<VariableField> fields = getFields(fieldReference.tag());
       List<String> result = new LinkedList<>();
       for (VariableField variableField : fields) {
-        result.addAll(extractValueFromMarcRecord(variableField, marcPath));
+        result.addAll(extractValueFromMarcRecord(variableField, fieldReference.subfieldCodes()));
       }
       List<String> distinctResult = result.stream().distinct().collect(Collectors.toList());
       if (distinctResult.size() > 1 && distinctResult.size() != fields.size()) {
@@ -478,36 +377,79 @@ public class MarcRecordReader implements Reader {
       } else {
         results.addAll(distinctResult);
       }
-    } else if ((MARC_CONTROLLED.matcher(marcPath).matches())) {
-      String controllFieldTag = StringUtils.substringBefore(marcPath, MARC_SPLITTER);
-      Optional<ControlField> controlField = marcRecord.getControlFields().stream()
-        .filter(cf -> cf.getTag().equals(controllFieldTag))
-        .findFirst();
-      if (controlField.isPresent()) {
-        String data = controlField.get().getData();
-        results.add(getDataFromToExpression(data, marcPath));
+    } else if (marcExpression instanceof MappingExpression.Slice slice && !slice.isLeader()) {
+      ControlField controlField = getControlField(slice.tag());
+      if (controlField != null) {
+        results.add(getDataFromToExpression(controlField.getData(), slice));
       }
-    } else if ((MARC_LEADER.matcher(marcPath).matches())) {
-      results.add(getDataFromToExpression(marcRecord.getLeader().marshal(), marcPath));
+    } else if (marcExpression instanceof MappingExpression.Slice slice) {
+      results.add(getDataFromToExpression(marshalledLeader, slice));
     }
     return results;
   }
 
-  private String getDataFromToExpression(String data, String marcPath) {
-    String marcPathParts = StringUtils.substringAfter(marcPath, MARC_SPLITTER);
-    String[] fromTo = marcPathParts.split(MARC_BYTES_SPLITTER);
-    int from = Integer.parseInt(fromTo[0]) - 1;
-    int to = Integer.parseInt(fromTo.length > 1 ? fromTo[1] : String.valueOf(from + 1));
-    return data.substring(from, to > data.length() - 1 ? data.length() - 1 : to);
+  private void indexMarcRecord() {
+    Map<String, List<VariableField>> fields = new HashMap<>();
+    Map<String, ControlField> controlFields = new HashMap<>();
+    for (VariableField field : marcRecord.getVariableFields()) {
+      fields.computeIfAbsent(field.getTag(), tag -> new ArrayList<>()).add(field);
+      if (field instanceof ControlField controlField) {
+        controlFields.putIfAbsent(controlField.getTag(), controlField);
+      }
+    }
+    this.fieldsByTag = fields;
+    this.controlFieldsByTag = controlFields;
+    this.marshalledLeader = marcRecord.getLeader() != null ? marcRecord.getLeader().marshal() : null;
+    clearFieldSelection();
+  }
+
+  @Override
+  public EntityType getRecordType() {
+    return entityType;
+  }
+
+  @Override
+  public int countFieldOccurrences(String field) {
+    return fieldsByTag.getOrDefault(field, Collections.emptyList()).size();
+  }
+
+  @Override
+  public void selectFieldOccurrence(String field, int occurrence) {
+    List<VariableField> occurrences = fieldsByTag.getOrDefault(field, Collections.emptyList());
+    this.selectedFields = occurrence < 0 ? Collections.emptyList() : List.of(occurrences.get(occurrence));
+    this.selectedTag = field;
+  }
+
+  @Override
+  public void clearFieldSelection() {
+    this.selectedTag = null;
+    this.selectedFields = Collections.emptyList();
+  }
+
+  private List<VariableField> getFields(String tag) {
+    return tag.equals(selectedTag) ? selectedFields : fieldsByTag.getOrDefault(tag, Collections.emptyList());
+  }
+
+  private ControlField getControlField(String tag) {
+    if (tag.equals(selectedTag)) {
+      return !selectedFields.isEmpty() && selectedFields.get(0) instanceof ControlField controlField ? controlField : null;
+    }
+    return controlFieldsByTag.get(tag);
   }
 
-  private List<String> extractValueFromMarcRecord(VariableField field, String marcPath) {
+  private String getDataFromToExpression(String data, MappingExpression.Slice slice) {
+    slice.checkPositions();
+    int to = slice.to();
+    return data.substring(slice.from(), to > data.length() - 1 ? data.length() - 1 : to);
+  }
+
+  private List<String> extractValueFromMarcRecord(VariableField field, String subfieldCodes) {
     List<String> value = new ArrayList<>();
     if (field instanceof DataFieldImpl) {
-      ((DataFieldImpl) field).getSubfields(marcPath.substring(marcPath.length() - 1))
+      ((DataFieldImpl) field).getSubfields(subfieldCodes)
         .stream()
         .map(Subfield::getData)
-        .map(this::formatToIsoDate)
+        .map(IsoDateFormatter::formatToIsoDate)
         .forEach(v -> value.add(v));
     } else if (field instanceof ControlFieldImpl) {
       value.add(((ControlFieldImpl) field).getData());
@@ -515,38 +457,27 @@ public class MarcRecordReader implements Reader {
     return value;
   }
 
-  private String formatToIsoDate(String stringToFormat) {
+  private Record readMarcRecord(DataImportEventPayload eventPayload) {
     try {
-      if (isNotEmpty(stringToFormat)) {
-        DateFormat df = new SimpleDateFormat(ISO_DATE_FORMAT);
-        return df.format(parseDate(stringToFormat));
-      }
-      return stringToFormat;
-    } catch (ParseException e) {
-      return stringToFormat;
+      return PayloadContextCache.get(eventPayload, entityType.value(), MARC_RECORD);
+    } catch (IOException e) {
+      //reported the same way as Json.decodeValue reports records that can not be decoded
+      throw new DecodeException("Failed to decode:" + e.getMessage(), e);
     }
   }
 
-  private Date parseDate(String stringToFormat) throws ParseException {
-    SimpleDateFormat parser = null;
-    ParsePosition pos = new ParsePosition(0);
-    for (int i = 0; i < DATE_FORMATS.length; i++) {
-      if (i == 0) {
-        parser = new SimpleDateFormat(DATE_FORMATS[0]);
-        parser.setLenient(false);
-      } else {
-        parser.applyPattern(DATE_FORMATS[i]);
-      }
-      pos.setIndex(0);
-      Date date = parser.parse(stringToFormat, pos);
-      if (date != null && pos.getIndex() == stringToFormat.length()) {
-        return date;
-      }
+  private static Record readMarcRecord(org.folio.Record sourceRecord) {
+    if (sourceRecord.getParsedRecord() == null || sourceRecord.getParsedRecord().getContent() == null) {
+      return null;
+    }
+    MarcReader reader = buildMarcReader(sourceRecord);
+    if (reader.hasNext()) {
+      return reader.next();
     }
-    throw new ParseException("Unable to parse the date: " + stringToFormat, -1);
+    throw new IllegalArgumentException("Can not initialize MarcRecordReader, no suitable marc record found in event payload");
   }
 
-  private MarcReader buildMarcReader(org.folio.Record record) {
+  private static MarcReader buildMarcReader(org.folio.Record record) {
     return new MarcJsonReader(new ByteArrayInputStream(
       record.getParsedRecord()
         .getContent()
@@ -0,0 +1,192 @@
+package org.folio.processing.mapping.mapper.util;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.folio.processing.mapping.defaultmapper.processor.parameters.ReferenceDataIndex.foldCase;
+
+/**
+ * Accepted values of a mapping rule ("id" to "name (code)") together with a reverse index of the ways
+ * a value read from a record may refer to an accepted value: the whole accepted value, its code in brackets,
+ * the code with brackets, the name without the code. Statistical codes are also matched by code and name,
+ * vendors by the code or name without brackets.
+ * <p>
+ * If several accepted values match the value, the one that comes first in the reference data wins,
+ * whichever criterion it is matched by. Accepted values used to be scanned in the order of a {@link HashMap}
+ * of ids, so the winner among several matches was not defined before.
+ */
+public final class AcceptedValues {
+
+  private static final AcceptedValues EMPTY = new AcceptedValues(null, Collections.emptyMap(), -1);
+  private static final String FIRST_BRACKET = "(";
+  private static final String SECOND_BRACKET = ")";
+  private static final String STATISTICAL_CODE_ID = "statisticalCodeId";
+  private static final String CODE_SEPARATOR = ": ";
+  private static final String NAME_SEPARATOR = " - ";
+  private static final String VENDOR = "vendor";
+
+  private final Map<String, String> values;
+  private final long referenceDataVersion;
+  private final List<String> ids;
+  private final Map<String, Integer> positionsIgnoreCase = new HashMap<>();
+  private final Map<String, Integer> positionsByStatisticalCode = new HashMap<>();
+  private final Map<String, Integer> positionsByVendor = new HashMap<>();
+  private final boolean vendor;
+
+  private AcceptedValues(String ruleName, Map<String, String> values, long referenceDataVersion) {
+    this.values = Collections.unmodifiableMap(values);
+    this.referenceDataVersion = referenceDataVersion;
+    this.ids = new ArrayList<>(values.keySet());
+    this.vendor = VENDOR.equalsIgnoreCase(ruleName);
+    boolean statisticalCode = STATISTICAL_CODE_ID.equals(ruleName);
+    int position = 0;
+    for (String acceptedValue : values.values()) {
+      indexAcceptedValue(acceptedValue, position++, statisticalCode);
+    }
+  }
+
+  /**
+   * Builds accepted values of the rule.
+   *
+   * @param ruleName             - name of the mapping rule
+   * @param values               - accepted values by id, in the order of the reference data
+   * @param referenceDataVersion - version of the reference data the accepted values are built from
+   * @return accepted values
+   */
+  static AcceptedValues of(String ruleName, LinkedHashMap<String, String> values, long referenceDataVersion) {
+    return new AcceptedValues(ruleName, values, referenceDataVersion);
+  }
+
+  static AcceptedValues empty() {
+    return EMPTY;
+  }
+
+  /**
+   * @return unmodifiable accepted values by id, in the order of the reference data
+   */
+  public Map<String, String> getValues() {
+    return values;
+  }
+
+  public boolean containsId(String id) {
+    return values.containsKey(id);
+  }
+
+  /**
+   * @param value - value read from a record
+   * @return id of the accepted value matching the value that comes first in the reference data,
+   * or null if there is no such accepted value
+   */
+  public String findId(String value) {
+    if (value == null || ids.isEmpty()) {
+      return null;
+    }
+    int position = min(positionsIgnoreCase.get(foldCase(value)), positionsByStatisticalCode.get(value));
+    if (vendor) {
+      position = min(position, positionsByVendor.get(foldCase(retrieveNameOrValueWithoutBrackets(value))));
+    }
+    return position == Integer.MAX_VALUE ? null : ids.get(position);
+  }
+
+  /**
+   * @return version of the reference data the accepted values are built from,
+   * see {@link org.folio.processing.mapping.defaultmapper.processor.parameters.MappingParameters#referenceDataVersion()}
+   */
+  long getReferenceDataVersion() {
+    return referenceDataVersion;
+  }
+
+  private void indexAcceptedValue(String acceptedValue, int position, boolean statisticalCode) {
+    positionsIgnoreCase.putIfAbsent(foldCase(acceptedValue), position);
+    if (statisticalCode) {
+      String code = StringUtils.substringBetween(acceptedValue, CODE_SEPARATOR, NAME_SEPARATOR);
+      if (code != null) {
+        positionsByStatisticalCode.putIfAbsent(code, position);
+      }
+      positionsByStatisticalCode.putIfAbsent(StringUtils.substringAfter(acceptedValue, NAME_SEPARATOR), position);
+    }
+    if (acceptedValue.contains(FIRST_BRACKET) && acceptedValue.contains(SECOND_BRACKET)) {
+      if (hasOrderedLastBrackets(acceptedValue)) {
+        positionsIgnoreCase.putIfAbsent(foldCase(retrieveStringFromLastBrackets(acceptedValue)), position);
+      }
+      if (hasOrderedBrackets(acceptedValue)) {
+        positionsIgnoreCase.putIfAbsent(foldCase(retrieveStringWithBracketsFromLastOne(acceptedValue)), position);
+      }
+      positionsIgnoreCase.putIfAbsent(foldCase(retrieveNameOrValueWithoutBrackets(acceptedValue)), position);
+      if (vendor) {
+        positionsByVendor.putIfAbsent(foldCase(retrieveCodeWithoutBrackets(acceptedValue)), position);
+        positionsByVendor.putIfAbsent(foldCase(retrieveNameOrValueWithoutBrackets(acceptedValue)), position);
+      }
+    }
+  }
+
+  private static int min(Integer position, Integer otherPosition) {
+    return Math.min(position == null ? Integer.MAX_VALUE : position, otherPosition == null ? Integer.MAX_VALUE : otherPosition);
+  }
+
+  private static boolean hasOrderedLastBrackets(String acceptedValue) {
+    return acceptedValue.lastIndexOf(FIRST_BRACKET) < acceptedValue.lastIndexOf(SECOND_BRACKET);
+  }
+
+  private static boolean hasOrderedBrackets(String acceptedValue) {
+    return acceptedValue.indexOf(FIRST_BRACKET) < acceptedValue.indexOf(SECOND_BRACKET)
+      || acceptedValue.indexOf(FIRST_BRACKET) <= acceptedValue.lastIndexOf(SECOND_BRACKET) + 1;
+  }
+
+  private static String retrieveStringFromLastBrackets(String acceptedValue) {
+    return acceptedValue.substring(acceptedValue.lastIndexOf(FIRST_BRACKET) + 1, acceptedValue.lastIndexOf(SECOND_BRACKET));
+  }
+
+  private static String retrieveStringWithBracketsFromLastOne(String acceptedValue) {
+    if (acceptedValue.indexOf(FIRST_BRACKET) > acceptedValue.indexOf(SECOND_BRACKET))
+      return acceptedValue.substring(acceptedValue.indexOf(FIRST_BRACKET), acceptedValue.lastIndexOf(SECOND_BRACKET) + 1);
+    return acceptedValue.substring(acceptedValue.indexOf(FIRST_BRACKET), acceptedValue.indexOf(SECOND_BRACKET) + 1);
+  }
+
+  private static String retrieveNameOrValueWithoutBrackets(String value) {
+    value = value.trim();
+
+    int startIndex = value.startsWith(FIRST_BRACKET) ? 1 : 0;
+
+    int endIndex = findFirstParenthesesIndex(value, startIndex);
+
+    return value.substring(startIndex, endIndex).trim();
+  }
+
+  private static String retrieveCodeWithoutBrackets(String acceptedValue) {
+    acceptedValue = acceptedValue.trim();
+
+    // Find the last opening bracket's index to handle nested brackets
+    int lastOpenBracketIndex = acceptedValue.lastIndexOf(FIRST_BRACKET);
+    if (lastOpenBracketIndex == -1) {
+      return "";
+    }
+
+    // Find the first closing bracket index after the last opening bracket
+    int firstCloseBracketIndex = acceptedValue.indexOf(SECOND_BRACKET, lastOpenBracketIndex);
+    if (firstCloseBracketIndex == -1) {
+      return "";
+    }
+    return acceptedValue.substring(lastOpenBracketIndex + 1, firstCloseBracketIndex).trim();
+  }
+
+  /**
+   * Finds the index of the first occurrence of either bracket starting from the given index.
+   * Returns the input string's length if no brackets are found.
+   */
+  private static int findFirstParenthesesIndex(String input, int startIndex) {
+    for (int i = startIndex; i < input.length(); i++) {
+      char c = input.charAt(i);
+      if (c == FIRST_BRACKET.charAt(0) || c == SECOND_BRACKET.charAt(0)) {
+        return i;
+      }
+    }
+    return input.length();
+  }
+}
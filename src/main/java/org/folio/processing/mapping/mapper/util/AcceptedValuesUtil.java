@@ -1,15 +1,18 @@
 package org.folio.processing.mapping.mapper.util;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.vertx.core.json.JsonObject;
 import org.folio.Organization;
 import org.folio.rest.jaxrs.model.StatisticalCodeType;
 import org.folio.processing.mapping.defaultmapper.processor.parameters.MappingParameters;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import static java.util.Map.entry;
@@ -18,7 +21,10 @@ import static org.folio.processing.matching.reader.util.MatchIdProcessorUtil.ID_
 import static org.folio.processing.matching.reader.util.MatchIdProcessorUtil.NAME_PROPERTY;
 
 /**
- * Retrieves accepted values from MappingParameters
+ * Retrieves accepted values from MappingParameters.
+ * Accepted values are built once per rule name and MappingParameters instance and are rebuilt
+ * only after the reference data indexes of the MappingParameters have been invalidated,
+ * see {@link MappingParameters#invalidateReferenceDataIndexes()}.
  */
 public class AcceptedValuesUtil {
   private static final String VALUE_PROPERTY = "value";
@@ -93,19 +99,53 @@ public class AcceptedValuesUtil {
     entry(FUND_ID, MappingParameters::getFunds),
     entry(EXPENSE_CLASS_ID, MappingParameters::getExpenseClasses));
 
+  private static final Cache<MappingParameters, Map<String, AcceptedValues>> acceptedValuesByMappingParameters = CacheBuilder.newBuilder()
+    .weakKeys()
+    .build();
+
   private AcceptedValuesUtil() {}
 
+  /**
+   * Returns accepted values of the rule by id. The returned map is a copy, callers may modify it.
+   *
+   * @param ruleName          - name of the mapping rule
+   * @param mappingParameters - mapping parameters
+   * @return accepted values by id in the order of the reference data, empty if the rule does not have accepted values
+   */
   public static Map<String, String> getAcceptedValues(String ruleName, MappingParameters mappingParameters) {
-    HashMap<String, String> acceptedValues = new HashMap<>();
+    return new LinkedHashMap<>(getAcceptedValuesIndex(ruleName, mappingParameters).getValues());
+  }
 
+  /**
+   * Returns accepted values of the rule with the reverse index of the values.
+   *
+   * @param ruleName          - name of the mapping rule
+   * @param mappingParameters - mapping parameters
+   * @return accepted values, empty if the rule does not have accepted values
+   */
+  public static AcceptedValues getAcceptedValuesIndex(String ruleName, MappingParameters mappingParameters) {
     if (ruleName == null || !ruleNameToMappingParameter.containsKey(ruleName)) {
-      return acceptedValues;
+      return AcceptedValues.empty();
+    }
+
+    long referenceDataVersion = mappingParameters.referenceDataVersion();
+    Map<String, AcceptedValues> acceptedValuesByRuleName = acceptedValuesByMappingParameters.asMap()
+      .computeIfAbsent(mappingParameters, parameters -> new ConcurrentHashMap<>());
+    AcceptedValues acceptedValues = acceptedValuesByRuleName.get(ruleName);
+    if (acceptedValues == null || acceptedValues.getReferenceDataVersion() != referenceDataVersion) {
+      acceptedValues = AcceptedValues.of(ruleName, buildAcceptedValues(ruleName, mappingParameters), referenceDataVersion);
+      acceptedValuesByRuleName.put(ruleName, acceptedValues);
     }
+    return acceptedValues;
+  }
 
+  private static LinkedHashMap<String, String> buildAcceptedValues(String ruleName, MappingParameters mappingParameters) {
+    LinkedHashMap<String, String> acceptedValues = new LinkedHashMap<>();
     List<?> mappingParameter = ruleNameToMappingParameter.get(ruleName).apply(mappingParameters);
 
     mappingParameter.forEach(parameter -> {
-      JsonObject jsonObject = parameter instanceof String string ? new JsonObject(string) : JsonObject.mapFrom(parameter);
+      JsonObject jsonObject = parameter instanceof String string ? new JsonObject(string)
+        : parameter instanceof JsonObject json ? json : JsonObject.mapFrom(parameter);
 
       String idField = jsonObject.getString(ID_PROPERTY);
       String nameField = jsonObject.getString(NAME_PROPERTY);
@@ -138,13 +178,15 @@ public class AcceptedValuesUtil {
   }
 
   private static List<JsonObject> getStatisticalCode(MappingParameters mappingParameters) {
+    Map<String, StatisticalCodeType> statCodeTypes = new HashMap<>();
+    mappingParameters.getStatisticalCodeTypes().stream()
+      .filter(codeType -> codeType.getId() != null)
+      .forEach(codeType -> statCodeTypes.putIfAbsent(codeType.getId(), codeType));
     return mappingParameters.getStatisticalCodes().stream()
       .map(statCode -> {
-        Optional<StatisticalCodeType> statCodeType = mappingParameters
-          .getStatisticalCodeTypes().stream()
-          .filter(codeType -> codeType.getId().equals(statCode.getStatisticalCodeTypeId())).findAny();
-        if (statCodeType.isPresent()) {
-          String formattedStatCode = String.format(STATISTICAL_CODE_TEMPLATE, statCodeType.get().getName(), statCode.getCode(),
+        StatisticalCodeType statCodeType = statCodeTypes.get(statCode.getStatisticalCodeTypeId());
+        if (statCodeType != null) {
+          String formattedStatCode = String.format(STATISTICAL_CODE_TEMPLATE, statCodeType.getName(), statCode.getCode(),
             statCode.getName());
 
           return new JsonObject().put(ID_PROPERTY, statCode.getId()).put(VALUE_PROPERTY, formattedStatCode);
@@ -1,28 +1,42 @@
 package org.folio.processing.mapping.mapper.writer.common;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.commons.lang.StringUtils;
 
-import java.util.Arrays;
-import java.util.Iterator;
 import java.util.NoSuchElementException;
 
 /**
- *  Iterator for traversing by field path holding additional metadata for each path item
+ *  Iterator for traversing by field path holding additional metadata for each path item.
+ *  Path items are compiled once per path and shared by all iterators over the same path.
  */
 class FieldPathIterator {
   private static final String DELIMITER_REGEX = "\\.";
-  private Iterator<PathItem> delegate;
+  private static final int MAX_CACHED_PATHS = 4096;
+  private static final Cache<String, PathItem[]> COMPILED_PATHS = CacheBuilder.newBuilder()
+    .maximumSize(MAX_CACHED_PATHS)
+    .build();
+
+  private final PathItem[] pathItems;
+  private int position;
 
   FieldPathIterator(String path) {
     if (StringUtils.isEmpty(path)) {
       throw new IllegalArgumentException("Can not instantiate FieldPathIterator for empty path");
     } else {
-      String[] stringItems = path.split(DELIMITER_REGEX);
-      PathItem[] pathItems = Arrays.stream(stringItems).map(PathItem::new).toArray(PathItem[]::new);
-      this.delegate = Arrays.stream(pathItems).iterator();
+      this.pathItems = COMPILED_PATHS.asMap().computeIfAbsent(path, FieldPathIterator::compile);
     }
   }
 
+  private static PathItem[] compile(String path) {
+    String[] stringItems = path.split(DELIMITER_REGEX);
+    PathItem[] items = new PathItem[stringItems.length];
+    for (int i = 0; i < stringItems.length; i++) {
+      items[i] = new PathItem(stringItems[i]);
+    }
+    return items;
+  }
+
   /**
    * Returns {@code true} if the iteration has more elements.
    * (In other words, returns {@code true} if {@link #next} would
@@ -31,7 +45,7 @@ class FieldPathIterator {
    * @return {@code true} if the iteration has more elements
    */
   boolean hasNext() {
-    return this.delegate.hasNext();
+    return this.position < this.pathItems.length;
   }
 
   /**
@@ -41,16 +55,19 @@ class FieldPathIterator {
    * @throws NoSuchElementException if the iteration has no more elements
    */
   PathItem next() {
-    return this.delegate.next();
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return this.pathItems[this.position++];
   }
 
   /**
-   * Class to hold meta information for a single item of the fieldPath
+   * Class to hold meta information for a single item of the fieldPath, immutable so it can be shared between iterators
    */
-  class PathItem {
+  static final class PathItem {
     private static final String ARRAY_SIGN = "[]";
-    private String name;
-    private boolean isArray;
+    private final String name;
+    private final boolean isArray;
 
     public PathItem(String path) {
       this.isArray = path.endsWith(ARRAY_SIGN);
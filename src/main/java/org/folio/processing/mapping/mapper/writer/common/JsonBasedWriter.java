@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.BooleanNode;
 import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import org.apache.commons.lang3.StringUtils;
@@ -39,7 +40,7 @@ import static org.folio.processing.value.Value.ValueType.REPEATABLE;
 public class JsonBasedWriter extends AbstractWriter {
   private static final Logger LOGGER = LogManager.getLogger(JsonBasedWriter.class);
   private static final char DOT_SYMBOL = '.';
-  private final ObjectMapper objectMapper = new ObjectMapper();
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
   private final String entityType;
   private JsonNode entityNode;
 
@@ -50,7 +51,7 @@ public class JsonBasedWriter extends AbstractWriter {
   @Override
   public void initialize(DataImportEventPayload eventPayload) throws IOException {
     if (eventPayload.getContext().containsKey(entityType)) {
-      this.entityNode = new ObjectMapper().readTree(eventPayload.getContext().get(entityType));
+      this.entityNode = OBJECT_MAPPER.readTree(eventPayload.getContext().get(entityType));
     } else {
       throw new IllegalArgumentException("Can not initialize JsonBasedWriter. No suitable entity type found in context");
     }
@@ -69,7 +70,7 @@ public class JsonBasedWriter extends AbstractWriter {
   @Override
   protected void writeListValue(String fieldPath, ListValue listValue) {
     if (listValue.getRepeatableFieldAction() == null) {
-      ArrayNode arrayNode = objectMapper.valueToTree(listValue.getValue());
+      JsonNode arrayNode = toArrayNode(listValue.getValue());
       setValueByFieldPath(fieldPath, arrayNode);
       return;
     }
@@ -77,7 +78,7 @@ public class JsonBasedWriter extends AbstractWriter {
   }
 
   protected void writeListValueByAction(String fieldPath, ListValue listValue) {
-    ArrayNode arrayValue = objectMapper.valueToTree(listValue.getValue());
+    JsonNode arrayValue = toArrayNode(listValue.getValue());
     String pathForSearch = fieldPath.replace("[]", EMPTY);
     JsonNode foundNode = findAndRemoveTheMostNestedFieldIfNeeded(pathForSearch, false);
 
@@ -106,16 +107,43 @@ public class JsonBasedWriter extends AbstractWriter {
 
   @Override
   protected void writeObjectValue(String fieldPath, MapValue mapValue) {
-    JsonNode objectNode = objectMapper.valueToTree(mapValue.getValue());
+    JsonNode objectNode = toObjectNode(mapValue.getValue());
     setValueByFieldPath(fieldPath, objectNode);
   }
 
+  /**
+   * Builds the node the same way as {@link ObjectMapper#valueToTree(Object)}, null values become {@link NullNode}.
+   */
+  private static JsonNode toArrayNode(List<String> values) {
+    if (values == null) {
+      return NullNode.getInstance();
+    }
+    ArrayNode arrayNode = OBJECT_MAPPER.createArrayNode();
+    for (String value : values) {
+      arrayNode.add(value);
+    }
+    return arrayNode;
+  }
+
+  private static JsonNode toObjectNode(Map<String, String> values) {
+    if (values == null) {
+      return NullNode.getInstance();
+    }
+    ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
+    for (Map.Entry<String, String> entry : values.entrySet()) {
+      objectNode.put(entry.getKey(), entry.getValue());
+    }
+    return objectNode;
+  }
+
   private void writeValuesForRepeatableObject(JsonNode object, Map.Entry<String, Value> objectField) {
     JsonNode field = MissingNode.getInstance();
     switch (objectField.getValue().getType()) {
       case LIST:
+        field = toArrayNode(((ListValue) objectField.getValue()).getValue());
+        break;
       case MAP:
-        field = objectMapper.valueToTree(objectField.getValue().getValue());
+        field = toObjectNode(((MapValue) objectField.getValue()).getValue());
         break;
       case STRING:
         field = new TextNode((String) objectField.getValue().getValue());
@@ -172,7 +200,7 @@ public class JsonBasedWriter extends AbstractWriter {
     processIfRepeatableFieldsAreEmpty(repeatableFieldPath, value, repeatableFields);
     value.setAlreadyRemovedForExchange(false);
     for (Map<String, Value> subfield : repeatableFields) {
-      JsonNode currentObject = objectMapper.createObjectNode();
+      JsonNode currentObject = OBJECT_MAPPER.createObjectNode();
       for (Map.Entry<String, Value> objectField : subfield.entrySet()) {
         if (objectField.getValue().getType().equals(REPEATABLE)) {
           writeNestedRepeatableValue(objectField.getKey(), (RepeatableFieldValue) objectField.getValue(), currentObject);
@@ -189,7 +217,7 @@ public class JsonBasedWriter extends AbstractWriter {
   private void writeNestedRepeatableValue(String repeatableFieldPath, RepeatableFieldValue value, JsonNode parentNode) {
     List<Map<String, Value>> repeatableFields = value.getValue();
     for (Map<String, Value> subfield : repeatableFields) {
-      JsonNode currentObject = objectMapper.createObjectNode();
+      JsonNode currentObject = OBJECT_MAPPER.createObjectNode();
       for (Map.Entry<String, Value> objectField : subfield.entrySet()) {
         if (objectField.getValue().getType().equals(REPEATABLE)) {
           writeNestedRepeatableValue(objectField.getKey(), (RepeatableFieldValue) objectField.getValue(), currentObject);
@@ -309,7 +337,7 @@ public class JsonBasedWriter extends AbstractWriter {
   @Override
   public DataImportEventPayload getResult(DataImportEventPayload eventPayload) {
     try {
-      String jsonEntity = objectMapper.writeValueAsString(this.entityNode);
+      String jsonEntity = OBJECT_MAPPER.writeValueAsString(this.entityNode);
       eventPayload.getContext().put(entityType, jsonEntity);
     } catch (JsonProcessingException e) {
       LOGGER.warn("getResult:: Can not write entity node to json string", e);
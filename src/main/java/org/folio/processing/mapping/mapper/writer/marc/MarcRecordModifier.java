@@ -53,6 +53,7 @@ import org.marc4j.marc.impl.Verifier;
 import org.folio.DataImportEventPayload;
 import org.folio.MappingProfile;
 import org.folio.Record;
+import org.folio.processing.events.utils.PayloadContextCache;
 import org.folio.processing.mapping.defaultmapper.processor.parameters.MappingParameters;
 import org.folio.rest.jaxrs.model.EntityType;
 import org.folio.rest.jaxrs.model.MappingDetail;
@@ -250,11 +251,10 @@ public class MarcRecordModifier {
       throw new IllegalArgumentException(PAYLOAD_HAS_NO_DATA_MSG);
     }
 
-    String incomingRecordAsString = eventPayload.getContext().get(marcType.value());
     String existingRecordAsString = eventPayload.getContext().get(getMatchedMarcKey());
-    ObjectMapper objectMapper = new ObjectMapper();
-    Record incomingRecord = objectMapper.readValue(incomingRecordAsString, Record.class);
-    recordToChange = objectMapper.readValue(existingRecordAsString, Record.class);
+    //incoming record is only read, so the parsed record shared through the payload is used
+    Record incomingRecord = PayloadContextCache.get(eventPayload, marcType.value(), PayloadContextCache.SOURCE_RECORD);
+    recordToChange = new ObjectMapper().readValue(existingRecordAsString, Record.class);
 
     if (isRecordValid(incomingRecord) && isRecordValid(recordToChange)) {
       this.incomingMarcRecord = readParsedContentToObjectRepresentation(incomingRecord);
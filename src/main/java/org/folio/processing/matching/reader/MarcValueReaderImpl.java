@@ -22,8 +22,7 @@ public class MarcValueReaderImpl implements MatchValueReader {
   public Value read(DataImportEventPayload eventPayload, MatchDetail matchDetail) {
     MatchExpression matchExpression = matchDetail.getIncomingMatchExpression();
     if (matchExpression.getDataValueType() == VALUE_FROM_RECORD) {
-      String marcRecord = eventPayload.getContext().get(MARC_BIBLIOGRAPHIC.value());
-      return MarcValueReaderUtil.readValueFromRecord(marcRecord, matchExpression);
+      return MarcValueReaderUtil.readValueFromRecord(eventPayload, MARC_BIBLIOGRAPHIC.value(), matchExpression);
     }
     return MissingValue.getInstance();
   }
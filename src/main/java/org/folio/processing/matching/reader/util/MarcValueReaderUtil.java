@@ -10,6 +10,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.folio.DataImportEventPayload;
+import org.folio.processing.events.utils.PayloadContextCache;
 import org.folio.processing.exceptions.ReaderException;
 import org.folio.processing.value.ListValue;
 import org.folio.processing.value.MissingValue;
@@ -36,6 +38,9 @@ public final class MarcValueReaderUtil {
   private static final String IND_2_PROFILE_LABEL = "indicator2";
   private static final String SUBFIELD_PROFILE_LABEL = "recordSubfield";
   private static final String ASTERISK_INDICATOR = "*";
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final PayloadContextCache.Representation<JsonNode> MARC_FIELDS =
+    PayloadContextCache.Representation.derivedFrom(PayloadContextCache.SOURCE_RECORD, MarcValueReaderUtil::readMarcFields);
 
   private MarcValueReaderUtil() {
   }
@@ -50,9 +55,31 @@ public final class MarcValueReaderUtil {
     if (org.apache.commons.lang3.StringUtils.isBlank(marcRecord)) {
       return MissingValue.getInstance();
     }
+    return readValueFromFields(readMarcFields(marcRecord), matchExpression);
+  }
+
+  /**
+   * Read value from MARC-file stored in the event payload, the MARC-file is parsed once per payload entry
+   * and is shared with other readers of the payload.
+   * @param eventPayload - event payload
+   * @param key - context key of the marcRecord
+   * @param matchExpression - expression which contains fields.
+   * @return - Value with result.
+   */
+  public static Value readValueFromRecord(DataImportEventPayload eventPayload, String key, MatchExpression matchExpression) {
+    if (org.apache.commons.lang3.StringUtils.isBlank(eventPayload.getContext().get(key))) {
+      return MissingValue.getInstance();
+    }
+    try {
+      return readValueFromFields(PayloadContextCache.get(eventPayload, key, MARC_FIELDS), matchExpression);
+    } catch (IOException e) {
+      throw new ReaderException("Error reading MARC record", e);
+    }
+  }
 
+  private static Value readValueFromFields(JsonNode fieldsNode, MatchExpression matchExpression) {
     Map<String, String> matchExpressionFields = getMatchExpressionFields(matchExpression.getFields());
-    List<String> marcFieldValues = readMarcFieldValues(marcRecord, matchExpressionFields)
+    List<String> marcFieldValues = readMarcFieldValues(fieldsNode, matchExpressionFields)
       .stream()
       .map(marcField -> readValues(marcField, matchExpressionFields))
       .flatMap(List::stream)
@@ -75,20 +102,26 @@ public final class MarcValueReaderUtil {
     return resultMap;
   }
 
-  private static List<JsonNode> readMarcFieldValues(String marcRecord, Map<String, String> matchExpressionFields) {
+  private static JsonNode readMarcFields(String marcRecord) {
     try {
-      org.folio.Record record = new ObjectMapper().readValue(marcRecord, org.folio.Record.class);
-      String parsedContent = record.getParsedRecord().getContent().toString();
-      JsonNode fieldsNode = new ObjectMapper().readTree(parsedContent).at(MARC_FIELDS_POINTER);
-      List<JsonNode> fields = fieldsNode.findValues(matchExpressionFields.get(FIELD_PROFILE_LABEL));
-      return fields.stream()
-        .filter(field -> field.isTextual() || isMatchingIdentifiers(field, matchExpressionFields))
-        .collect(Collectors.toList());
+      return readMarcFields(OBJECT_MAPPER.readValue(marcRecord, org.folio.Record.class));
     } catch (IOException e) {
       throw new ReaderException("Error reading MARC record", e);
     }
   }
 
+  private static JsonNode readMarcFields(org.folio.Record record) throws IOException {
+    String parsedContent = record.getParsedRecord().getContent().toString();
+    return OBJECT_MAPPER.readTree(parsedContent).at(MARC_FIELDS_POINTER);
+  }
+
+  private static List<JsonNode> readMarcFieldValues(JsonNode fieldsNode, Map<String, String> matchExpressionFields) {
+    List<JsonNode> fields = fieldsNode.findValues(matchExpressionFields.get(FIELD_PROFILE_LABEL));
+    return fields.stream()
+      .filter(field -> field.isTextual() || isMatchingIdentifiers(field, matchExpressionFields))
+      .collect(Collectors.toList());
+  }
+
   private static List<String> readValues(JsonNode fieldValue, Map<String, String> matchExpressionFields) {
     if (fieldValue.isTextual()) {
       return Collections.singletonList(fieldValue.textValue());
@@ -1,9 +1,18 @@
 package org.folio.processing;
 
+import io.vertx.core.json.JsonObject;
 import org.apache.commons.io.FileUtils;
+import org.marc4j.MarcJsonWriter;
+import org.marc4j.MarcStreamReader;
+import org.marc4j.marc.Record;
 import org.testcontainers.utility.DockerImageName;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Util class contains helper methods for unit testing needs
@@ -11,8 +20,42 @@ import java.io.IOException;
 public final class TestUtil {
 
   public static final DockerImageName KAFKA_CONTAINER_NAME = DockerImageName.parse("apache/kafka-native:3.8.0");
+  public static final String BIBS_PATH = "src/test/resources/org/folio/processing/mapping/instance/CornellFOLIOExemplars_Bibs.mrc";
+  public static final String INSTANCE_MAPPING_RULES_PATH = "src/test/resources/org/folio/processing/mapping/instance/rules.json";
 
   public static String readFileFromPath(String path) throws IOException {
     return new String(FileUtils.readFileToByteArray(new File(path)));
   }
+
+  /**
+   * Reads all ISO 2709 records of the file.
+   */
+  public static List<Record> readMarcRecords(String path) throws IOException {
+    MarcStreamReader reader = new MarcStreamReader(new ByteArrayInputStream(FileUtils.readFileToByteArray(new File(path))));
+    List<Record> records = new ArrayList<>();
+    while (reader.hasNext()) {
+      records.add(reader.next());
+    }
+    return records;
+  }
+
+  /**
+   * Reads all ISO 2709 records of the file as MARC-in-JSON parsed records.
+   */
+  public static List<JsonObject> readParsedRecords(String path) throws IOException {
+    List<JsonObject> parsedRecords = new ArrayList<>();
+    for (Record marcRecord : readMarcRecords(path)) {
+      ByteArrayOutputStream os = new ByteArrayOutputStream();
+      new MarcJsonWriter(os).write(marcRecord);
+      parsedRecords.add(new JsonObject(os.toString(StandardCharsets.UTF_8)));
+    }
+    return parsedRecords;
+  }
+
+  /**
+   * Converts the mapped entity to JSON with a fixed id, so entities mapped from the same record can be compared.
+   */
+  public static JsonObject toJsonWithFixedId(Object entity) {
+    return JsonObject.mapFrom(entity).put("id", "0");
+  }
 }
@@ -0,0 +1,70 @@
+package org.folio.processing.events.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.folio.DataImportEventPayload;
+import org.folio.Record;
+import org.folio.processing.events.utils.PayloadContextCache.Representation;
+import org.junit.jupiter.api.Test;
+
+class PayloadContextCacheTest {
+
+  private static final String KEY = "INSTANCE";
+
+  @Test
+  void shouldParseEntryOncePerValue() throws IOException {
+    AtomicInteger parsed = new AtomicInteger();
+    Representation<String> representation = Representation.of(value -> {
+      parsed.incrementAndGet();
+      return new String(value);
+    });
+    DataImportEventPayload eventPayload = new DataImportEventPayload().withContext(new HashMap<>());
+    eventPayload.getContext().put(KEY, "{\"id\":\"1\"}");
+
+    String first = PayloadContextCache.get(eventPayload, KEY, representation);
+    String second = PayloadContextCache.get(eventPayload, KEY, representation);
+
+    assertSame(first, second);
+    assertEquals(1, parsed.get());
+  }
+
+  @Test
+  void shouldParseEntryAgainWhenEntryIsOverwritten() throws IOException {
+    DataImportEventPayload eventPayload = new DataImportEventPayload().withContext(new HashMap<>());
+    eventPayload.getContext().put(KEY, "{\"id\":\"1\"}");
+    Record first = PayloadContextCache.get(eventPayload, KEY, PayloadContextCache.SOURCE_RECORD);
+
+    eventPayload.getContext().put(KEY, "{\"id\":\"2\"}");
+    Record second = PayloadContextCache.get(eventPayload, KEY, PayloadContextCache.SOURCE_RECORD);
+
+    assertNotSame(first, second);
+    assertEquals("1", first.getId());
+    assertEquals("2", second.getId());
+  }
+
+  @Test
+  void shouldBuildDerivedRepresentationFromSourceRepresentation() throws IOException {
+    Representation<String> idRepresentation =
+      Representation.derivedFrom(PayloadContextCache.SOURCE_RECORD, Record::getId);
+    DataImportEventPayload eventPayload = new DataImportEventPayload().withContext(new HashMap<>());
+    eventPayload.getContext().put(KEY, "{\"id\":\"1\"}");
+
+    assertEquals("1", PayloadContextCache.get(eventPayload, KEY, idRepresentation));
+    assertSame(PayloadContextCache.get(eventPayload, KEY, idRepresentation),
+      PayloadContextCache.get(eventPayload, KEY, idRepresentation));
+  }
+
+  @Test
+  void shouldReturnNullWhenContextHasNoEntry() throws IOException {
+    DataImportEventPayload eventPayload = new DataImportEventPayload().withContext(new HashMap<>());
+
+    assertNull(PayloadContextCache.get(eventPayload, KEY, PayloadContextCache.SOURCE_RECORD));
+  }
+}
@@ -41,6 +41,33 @@ public class AuthorityExtendedMappingTest {
     Assert.assertEquals(expectedMappedAuthority.encode(), JsonObject.mapFrom(actualMappedAuthority).encode());
   }
 
+  @Test
+  public void testMarcToAuthorityExtendedMappingReusesDerivedRulesWithoutModifyingThem() throws IOException {
+    JsonObject expectedMappedAuthority = new JsonObject(TestUtil.readFileFromPath(MAPPED_AUTHORITY_RECORD_EXTENDED));
+    JsonObject mappingRules = new JsonObject(TestUtil.readFileFromPath(DEFAULT_MAPPING_RULES_PATH));
+    String originalRules = mappingRules.encode();
+
+    mapper.mapRecord(getJsonMarcRecord(), new MappingParameters(), mappingRules);
+    Authority actualMappedAuthority = mapper
+      .mapRecord(getJsonMarcRecord(), new MappingParameters(), mappingRules);
+
+    Assert.assertEquals(expectedMappedAuthority.encode(), JsonObject.mapFrom(actualMappedAuthority).encode());
+    Assert.assertEquals(originalRules, mappingRules.encode());
+  }
+
+  @Test
+  public void testMarcToAuthorityExtendedMappingWithSingleThreadMapper() throws IOException {
+    JsonObject expectedMappedAuthority = new JsonObject(TestUtil.readFileFromPath(MAPPED_AUTHORITY_RECORD_EXTENDED));
+    JsonObject mappingRules = new JsonObject(TestUtil.readFileFromPath(DEFAULT_MAPPING_RULES_PATH));
+    RecordMapper<Authority> singleThreadMapper = mapper.newSingleThreadMapper();
+
+    Authority actualMappedAuthority = singleThreadMapper
+      .mapRecord(getJsonMarcRecord(), new MappingParameters(), mappingRules);
+
+    Assert.assertEquals("MARC_AUTHORITY_EXTENDED", singleThreadMapper.getMapperFormat());
+    Assert.assertEquals(expectedMappedAuthority.encode(), JsonObject.mapFrom(actualMappedAuthority).encode());
+  }
+
   private JsonObject getJsonMarcRecord() throws IOException {
     MarcJsonReader reader = new MarcJsonReader(
       new ByteArrayInputStream(
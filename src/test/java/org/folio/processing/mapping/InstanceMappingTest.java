@@ -15,12 +15,16 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Executors;
 import java.util.stream.IntStream;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
@@ -39,6 +43,7 @@ import org.folio.Subject;
 import org.folio.rest.jaxrs.model.SubjectSource;
 import org.folio.rest.jaxrs.model.SubjectType;
 import org.folio.processing.TestUtil;
+import org.folio.processing.mapping.defaultmapper.MarcStreamMapper;
 import org.folio.processing.mapping.defaultmapper.RecordMapper;
 import org.folio.processing.mapping.defaultmapper.RecordMapperBuilder;
 import org.folio.processing.mapping.defaultmapper.processor.parameters.MappingParameters;
@@ -46,6 +51,7 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
+import org.marc4j.MarcException;
 import org.marc4j.MarcJsonWriter;
 import org.marc4j.MarcReader;
 import org.marc4j.MarcStreamReader;
@@ -150,6 +156,83 @@ public class InstanceMappingTest {
     assertEquals(expected.encode(), actual.encode());
   }
 
+  @Test
+  public void testMarcToInstanceFromParsedRecord() throws IOException {
+    var mappingRules = new JsonObject(TestUtil.readFileFromPath(DEFAULT_MAPPING_RULES_PATH));
+
+    for (var marcRecord : TestUtil.readMarcRecords(BIBS_PATH)) {
+      var os = new ByteArrayOutputStream();
+      new MarcJsonWriter(os).write(marcRecord);
+      var marcJson = new JsonObject(os.toString());
+
+      var mappedFromJson = mapper.mapRecord(marcJson, new MappingParameters(), mappingRules);
+      var mappedFromRecord = mapper.mapRecord(marcRecord, new MappingParameters(), mappingRules);
+
+      assertEquals(TestUtil.toJsonWithFixedId(mappedFromJson).encode(),
+        TestUtil.toJsonWithFixedId(mappedFromRecord).encode());
+    }
+  }
+
+  @Test
+  public void testMarcToInstancesInParallelPreservesOrder() throws IOException {
+    var mappingRules = new JsonObject(TestUtil.readFileFromPath(DEFAULT_MAPPING_RULES_PATH));
+    var parsedRecords = TestUtil.readParsedRecords(BIBS_PATH);
+
+    var executor = Executors.newFixedThreadPool(4);
+    try {
+      var mappedInstances = mapper.mapRecords(parsedRecords, new MappingParameters(), mappingRules, executor, 4);
+
+      assertEquals(parsedRecords.size(), mappedInstances.size());
+      for (int i = 0; i < parsedRecords.size(); i++) {
+        var expected = mapper.mapRecord(parsedRecords.get(i), new MappingParameters(), mappingRules);
+        assertEquals(TestUtil.toJsonWithFixedId(expected).encode(),
+          TestUtil.toJsonWithFixedId(mappedInstances.get(i)).encode());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testMarcToInstancesFromIso2709Stream() throws IOException {
+    var mappingRules = new JsonObject(TestUtil.readFileFromPath(DEFAULT_MAPPING_RULES_PATH));
+    var expected = new ArrayList<String>();
+    for (var parsedRecord : TestUtil.readParsedRecords(BIBS_PATH)) {
+      var mappedInstance = mapper.mapRecord(parsedRecord, new MappingParameters(), mappingRules);
+      expected.add(TestUtil.toJsonWithFixedId(mappedInstance).encode());
+    }
+
+    try (var instances = MarcStreamMapper.mapRecords(Path.of(BIBS_PATH), mapper, new MappingParameters(), mappingRules)) {
+      assertEquals(expected, instances.map(instance -> TestUtil.toJsonWithFixedId(instance).encode()).toList());
+    }
+    try (var instances = MarcStreamMapper.mapRecords(Files.newInputStream(Path.of(BIBS_PATH)), mapper,
+      new MappingParameters(), mappingRules)) {
+      assertEquals(expected.size(), instances.filter(Objects::nonNull).count());
+    }
+  }
+
+  @Test
+  public void testMarcToInstancesFromIso2709StreamWithUnreadableRecord() throws IOException {
+    var mappingRules = new JsonObject(TestUtil.readFileFromPath(DEFAULT_MAPPING_RULES_PATH));
+    var content = Files.readAllBytes(Path.of(BIBS_PATH));
+    int secondRecordStart = Integer.parseInt(new String(content, 0, 5, StandardCharsets.US_ASCII));
+    // base address of data of the second record
+    System.arraycopy("xxxxx".getBytes(StandardCharsets.US_ASCII), 0, content, secondRecordStart + 12, 5);
+    List<MarcException> errors = new ArrayList<>();
+
+    List<Instance> instances;
+    try (var stream = MarcStreamMapper.mapRecords(new ByteArrayInputStream(content), mapper, new MappingParameters(),
+      mappingRules, errors::add)) {
+      instances = stream.toList();
+    }
+
+    assertEquals(1, errors.size());
+    assertNotNull(instances.get(0));
+    assertNull(instances.get(1));
+    assertTrue(instances.size() > 2);
+    assertTrue(instances.subList(2, instances.size()).stream().allMatch(Objects::nonNull));
+  }
+
   @Test
   public void testMarcToInstanceWithWrongRecords() throws IOException {
     MarcReader reader = new MarcStreamReader(new ByteArrayInputStream(TestUtil.readFileFromPath(BIBS_ERRORS_PATH).getBytes(StandardCharsets.UTF_8)));
@@ -0,0 +1,35 @@
+package org.folio.processing.mapping.defaultmapper;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+
+class MappedFileInputStreamTest {
+
+  private static final Path BIBS_PATH = Path.of("src/test/resources/org/folio/processing/mapping/instance/CornellFOLIOExemplars_Bibs.mrc");
+
+  @Test
+  void shouldReadFileAcrossRegions() throws IOException {
+    var expected = Files.readAllBytes(BIBS_PATH);
+
+    try (var input = new MappedFileInputStream(BIBS_PATH, 1000)) {
+      var actual = new ByteArrayOutputStream();
+      actual.write(input.read());
+      input.mark(0);
+      var buffer = new byte[333];
+      input.read(buffer);
+      input.reset();
+      for (int count = input.read(buffer); count >= 0; count = input.read(buffer)) {
+        actual.write(buffer, 0, count);
+      }
+
+      assertArrayEquals(expected, actual.toByteArray());
+      assertEquals(-1, input.read());
+    }
+  }
+}
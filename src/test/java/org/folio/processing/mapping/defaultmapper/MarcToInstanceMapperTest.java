@@ -0,0 +1,150 @@
+package org.folio.processing.mapping.defaultmapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vertx.core.json.JsonObject;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.folio.Classification;
+import org.folio.Identifier;
+import org.folio.Identifier_;
+import org.folio.Identifier__;
+import org.folio.Instance;
+import org.folio.processing.TestUtil;
+import org.folio.processing.mapping.defaultmapper.processor.parameters.MappingParameters;
+import org.folio.rest.jaxrs.model.ClassificationType;
+import org.folio.rest.jaxrs.model.IdentifierType;
+import org.junit.jupiter.api.Test;
+import org.marc4j.marc.MarcFactory;
+import org.marc4j.marc.Record;
+
+class MarcToInstanceMapperTest {
+
+  private static final String UUID_1 = "7e591197-f335-4afb-bc6d-a6d76ca3bace";
+  private static final String UUID_2 = "8261054f-be78-422d-bd51-4ed9f33c3422";
+  private static final MarcFactory FACTORY = MarcFactory.newInstance();
+  private static final MappingParameters MAPPING_PARAMETERS = new MappingParameters()
+    .withIdentifierTypes(List.of(
+      new IdentifierType().withId(UUID_1).withName("ISBN"),
+      new IdentifierType().withId(UUID_2).withName("ISSN")))
+    .withClassificationTypes(List.of(new ClassificationType().withId(UUID_2).withName("LC")));
+  //type ids and values of repeated subfields are concatenated, since entities are not created per repeated subfield
+  private static final JsonObject CONCATENATING_RULES = new JsonObject("""
+    {
+      "020": [{"entity": [
+        {"target": "identifiers.identifierTypeId", "subfield": ["a"],
+          "rules": [{"conditions": [{"type": "set_identifier_type_id_by_name", "parameter": {"name": "ISBN"}}]}]},
+        {"target": "identifiers.value", "subfield": ["a"], "rules": []}
+      ]}],
+      "050": [{"entity": [
+        {"target": "classifications.classificationTypeId", "subfield": ["a"],
+          "rules": [{"conditions": [{"type": "set_classification_type_id", "parameter": {"name": "LC"}}]}]},
+        {"target": "classifications.classificationNumber", "subfield": ["a"], "rules": []}
+      ]}]
+    }""");
+
+  @Test
+  void shouldDetectDuplicatedUuids() {
+    assertTrue(MarcToInstanceMapper.isDuplicatedUuids(UUID_1 + " " + UUID_2));
+    assertTrue(MarcToInstanceMapper.isDuplicatedUuids(UUID_1 + " " + UUID_2 + " " + UUID_1));
+  }
+
+  @Test
+  void shouldNotDetectDuplicatedUuids() {
+    assertFalse(MarcToInstanceMapper.isDuplicatedUuids(null));
+    assertFalse(MarcToInstanceMapper.isDuplicatedUuids(UUID_1));
+    assertFalse(MarcToInstanceMapper.isDuplicatedUuids(UUID_1 + " " + UUID_2 + " "));
+    assertFalse(MarcToInstanceMapper.isDuplicatedUuids(UUID_1 + "  " + UUID_2.substring(1)));
+    assertFalse(MarcToInstanceMapper.isDuplicatedUuids(UUID_1 + " " + UUID_2.toUpperCase()));
+    assertFalse(MarcToInstanceMapper.isDuplicatedUuids(UUID_1 + " " + UUID_2.replace('-', 'a')));
+  }
+
+  @Test
+  void shouldApplyFixupsInDeclarationOrder() {
+    List<String> applied = new ArrayList<>();
+    EntityFixup<List<String>> fixups = EntityFixup.allOf(list -> list.add("first"), list -> list.add("second"));
+
+    fixups.apply(applied);
+    fixups.apply(null);
+
+    assertEquals(List.of("first", "second"), applied);
+  }
+
+  @Test
+  void shouldSplitIdentifiersAndClassificationsWithDuplicatedTypeIds() {
+    Record marcRecord = newRecord();
+    marcRecord.addVariableField(FACTORY.newDataField("020", ' ', ' ', "a", "0471622672", "a", "9780471622673"));
+    marcRecord.addVariableField(FACTORY.newDataField("050", '0', '0', "a", "QA76.73", "a", "QA76.76"));
+
+    Instance instance = new MarcToInstanceMapper().mapRecord(marcRecord, MAPPING_PARAMETERS, CONCATENATING_RULES);
+
+    assertEquals(List.of(
+        new Identifier().withIdentifierTypeId(UUID_1).withValue("0471622672"),
+        new Identifier().withIdentifierTypeId(UUID_1).withValue("9780471622673")),
+      instance.getIdentifiers());
+    assertEquals(List.of(
+        new Classification().withClassificationTypeId(UUID_2).withClassificationNumber("QA76.73"),
+        new Classification().withClassificationTypeId(UUID_2).withClassificationNumber("QA76.76")),
+      instance.getClassifications());
+  }
+
+  @Test
+  void shouldMoveIdentifiersOfPrecedingAndSucceedingTitles() throws IOException {
+    Record marcRecord = newRecord();
+    marcRecord.addVariableField(FACTORY.newDataField("780", '0', '0',
+      "t", "Preceding title", "x", "1234-5678", "z", "0471622672"));
+    marcRecord.addVariableField(FACTORY.newDataField("785", '0', '0', "t", "Succeeding title", "x", "8765-4321"));
+
+    Instance instance = new MarcToInstanceMapper().mapRecord(marcRecord, MAPPING_PARAMETERS, defaultRules());
+
+    var precedingTitle = instance.getPrecedingTitles().get(0);
+    assertEquals("Preceding title", precedingTitle.getTitle());
+    assertEquals(List.of(
+        new Identifier_().withIdentifierTypeId(UUID_1).withValue("0471622672"),
+        new Identifier_().withIdentifierTypeId(UUID_2).withValue("1234-5678")),
+      precedingTitle.getIdentifiers());
+    assertNull(precedingTitle.getIsbnId());
+    assertNull(precedingTitle.getIsbnValue());
+    assertNull(precedingTitle.getIssnId());
+    assertNull(precedingTitle.getIssnValue());
+    var succeedingTitle = instance.getSucceedingTitles().get(0);
+    assertEquals(List.of(new Identifier__().withIdentifierTypeId(UUID_2).withValue("8765-4321")),
+      succeedingTitle.getIdentifiers());
+    assertNull(succeedingTitle.getIssnId());
+    assertNull(succeedingTitle.getIssnValue());
+  }
+
+  @Test
+  void shouldRemoveIncompleteAndDuplicatedEntries() throws IOException {
+    Record marcRecord = newRecord();
+    marcRecord.addVariableField(FACTORY.newDataField("041", '0', ' ', "a", "eng", "a", "fre", "a", "eng"));
+    marcRecord.addVariableField(FACTORY.newDataField("856", '4', '0', "y", "Link without URI"));
+    marcRecord.addVariableField(FACTORY.newDataField("856", '4', '0', "u", "https://example.org", "y", "Link"));
+    marcRecord.addVariableField(FACTORY.newDataField("780", '0', '0', "x", "1234-5678"));
+    marcRecord.addVariableField(FACTORY.newDataField("785", '0', '0', "x", "8765-4321"));
+
+    Instance instance = new MarcToInstanceMapper().mapRecord(marcRecord, MAPPING_PARAMETERS, defaultRules());
+
+    assertEquals("MARC", instance.getSource());
+    assertEquals(List.of("eng", "fre"), instance.getLanguages());
+    assertEquals(1, instance.getElectronicAccess().size());
+    assertEquals("https://example.org", instance.getElectronicAccess().get(0).getUri());
+    assertTrue(instance.getPrecedingTitles().isEmpty());
+    assertTrue(instance.getSucceedingTitles().isEmpty());
+  }
+
+  private static Record newRecord() {
+    Record marcRecord = FACTORY.newRecord("01012cam a2200289 a 4500");
+    marcRecord.addVariableField(FACTORY.newControlField("001", "in00000000001"));
+    marcRecord.addVariableField(FACTORY.newDataField("245", '0', '0', "a", "Title"));
+    return marcRecord;
+  }
+
+  private static JsonObject defaultRules() throws IOException {
+    return new JsonObject(TestUtil.readFileFromPath(TestUtil.INSTANCE_MAPPING_RULES_PATH));
+  }
+}
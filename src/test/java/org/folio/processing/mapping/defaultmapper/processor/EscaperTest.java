@@ -1,6 +1,7 @@
 package org.folio.processing.mapping.defaultmapper.processor;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.junit.jupiter.api.Test;
 
@@ -25,4 +26,24 @@ class EscaperTest {
     var result = Escaper.escape(WITH_TRAILING_BACKSLASH, false);
     assertEquals(WITHOUT_TRAILING_BACKSLASH, result);
   }
+
+  @Test
+  void shouldReturnSameInstanceIfNothingToEscape() {
+    var value = "Lord of the rings / J.R.R. Tolkien.";
+    assertSame(value, Escaper.escape(value));
+    assertSame(value, Escaper.escapeDelimiters(value, false));
+    assertSame(value, Escaper.escapeSqlCopyFrom(value));
+  }
+
+  @Test
+  void shouldEscapeDoubleQuotesAndReplaceRecordDelimiter() {
+    assertEquals("a b \\\\\"c\\\"", Escaper.escape("a|b \\\"c\"\\"));
+    assertEquals("a b \\\"c\"", Escaper.escapeDelimiters("a|b \\\"c\"\\", false));
+    assertEquals("", Escaper.escapeDelimiters(null, false));
+  }
+
+  @Test
+  void shouldEscapeSqlCopySpecialChars() {
+    assertEquals("a\\|b\\\\c\\\nd", Escaper.escapeSqlCopyFrom("a|b\\c\nd"));
+  }
 }
@@ -0,0 +1,66 @@
+package org.folio.processing.mapping.defaultmapper.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.script.ScriptException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class JSManagerTest {
+
+  private static final String UPPER_CASE_SCRIPT = "DATA.toUpperCase();";
+
+  @AfterEach
+  void tearDown() {
+    JSManager.setExecutionTimeout(0);
+  }
+
+  @Test
+  void shouldRunScriptWithDataOfEachInvocation() throws ScriptException {
+    assertEquals("ABC", JSManager.runJScript(UPPER_CASE_SCRIPT, "abc"));
+    assertEquals("DEF", JSManager.runJScript(UPPER_CASE_SCRIPT, "def"));
+  }
+
+  @Test
+  void shouldRunScriptsConcurrently() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Callable<Object>> tasks = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+        String data = "value" + i;
+        tasks.add(() -> JSManager.runJScript(UPPER_CASE_SCRIPT, data));
+      }
+      List<Future<Object>> results = executor.invokeAll(tasks);
+      for (int i = 0; i < results.size(); i++) {
+        assertEquals("VALUE" + i, results.get(i).get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void shouldInterruptScriptExceedingTimeout() throws ScriptException {
+    JSManager.setExecutionTimeout(200);
+
+    for (int i = 0; i < 2; i++) {
+      assertThrows(ScriptException.class, () -> JSManager.runJScript("while (true) {}", "abc"));
+      assertEquals("ABC", JSManager.runJScript(UPPER_CASE_SCRIPT, "abc"));
+    }
+  }
+
+  @Test
+  void shouldReturnNestedResultReadableAfterInvocation() throws ScriptException {
+    Object result = JSManager.runJScript("[{name: DATA, codes: ['a', 'b']}];", "abc");
+
+    assertEquals(List.of(Map.of("name", "abc", "codes", List.of("a", "b"))), result);
+  }
+}
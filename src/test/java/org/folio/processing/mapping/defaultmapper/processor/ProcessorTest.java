@@ -0,0 +1,33 @@
+package org.folio.processing.mapping.defaultmapper.processor;
+
+import static org.folio.processing.TestUtil.BIBS_PATH;
+import static org.folio.processing.TestUtil.INSTANCE_MAPPING_RULES_PATH;
+import static org.folio.processing.TestUtil.readMarcRecords;
+import static org.folio.processing.TestUtil.toJsonWithFixedId;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.vertx.core.json.JsonObject;
+import java.io.IOException;
+import java.util.List;
+import org.folio.Instance;
+import org.folio.processing.TestUtil;
+import org.folio.processing.mapping.defaultmapper.processor.parameters.MappingParameters;
+import org.junit.jupiter.api.Test;
+import org.marc4j.marc.Record;
+
+class ProcessorTest {
+
+  @Test
+  void shouldMapSameInstancesWithReusedProcessor() throws IOException {
+    var mappingRules = new JsonObject(TestUtil.readFileFromPath(INSTANCE_MAPPING_RULES_PATH));
+    var reusedProcessor = new Processor<Instance>();
+
+    List<Record> records = readMarcRecords(BIBS_PATH);
+    List<Record> sameRecords = readMarcRecords(BIBS_PATH);
+    for (int i = 0; i < records.size(); i++) {
+      var reused = reusedProcessor.process(records.get(i), new MappingParameters(), mappingRules, Instance.class);
+      var fresh = new Processor<Instance>().process(sameRecords.get(i), new MappingParameters(), mappingRules, Instance.class);
+      assertEquals(toJsonWithFixedId(fresh), toJsonWithFixedId(reused));
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package org.folio.processing.mapping.defaultmapper.processor.accessor;
+
+import static org.folio.processing.TestUtil.BIBS_PATH;
+import static org.folio.processing.TestUtil.INSTANCE_MAPPING_RULES_PATH;
+import static org.folio.processing.TestUtil.readMarcRecords;
+import static org.folio.processing.TestUtil.toJsonWithFixedId;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vertx.core.json.JsonObject;
+import java.io.IOException;
+import org.folio.Identifier;
+import org.folio.Instance;
+import org.folio.processing.TestUtil;
+import org.folio.processing.mapping.defaultmapper.processor.Processor;
+import org.folio.processing.mapping.defaultmapper.processor.instrumentation.MappingInstrumentation;
+import org.folio.processing.mapping.defaultmapper.processor.parameters.MappingParameters;
+import org.junit.jupiter.api.Test;
+
+class EntityAccessorsTest {
+
+  @Test
+  void shouldResolveCollectionAndValueProperties() {
+    var identifiers = EntityAccessors.find(Instance.class, "identifiers");
+    assertEquals(PropertyAccessor.Kind.COLLECTION, identifiers.getKind());
+    assertEquals(Identifier.class, identifiers.getValueType());
+    assertFalse(identifiers.hasValueElements());
+
+    var value = EntityAccessors.find(Identifier.class, "value");
+    assertEquals(PropertyAccessor.Kind.VALUE, value.getKind());
+
+    var instance = new Instance();
+    var identifier = identifiers.newValue();
+    identifiers.getCollection(instance).add(identifier);
+    value.set(identifier, "(OCoLC)12345");
+
+    assertEquals("(OCoLC)12345", instance.getIdentifiers().get(0).getValue());
+    assertSame(identifiers, EntityAccessors.find(Instance.class, "identifiers"));
+    assertTrue(EntityAccessors.find(Instance.class, "statisticalCodeIds").hasValueElements());
+    assertNull(EntityAccessors.find(Instance.class, "notExistingProperty"));
+  }
+
+  @Test
+  void shouldMapSameInstanceWithGeneratedAndReflectiveAccessors() throws IOException {
+    var mappingRules = new JsonObject(TestUtil.readFileFromPath(INSTANCE_MAPPING_RULES_PATH));
+
+    var generated = new Processor<Instance>(MappingInstrumentation.NOOP, true)
+      .process(readMarcRecords(BIBS_PATH).get(0), new MappingParameters(), mappingRules, Instance.class);
+    var reflective = new Processor<Instance>(MappingInstrumentation.NOOP, false)
+      .process(readMarcRecords(BIBS_PATH).get(0), new MappingParameters(), mappingRules, Instance.class);
+
+    assertEquals(toJsonWithFixedId(reflective), toJsonWithFixedId(generated));
+  }
+}
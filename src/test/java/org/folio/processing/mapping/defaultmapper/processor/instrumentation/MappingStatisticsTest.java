@@ -0,0 +1,89 @@
+package org.folio.processing.mapping.defaultmapper.processor.instrumentation;
+
+import static org.folio.processing.TestUtil.BIBS_PATH;
+import static org.folio.processing.TestUtil.INSTANCE_MAPPING_RULES_PATH;
+import static org.folio.processing.TestUtil.readMarcRecords;
+import static org.folio.processing.TestUtil.toJsonWithFixedId;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vertx.core.json.JsonObject;
+import java.io.IOException;
+import org.folio.processing.TestUtil;
+import org.folio.processing.mapping.defaultmapper.MarcToInstanceMapper;
+import org.folio.processing.mapping.defaultmapper.processor.parameters.MappingParameters;
+import org.junit.jupiter.api.Test;
+
+class MappingStatisticsTest {
+
+  @Test
+  void shouldRecordTimingsOfMappedRecord() throws IOException {
+    var mappingRules = new JsonObject(TestUtil.readFileFromPath(INSTANCE_MAPPING_RULES_PATH));
+    var statistics = new MappingStatistics();
+    var mapper = new MarcToInstanceMapper().withInstrumentation(statistics);
+
+    var instrumented = mapper.mapRecord(readMarcRecords(BIBS_PATH).get(0), new MappingParameters(), mappingRules);
+    var plain = new MarcToInstanceMapper().mapRecord(readMarcRecords(BIBS_PATH).get(0), new MappingParameters(), mappingRules);
+
+    assertEquals(toJsonWithFixedId(plain), toJsonWithFixedId(instrumented));
+    var snapshot = statistics.snapshot();
+    assertEquals(1, snapshot.tags().get("245").invocations());
+    assertEquals(1, snapshot.tags().get("001").invocations());
+    assertTrue(snapshot.rules().containsKey("title"));
+    assertTrue(snapshot.rules().containsKey("hrid"));
+    assertTrue(snapshot.functions().get("CAPITALIZE").invocations() > 0);
+    assertTrue(snapshot.tags().get("245").totalTimeNanos() >= snapshot.rules().get("title").totalTimeNanos());
+  }
+
+  @Test
+  void shouldReuseInstrumentedMapperForSameInstrumentation() {
+    var statistics = new MappingStatistics();
+    var mapper = new MarcToInstanceMapper().withInstrumentation(statistics);
+
+    assertSame(mapper, new MarcToInstanceMapper().withInstrumentation(statistics));
+    assertNotSame(mapper, new MarcToInstanceMapper().withInstrumentation(new MappingStatistics()));
+  }
+
+  @Test
+  void shouldClearTimingsOnReset() {
+    var statistics = new MappingStatistics();
+    statistics.recordTag("245", 10);
+    statistics.recordTag("245", 5);
+    statistics.recordRule("title", 3);
+    statistics.recordScript("data.trim();", 2);
+
+    assertEquals(new MappingStatistics.Timing(2, 15), statistics.snapshot().tags().get("245"));
+
+    statistics.reset();
+
+    var snapshot = statistics.snapshot();
+    assertTrue(snapshot.tags().isEmpty());
+    assertTrue(snapshot.rules().isEmpty());
+    assertTrue(snapshot.scripts().isEmpty());
+  }
+
+  @Test
+  void shouldAccumulateTimingsOfKeysBeyondLimitUnderOther() {
+    var statistics = new MappingStatistics();
+    for (int i = 0; i < MappingStatistics.MAX_KEYS; i++) {
+      statistics.recordScript("data + " + i + ";", 1);
+    }
+    statistics.recordScript("data + 0;", 1);
+    statistics.recordScript("data + 'a';", 2);
+    statistics.recordScript("data + 'b';", 3);
+
+    var scripts = statistics.snapshot().scripts();
+    assertEquals(MappingStatistics.MAX_KEYS + 1, scripts.size());
+    assertEquals(new MappingStatistics.Timing(2, 2), scripts.get("data + 0;"));
+    assertEquals(new MappingStatistics.Timing(2, 5), scripts.get(MappingStatistics.OTHER));
+  }
+
+  @Test
+  void shouldNotEnableNoopInstrumentation() {
+    assertFalse(MappingInstrumentation.NOOP.isEnabled());
+    assertTrue(new MappingStatistics().isEnabled());
+  }
+}
@@ -0,0 +1,78 @@
+package org.folio.processing.mapping.defaultmapper.processor.parameters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.folio.processing.mapping.defaultmapper.processor.parameters.ReferenceDataIndex.Lookup;
+import org.folio.rest.jaxrs.model.ContributorType;
+import org.folio.rest.jaxrs.model.Location;
+import org.junit.jupiter.api.Test;
+
+class ReferenceDataIndexTest {
+
+  private static final ContributorType ANIMATOR = new ContributorType().withId("1").withCode("anm").withName("Animator");
+  private static final ContributorType ANIMATOR_DUPLICATE = new ContributorType().withId("2").withCode("ANM").withName(" animator ");
+  private static final ContributorType ARRANGER = new ContributorType().withId("3").withCode("arr").withName("Arranger of music.");
+
+  @Test
+  void shouldReturnFirstMatchingEntry() {
+    var index = new MappingParameters()
+      .withContributorTypes(List.of(ANIMATOR, ANIMATOR_DUPLICATE, ARRANGER))
+      .contributorTypesIndex();
+
+    assertSame(ANIMATOR, index.find(Lookup.CODE_IGNORE_CASE, "ANM"));
+    assertSame(ANIMATOR_DUPLICATE, index.find(Lookup.CODE, "ANM"));
+    assertSame(ANIMATOR, index.find(Lookup.NAME_IGNORE_CASE, "aNiMaToR"));
+    assertSame(ANIMATOR, index.find(Lookup.TRIMMED_NAME_IGNORE_CASE, "animator"));
+    assertSame(ARRANGER, index.find(Lookup.ID, "3"));
+    assertEquals(2, index.positionOf(Lookup.NAME_IGNORE_CASE, "ARRANGER OF MUSIC."));
+    assertEquals(-1, index.positionOf(Lookup.NAME_IGNORE_CASE, "Arranger of music"));
+    assertNull(index.find(Lookup.CODE_IGNORE_CASE, null));
+  }
+
+  @Test
+  void shouldReuseIndexUntilReferenceDataIsReplaced() {
+    var mappingParameters = new MappingParameters()
+      .withLocations(List.of(new Location().withId("1").withCode("KU/CC/DI/M")));
+    var index = mappingParameters.locationsIndex();
+
+    assertSame(index, mappingParameters.locationsIndex());
+    assertNull(index.find(Lookup.CODE, "ku/cc/di/m"));
+    assertNull(index.find(Lookup.NAME_IGNORE_CASE, "KU/CC/DI/M"));
+
+    mappingParameters.withLocations(List.of(new Location().withId("2").withCode("KU/CC/DI/M")));
+    var newIndex = mappingParameters.locationsIndex();
+
+    assertNotSame(index, newIndex);
+    assertEquals("2", newIndex.find(Lookup.CODE, "KU/CC/DI/M").getId());
+  }
+
+  @Test
+  void shouldRebuildIndexAfterReferenceDataIndexesAreInvalidated() {
+    var locations = new ArrayList<>(List.of(new Location().withId("1").withCode("KU/CC/DI/M")));
+    var mappingParameters = new MappingParameters();
+    mappingParameters.setLocations(locations);
+    var index = mappingParameters.locationsIndex();
+
+    locations.add(new Location().withId("2").withCode("KU/CC/DI/O"));
+    assertSame(index, mappingParameters.locationsIndex());
+
+    mappingParameters.invalidateReferenceDataIndexes();
+
+    assertEquals("2", mappingParameters.locationsIndex().find(Lookup.CODE, "KU/CC/DI/O").getId());
+  }
+
+  @Test
+  void shouldFoldCaseSameWayAsEqualsIgnoreCase() {
+    for (String value : List.of("Stra\u00dfe", "\u0130stanbul", "\u01c5emal", "\u03a9mega", "\ufb01le")) {
+      for (String other : List.of(value.toUpperCase(), value.toLowerCase(), value)) {
+        assertEquals(value.equalsIgnoreCase(other),
+          ReferenceDataIndex.foldCase(value).equals(ReferenceDataIndex.foldCase(other)), value + " vs " + other);
+      }
+    }
+  }
+}
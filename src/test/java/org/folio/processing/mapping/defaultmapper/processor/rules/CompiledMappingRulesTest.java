@@ -0,0 +1,172 @@
+package org.folio.processing.mapping.defaultmapper.processor.rules;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.io.IOException;
+import java.util.Set;
+import org.folio.processing.TestUtil;
+import org.folio.processing.mapping.defaultmapper.processor.functions.NormalizationFunction;
+import org.junit.jupiter.api.Test;
+import org.marc4j.marc.impl.DataFieldImpl;
+import org.marc4j.marc.impl.SubfieldImpl;
+
+class CompiledMappingRulesTest {
+
+  private static final String DEFAULT_MAPPING_RULES_PATH = "src/test/resources/org/folio/processing/mapping/instance/rules.json";
+
+  @Test
+  void shouldReturnSameCompiledRulesForSameRulesInstance() throws IOException {
+    var mappingRules = new JsonObject(TestUtil.readFileFromPath(DEFAULT_MAPPING_RULES_PATH));
+    assertSame(CompiledMappingRules.of(mappingRules), CompiledMappingRules.of(mappingRules));
+  }
+
+  @Test
+  void shouldReturnSameCompiledRulesForEqualRulesContent() throws IOException {
+    var rulesContent = TestUtil.readFileFromPath(DEFAULT_MAPPING_RULES_PATH);
+    assertSame(CompiledMappingRules.of(new JsonObject(rulesContent)), CompiledMappingRules.of(new JsonObject(rulesContent)));
+  }
+
+  @Test
+  void shouldNotShareCompiledRulesForDifferentRulesOfSameShape() {
+    var compiledRules = CompiledMappingRules.of(new JsonObject("""
+      {"245": [{"target": "title", "subfield": ["a"]}]}"""));
+    var otherCompiledRules = CompiledMappingRules.of(new JsonObject("""
+      {"245": [{"target": "indexTitle", "subfield": ["a"]}]}"""));
+
+    assertNotSame(compiledRules, otherCompiledRules);
+    assertArrayEquals(new String[]{"indexTitle"}, otherCompiledRules.getFieldMapping("245").getEntries().get(0).getRule().getTargetPath());
+  }
+
+  @Test
+  void shouldRecompileRulesAfterInvalidation() {
+    var mappingRules = new JsonObject("""
+      {"245": [{"target": "title", "subfield": ["a"]}]}""");
+    var compiledRules = CompiledMappingRules.of(mappingRules);
+
+    mappingRules.put("650", new JsonArray().add(new JsonObject().put("target", "subjects.value").put("subfield", new JsonArray().add("a"))));
+    assertSame(compiledRules, CompiledMappingRules.of(mappingRules));
+
+    CompiledMappingRules.invalidate(mappingRules);
+    var recompiledRules = CompiledMappingRules.of(mappingRules);
+
+    assertNotSame(compiledRules, recompiledRules);
+    assertNull(compiledRules.getFieldMapping("650"));
+    assertNotNull(recompiledRules.getFieldMapping("650"));
+
+    mappingRules.getJsonArray("245").getJsonObject(0).put("target", "indexTitle");
+    CompiledMappingRules.invalidate(mappingRules);
+    assertArrayEquals(new String[]{"indexTitle"},
+      CompiledMappingRules.of(mappingRules).getFieldMapping("245").getEntries().get(0).getRule().getTargetPath());
+  }
+
+  @Test
+  void shouldNotChangeCompiledRulesWhenRulesAreModifiedAfterCompilation() {
+    var mappingRules = new JsonObject("""
+      {"245": [{"target": "title", "subfield": ["a"]}]}""");
+    var compiledRules = CompiledMappingRules.of(mappingRules);
+
+    mappingRules.getJsonArray("245").getJsonObject(0).put("target", "indexTitle");
+
+    assertArrayEquals(new String[]{"title"}, compiledRules.getFieldMapping("245").getEntries().get(0).getRule().getTargetPath());
+  }
+
+  @Test
+  void shouldCompileFieldReplacementRules() {
+    var mappingRules = new JsonObject("""
+      {"880": [
+        {"fieldReplacementBy3Digits": true, "subfield": ["6"],
+         "fieldReplacementRule": [{"sourceDigits": "100", "targetField": "700"}]}
+      ],
+       "245": [{"target": "title", "subfield": ["a"]}]}""");
+    var compiledRules = CompiledMappingRules.of(mappingRules);
+
+    assertTrue(compiledRules.getFieldReplacementRules("245").isEmpty());
+    assertTrue(compiledRules.getFieldReplacementRules("650").isEmpty());
+    assertEquals(1, compiledRules.getFieldReplacementRules("880").size());
+
+    var replacedField = new DataFieldImpl("880", ' ', ' ');
+    replacedField.addSubfield(new SubfieldImpl('6', "100-01"));
+    compiledRules.getFieldReplacementRules("880").get(0).apply(replacedField);
+    assertEquals("700", replacedField.getTag());
+
+    var retaggedField = new DataFieldImpl("880", ' ', ' ');
+    retaggedField.addSubfield(new SubfieldImpl('6', "245-02"));
+    compiledRules.getFieldReplacementRules("880").get(0).apply(retaggedField);
+    assertEquals("245", retaggedField.getTag());
+  }
+
+  @Test
+  void shouldCompileFieldMapping() {
+    var mappingRules = new JsonObject("""
+      {"600": [
+        {"indicators": {"ind1": "*", "ind2": "7"},
+         "entity": [{"target": "subjects.value", "subfield": ["a", "b"], "requiredSubfield": ["a"], "rules": []}]},
+        {"target": "subjects.value", "subfield": ["a"], "applyRulesOnConcatenatedData": true}
+      ]}""");
+
+    var fieldMapping = CompiledMappingRules.of(mappingRules).getFieldMapping("600");
+
+    assertTrue(fieldMapping.hasIndicators());
+    assertTrue(fieldMapping.getEntries().get(0).getIndicators().matches('1', '7'));
+    assertFalse(fieldMapping.getEntries().get(0).getIndicators().matches('1', '0'));
+    assertTrue(fieldMapping.isClaimedByIndicators('2', '7'));
+    assertFalse(fieldMapping.isClaimedByIndicators('2', '0'));
+
+    var entityRule = fieldMapping.getEntries().get(0).getFieldRules().get(0);
+    assertTrue(fieldMapping.getEntries().get(0).isEntityRequested());
+    assertArrayEquals(new String[]{"subjects", "value"}, entityRule.getTargetPath());
+    assertEquals(Set.of("a", "b"), entityRule.getSubfields());
+    assertEquals("a", entityRule.getRequiredSubfields().get(0));
+    assertNull(entityRule.getExclusiveSubfields());
+
+    var plainEntry = fieldMapping.getEntries().get(1);
+    assertFalse(plainEntry.isEntityRequested());
+    assertSame(plainEntry.getRule(), plainEntry.getFieldRules().get(0));
+    assertTrue(plainEntry.getRule().isApplyRulesOnConcatenatedData());
+    assertNull(CompiledMappingRules.of(mappingRules).getFieldMapping("650"));
+  }
+
+  @Test
+  void shouldResolveConditionFunctionsAtCompileTime() {
+    var mappingRules = new JsonObject("""
+      {"020": [
+        {"target": "identifiers.value", "subfield": ["a"],
+         "rules": [
+           {"conditions": [
+             {"type": " remove_ending_punc, Trim ", "parameter": {"ind": "1"}},
+             {"type": "custom", "value": "DATA.toUpperCase();"},
+             {"type": "no_such_function", "LDR": true}
+           ]},
+           {"conditions": [{"type": "set_identifier_type_id_by_name"}], "value": "const"}
+         ]}
+      ]}""");
+
+    var rules = CompiledMappingRules.of(mappingRules).getFieldMapping("020").getEntries().get(0).getRule().getCompiledRules();
+
+    var conditions = rules.get(0).getConditions();
+    assertTrue(rules.get(0).isCustom());
+    assertEquals(NormalizationFunction.REMOVE_ENDING_PUNC, conditions.get(0).getFunctions().get(0).getFunction());
+    assertEquals(NormalizationFunction.TRIM, conditions.get(0).getFunctions().get(1).getFunction());
+    assertEquals("1", conditions.get(0).getParameter().getString("ind"));
+    assertFalse(conditions.get(0).isCustomRule());
+    assertTrue(conditions.get(1).isCustom());
+    assertNull(conditions.get(1).getFunctions().get(0).getFunction());
+    assertTrue(conditions.get(2).isCustomRule());
+    assertTrue(conditions.get(2).isLeaderRequired());
+    assertNull(conditions.get(2).getFunctions().get(0).getFunction());
+
+    assertFalse(rules.get(1).isCustom());
+    assertEquals("const", rules.get(1).getValue());
+    assertEquals(NormalizationFunction.SET_IDENTIFIER_TYPE_ID_BY_NAME,
+      rules.get(1).getConditions().get(0).getFunctions().get(0).getFunction());
+  }
+}
@@ -0,0 +1,46 @@
+package org.folio.processing.mapping.defaultmapper.processor.rules;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.marc4j.marc.impl.SubfieldImpl;
+
+class SubfieldMaskTest {
+
+  @Test
+  void shouldBuildSameMaskFromRuleCodesAndSubfields() {
+    long ruleMask = SubfieldMask.of(List.of("a", "z", "0", "9"));
+    long fieldMask = SubfieldMask.ofSubfields(List.of(new SubfieldImpl('a', "x"), new SubfieldImpl('z', "y"),
+      new SubfieldImpl('0', "1"), new SubfieldImpl('9', "2"), new SubfieldImpl('A', "3")));
+
+    assertEquals(ruleMask, fieldMask);
+    assertTrue(SubfieldMask.contains(ruleMask, '0'));
+    assertFalse(SubfieldMask.contains(ruleMask, 'b'));
+    assertFalse(SubfieldMask.contains(ruleMask, 'A'));
+  }
+
+  @Test
+  void shouldNotSupportCodesOutsideRange() {
+    assertFalse(SubfieldMask.isSupported(SubfieldMask.of(List.of("a", "A"))));
+    assertFalse(SubfieldMask.isSupported(SubfieldMask.of(List.of("ab"))));
+    assertTrue(SubfieldMask.isSupported(SubfieldMask.of(List.of())));
+  }
+
+  @Test
+  void shouldCompileMasksOfFieldRule() {
+    var rule = new CompiledFieldRule(new JsonObject()
+      .put("target", "identifiers.value")
+      .put("subfield", new JsonArray().add("a").add("b"))
+      .put("requiredSubfield", new JsonArray().add("a"))
+      .put("exclusiveSubfield", new JsonArray().add("z")));
+
+    assertEquals(SubfieldMask.of(List.of("a", "b")), rule.getSubfieldMask());
+    assertEquals(SubfieldMask.of(List.of("a")), rule.getRequiredSubfieldMask());
+    assertEquals(SubfieldMask.of(List.of("z")), rule.getExclusiveSubfieldMask());
+  }
+}
@@ -21,6 +21,7 @@ import org.folio.rest.jaxrs.model.CallNumberType;
 import org.folio.rest.jaxrs.model.SubjectSource;
 import org.folio.rest.jaxrs.model.SubjectType;
 import org.folio.processing.mapping.defaultmapper.processor.RuleExecutionContext;
+import org.folio.processing.mapping.defaultmapper.processor.functions.RuleParameter;
 import org.folio.processing.mapping.defaultmapper.processor.parameters.MappingParameters;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -38,6 +39,8 @@ import java.util.Arrays;
 import static io.netty.util.internal.StringUtil.EMPTY_STRING;
 import static org.folio.processing.mapping.defaultmapper.processor.functions.NormalizationFunctionRunner.runFunction;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
 
 @RunWith(JUnit4.class)
 public class NormalizationFunctionTest {
@@ -77,6 +80,20 @@ public class NormalizationFunctionTest {
     assertEquals(expectedSubField, actualSubField_ifNegativeArgumentsSpecified);
   }
 
+  @Test
+  public void CHAR_SELECT_shouldReturnGivenSubFieldIfParameterIsNotNumber() {
+    // given
+    String givenSubField = "890411m19309999pau      l    001 0 eng  ";
+    RuleExecutionContext context = new RuleExecutionContext();
+    context.setSubFieldValue(givenSubField);
+    context.setRuleParameter(new JsonObject().put("from", "35").put("to", 38));
+    // when
+    String actualSubField = runFunction("char_select", context);
+    // then
+    assertEquals(givenSubField, actualSubField);
+    assertThrows(IllegalArgumentException.class, () -> context.getTypedRuleParameter().getInteger("from"));
+  }
+
   @Test
   public void REMOVE_ENDING_PUNC_shouldReturnExpectedResult() {
     // given
@@ -708,6 +725,25 @@ public class NormalizationFunctionTest {
     assertEquals(oclcIdentifierTypeId, actualOclcIdentifierTypeId);
   }
 
+  @Test
+  public void SET_IDENTIFIER_TYPE_ID_BY_VALUE_shouldUseCompiledRuleParameter() {
+    // given
+    String oclcIdentifierTypeId = UUID.randomUUID().toString();
+    RuleParameter ruleParameter = RuleParameter.of(new JsonObject()
+      .put("names", new JsonArray().add("System control number").add("OCLC"))
+      .put("oclc_regex", "(\\(OCoLC\\)|ocm|ocn|on).*"));
+    RuleExecutionContext context = new RuleExecutionContext();
+    context.setMappingParameters(new MappingParameters()
+      .withIdentifierTypes(Collections.singletonList(new IdentifierType().withId(oclcIdentifierTypeId).withName("OCLC"))));
+    context.setTypedRuleParameter(ruleParameter);
+    context.setSubFieldValue("ocm910504526");
+    // when
+    String actualOclcIdentifierTypeId = runFunction("set_identifier_type_id_by_value", context);
+    // then
+    assertEquals(oclcIdentifierTypeId, actualOclcIdentifierTypeId);
+    assertSame(ruleParameter.getPattern("oclc_regex"), RuleParameter.compilePattern("(\\(OCoLC\\)|ocm|ocn|on).*"));
+  }
+
   @Test
   public void SET_IDENTIFIER_TYPE_ID_BY_VALUE_shouldReturnStubIdIfNoSettingsSpecified() {
     // given
@@ -35,6 +35,10 @@ import static org.junit.Assert.assertNull;
 
 @RunWith(JUnit4.class)
 public class HoldingsMapperTest {
+  private static final String MAIN_LIBRARY_ID = "fcd64ce1-6995-48f0-840e-89ffa2288371";
+  private static final String ANNEX_ID = "53cf956f-c1df-410b-8bea-27f712cca7c0";
+  private static final String ONLINE_ID = "184aae84-a5bf-4c6a-85ba-4a7c73026cd5";
+
   @Test
   public void shouldCreateOneHoldingIfOnlySingleMARCfieldContainsLocation() throws IOException {
     DataImportEventPayload eventPayload = new DataImportEventPayload();
@@ -942,4 +946,93 @@ public class HoldingsMapperTest {
     assertEquals("fcd64ce1-6995-48f0-840e-89ffa2288371", holdingsIdentifier.getString(0));
     assertEquals("fcd64ce1-6995-48f0-840e-89ffa2288371", holdingsIdentifier.getString(1));
   }
+
+  @Test
+  public void shouldKeepFirstCreatedHoldingsPerPermanentLocationAndAllLocationIdentifiers() throws IOException {
+    String parsedContent = "{\"leader\":\"01314nam  22003851a 4500\",\"fields\":[{\"001\":\"ybp7406411\"}," +
+      "{\"945\":{\"subfields\":[{\"c\":\"CN-1\"},{\"h\":\"KU/CC/DI/M\"}],\"ind1\":\" \",\"ind2\":\" \"}}," +
+      "{\"945\":{\"subfields\":[{\"c\":\"CN-2\"},{\"h\":\"KU/CC/DI/A\"}],\"ind1\":\" \",\"ind2\":\" \"}}," +
+      "{\"945\":{\"subfields\":[{\"c\":\"CN-3\"},{\"h\":\"KU/CC/DI/M\"}],\"ind1\":\" \",\"ind2\":\" \"}}," +
+      "{\"945\":{\"subfields\":[{\"c\":\"CN-4\"},{\"h\":\"E\"}],\"ind1\":\" \",\"ind2\":\" \"}}," +
+      "{\"945\":{\"subfields\":[{\"c\":\"CN-5\"},{\"h\":\"KU/CC/DI/A\"}],\"ind1\":\" \",\"ind2\":\" \"}}]}";
+
+    DataImportEventPayload mappedPayload = mapHoldings(parsedContent, new JsonArray(), "945$h");
+
+    JsonArray holdings = new JsonArray(mappedPayload.getContext().get(HOLDINGS.value()));
+    assertEquals(3, holdings.size());
+    assertEquals(MAIN_LIBRARY_ID, holdings.getJsonObject(0).getJsonObject("holdings").getString("permanentLocationId"));
+    assertEquals("CN-1", holdings.getJsonObject(0).getJsonObject("holdings").getString("callNumber"));
+    assertEquals(ANNEX_ID, holdings.getJsonObject(1).getJsonObject("holdings").getString("permanentLocationId"));
+    assertEquals("CN-2", holdings.getJsonObject(1).getJsonObject("holdings").getString("callNumber"));
+    assertEquals(ONLINE_ID, holdings.getJsonObject(2).getJsonObject("holdings").getString("permanentLocationId"));
+    assertEquals("CN-4", holdings.getJsonObject(2).getJsonObject("holdings").getString("callNumber"));
+    assertEquals(new JsonArray(List.of(MAIN_LIBRARY_ID, ANNEX_ID, MAIN_LIBRARY_ID, ONLINE_ID, ANNEX_ID)),
+      new JsonArray(mappedPayload.getContext().get("HOLDINGS_IDENTIFIERS")));
+  }
+
+  @Test
+  public void shouldKeepAllExistingHoldingsSharingPermanentLocation() throws IOException {
+    String parsedContent = "{\"leader\":\"01314nam  22003851a 4500\",\"fields\":[{\"001\":\"ybp7406411\"}," +
+      "{\"945\":{\"subfields\":[{\"c\":\"CN-1\"},{\"h\":\"KU/CC/DI/M\"}],\"ind1\":\" \",\"ind2\":\" \"}}]}";
+    JsonArray existingHoldings = new JsonArray();
+    List<String> existingHoldingsIds = List.of(UUID.randomUUID().toString(), UUID.randomUUID().toString(),
+      UUID.randomUUID().toString());
+    existingHoldingsIds.forEach(id -> existingHoldings.add(new JsonObject()
+      .put("holdings", new JsonObject().put("id", id).put("permanentLocationId", ANNEX_ID))));
+
+    DataImportEventPayload mappedPayload = mapHoldings(parsedContent, existingHoldings, "\"Main Library\"");
+
+    JsonArray holdings = new JsonArray(mappedPayload.getContext().get(HOLDINGS.value()));
+    assertEquals(3, holdings.size());
+    for (int i = 0; i < holdings.size(); i++) {
+      assertEquals(existingHoldingsIds.get(i), holdings.getJsonObject(i).getJsonObject("holdings").getString("id"));
+      assertEquals(MAIN_LIBRARY_ID, holdings.getJsonObject(i).getJsonObject("holdings").getString("permanentLocationId"));
+    }
+    assertEquals(new JsonArray(List.of(MAIN_LIBRARY_ID, MAIN_LIBRARY_ID, MAIN_LIBRARY_ID)),
+      new JsonArray(mappedPayload.getContext().get("HOLDINGS_IDENTIFIERS")));
+  }
+
+  private DataImportEventPayload mapHoldings(String parsedContent, JsonArray existingHoldings,
+                                             String permanentLocationValue) throws IOException {
+    Record record = new Record().withParsedRecord(new ParsedRecord().withContent(parsedContent));
+    HashMap<String, String> context = new HashMap<>();
+    context.put(HOLDINGS.value(), existingHoldings.encode());
+    context.put(MARC_BIBLIOGRAPHIC.value(), Json.encodePrettily(record));
+    DataImportEventPayload eventPayload = new DataImportEventPayload().withContext(context);
+
+    MappingDetail mappingDetails = new MappingDetail()
+      .withName("holdings")
+      .withRecordType(HOLDINGS)
+      .withMappingFields(Lists.newArrayList(new MappingRule()
+          .withName("permanentLocationId")
+          .withEnabled("true")
+          .withPath("holdings.permanentLocationId")
+          .withValue(permanentLocationValue),
+        new MappingRule()
+          .withName("callNumber")
+          .withEnabled("true")
+          .withPath("holdings.callNumber")
+          .withValue("945$c")));
+
+    MappingProfile profile = new MappingProfile()
+      .withId(UUID.randomUUID().toString())
+      .withName("Testing Holdings")
+      .withIncomingRecordType(MARC_BIBLIOGRAPHIC)
+      .withExistingRecordType(HOLDINGS)
+      .withMappingDetails(mappingDetails);
+
+    MappingContext mappingContext = new MappingContext()
+      .withMappingParameters(new MappingParameters()
+        .withLocations(List.of(
+          new Location().withId(MAIN_LIBRARY_ID).withName("Main Library").withCode("KU/CC/DI/M"),
+          new Location().withId(ANNEX_ID).withName("Annex").withCode("KU/CC/DI/A"),
+          new Location().withId(ONLINE_ID).withName("Online").withCode("E"))));
+
+    Reader reader = new MarcBibReaderFactory().createReader();
+    reader.initialize(eventPayload, mappingContext);
+    JsonBasedWriter writer = new JsonBasedWriter(EntityType.HOLDINGS);
+    Mapper mapper = new HoldingsMapper(reader, writer);
+    mapper.initializeReaderAndWriter(eventPayload, reader, writer, mappingContext);
+    return mapper.map(profile, eventPayload, mappingContext);
+  }
 }
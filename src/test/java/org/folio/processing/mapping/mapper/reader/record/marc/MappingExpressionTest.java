@@ -0,0 +1,42 @@
+package org.folio.processing.mapping.mapper.reader.record.marc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MappingExpressionTest {
+
+  @Test
+  void shouldCompileExpressionParts() {
+    var expression = MappingExpression.of("245$a \"Library of Congress\" 008/7-10 LDR/06; else ###TODAY### unknown");
+
+    assertEquals(List.of(
+      List.of(
+        new MappingExpression.MarcFieldReference("245$a", "245", "a"),
+        new MappingExpression.StringLiteral("\"Library of Congress\"", "Library of Congress"),
+        new MappingExpression.Slice("008/7-10", "008", 6, 10, true),
+        new MappingExpression.Slice("LDR/06", "LDR", 5, 6, true)),
+      List.of(new MappingExpression.Today("###TODAY###"))), expression.getAlternatives());
+    assertTrue(((MappingExpression.Slice) expression.getAlternatives().get(0).get(3)).isLeader());
+  }
+
+  @Test
+  void shouldReturnSameCompiledExpressionForSameValue() {
+    assertSame(MappingExpression.of("###REMOVE###"), MappingExpression.of("###REMOVE###"));
+    assertEquals(List.of(List.of(new MappingExpression.Remove("###REMOVE###"))),
+      MappingExpression.of("###REMOVE###").getAlternatives());
+  }
+
+  @Test
+  void shouldFailReadingSliceWithInvalidPositions() {
+    var slice = (MappingExpression.Slice) MappingExpression.of("00870-10").getAlternatives().get(0).get(0);
+
+    assertFalse(slice.validPositions());
+    assertThrows(IllegalArgumentException.class, slice::checkPositions);
+  }
+}
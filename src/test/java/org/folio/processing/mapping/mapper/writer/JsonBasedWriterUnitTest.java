@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -98,6 +99,28 @@ public class JsonBasedWriterUnitTest {
     assertEquals("{\"instance\":{}}", resultInstance);
   }
 
+  @Test
+  public void shouldWrite_NullForRepeatableObjectFieldWithoutValue() throws IOException {
+    // given
+    DataImportEventPayload eventContext = new DataImportEventPayload();
+    HashMap<String, String> context = new HashMap<>();
+    context.put(EntityType.INSTANCE.value(), "{\"instance\": {}}");
+    eventContext.setContext(context);
+    // when
+    WRITER.initialize(eventContext);
+    Map<String, Value> object = new LinkedHashMap<>();
+    object.put("instance.contributor[].id", StringValue.of("UUID"));
+    object.put("instance.contributor[].names", ListValue.of(null));
+
+    RepeatableFieldValue field = RepeatableFieldValue.of(List.of(object), EXTEND_EXISTING, "contributor");
+    WRITER.write("instance.contributor[]", field);
+
+    WRITER.getResult(eventContext);
+    // then
+    String resultInstance = eventContext.getContext().get(EntityType.INSTANCE.value());
+    assertEquals("{\"instance\":{\"contributor\":[{\"id\":\"UUID\",\"names\":null}]}}", resultInstance);
+  }
+
   @Test
   public void shouldWrite_RepeatableDeleteIncomingValues() throws IOException {
     // given
@@ -23,17 +23,22 @@ import org.folio.Organization;
 import org.folio.rest.jaxrs.model.StatisticalCode;
 import org.folio.rest.jaxrs.model.StatisticalCodeType;
 import org.folio.processing.mapping.defaultmapper.processor.parameters.MappingParameters;
+import org.folio.processing.mapping.mapper.util.AcceptedValues;
 import org.folio.processing.mapping.mapper.util.AcceptedValuesUtil;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 @RunWith(JUnit4.class)
@@ -155,6 +160,114 @@ public class AcceptedValuesUtilTest {
     assertEquals("TEST (testing): test - Test Code", acceptedValues.get(statCodeUUID));
   }
 
+  @Test
+  public void shouldBuildAcceptedValuesOncePerMappingParameters() {
+    MappingParameters mappingParameters = new MappingParameters()
+      .withLocations(List.of(new Location().withId("location-1").withName("Main Library").withCode("ML")));
+
+    AcceptedValues acceptedValues = AcceptedValuesUtil.getAcceptedValuesIndex("permanentLocationId", mappingParameters);
+
+    assertSame(acceptedValues, AcceptedValuesUtil.getAcceptedValuesIndex("permanentLocationId", mappingParameters));
+    assertEquals("location-1", acceptedValues.findId("main library (ml)"));
+    assertEquals("location-1", acceptedValues.findId("ML"));
+    assertEquals("location-1", acceptedValues.findId("(ml)"));
+    assertEquals("location-1", acceptedValues.findId("Main Library"));
+    assertNull(acceptedValues.findId("Annex"));
+
+    mappingParameters.withLocations(List.of(new Location().withId("location-2").withName("Annex").withCode("AN")));
+    AcceptedValues rebuiltAcceptedValues = AcceptedValuesUtil.getAcceptedValuesIndex("permanentLocationId", mappingParameters);
+
+    assertNotSame(acceptedValues, rebuiltAcceptedValues);
+    assertEquals("location-2", rebuiltAcceptedValues.findId("Annex"));
+    assertNull(rebuiltAcceptedValues.findId("ML"));
+  }
+
+  @Test
+  public void shouldRebuildAcceptedValuesAfterReferenceDataIndexesAreInvalidated() {
+    List<Location> locations = new ArrayList<>(List.of(new Location().withId("location-1").withName("Main Library").withCode("ML")));
+    MappingParameters mappingParameters = new MappingParameters().withLocations(locations);
+    AcceptedValues acceptedValues = AcceptedValuesUtil.getAcceptedValuesIndex("permanentLocationId", mappingParameters);
+
+    locations.add(new Location().withId("location-2").withName("Annex").withCode("AN"));
+    assertSame(acceptedValues, AcceptedValuesUtil.getAcceptedValuesIndex("permanentLocationId", mappingParameters));
+
+    mappingParameters.invalidateReferenceDataIndexes();
+    AcceptedValues rebuiltAcceptedValues = AcceptedValuesUtil.getAcceptedValuesIndex("permanentLocationId", mappingParameters);
+
+    assertNotSame(acceptedValues, rebuiltAcceptedValues);
+    assertEquals("location-2", rebuiltAcceptedValues.findId("Annex"));
+
+    mappingParameters.setLocations(locations);
+    assertNotSame(rebuiltAcceptedValues, AcceptedValuesUtil.getAcceptedValuesIndex("permanentLocationId", mappingParameters));
+  }
+
+  @Test
+  public void shouldFindAcceptedValueThatComesFirstInReferenceData() {
+    MappingParameters mappingParameters = new MappingParameters()
+      .withLocations(List.of(
+        new Location().withId("location-2").withName("Main Library").withCode("ANNEX"),
+        new Location().withId("location-1").withName("Annex").withCode("AN")));
+
+    AcceptedValues acceptedValues = AcceptedValuesUtil.getAcceptedValuesIndex("permanentLocationId", mappingParameters);
+
+    assertEquals("location-2", acceptedValues.findId("Annex"));
+    assertEquals(List.of("location-2", "location-1"), new ArrayList<>(acceptedValues.getValues().keySet()));
+  }
+
+  @Test
+  public void shouldReturnModifiableCopyOfAcceptedValues() {
+    MappingParameters mappingParameters = new MappingParameters()
+      .withLocations(List.of(new Location().withId("location-1").withName("Main Library").withCode("ML")));
+
+    Map<String, String> acceptedValues = AcceptedValuesUtil.getAcceptedValues("permanentLocationId", mappingParameters);
+    acceptedValues.put("location-2", "Annex (AN)");
+
+    assertEquals(Map.of("location-1", "Main Library (ML)"), AcceptedValuesUtil.getAcceptedValues("permanentLocationId", mappingParameters));
+  }
+
+  @Test
+  public void shouldFindStatisticalCodeByCodeAndName() {
+    String statCodeTypeUUID = UUID.randomUUID().toString();
+    MappingParameters mappingParameters = new MappingParameters()
+      .withStatisticalCodes(List.of(new StatisticalCode().withId("code-1").withName("Test Code").withCode("test").withStatisticalCodeTypeId(statCodeTypeUUID)))
+      .withStatisticalCodeTypes(List.of(new StatisticalCodeType().withId(statCodeTypeUUID).withName("TEST (testing)")));
+
+    AcceptedValues acceptedValues = AcceptedValuesUtil.getAcceptedValuesIndex("statisticalCodeId", mappingParameters);
+
+    assertEquals("code-1", acceptedValues.findId("test"));
+    assertEquals("code-1", acceptedValues.findId("Test Code"));
+    assertNull(acceptedValues.findId("test code"));
+    assertTrue(acceptedValues.containsId("code-1"));
+  }
+
+  @Test
+  public void shouldNotFindStatisticalCodeCaseInsensitivelyByCodeOrName() {
+    String statCodeTypeUUID = UUID.randomUUID().toString();
+    MappingParameters mappingParameters = new MappingParameters()
+      .withStatisticalCodes(List.of(new StatisticalCode().withId("code-1").withName("Archives").withCode("arch").withStatisticalCodeTypeId(statCodeTypeUUID)))
+      .withStatisticalCodeTypes(List.of(new StatisticalCodeType().withId(statCodeTypeUUID).withName("RECM")));
+
+    AcceptedValues acceptedValues = AcceptedValuesUtil.getAcceptedValuesIndex("statisticalCodeId", mappingParameters);
+
+    assertEquals("code-1", acceptedValues.findId("arch"));
+    assertEquals("code-1", acceptedValues.findId("Archives"));
+    assertNull(acceptedValues.findId("ARCH"));
+    assertNull(acceptedValues.findId("archives"));
+  }
+
+  @Test
+  public void shouldFindStatisticalCodeWithBracketsInName() {
+    String statCodeTypeUUID = UUID.randomUUID().toString();
+    MappingParameters mappingParameters = new MappingParameters()
+      .withStatisticalCodes(List.of(new StatisticalCode().withId("code-1").withName("Archives (arch)").withCode("arch").withStatisticalCodeTypeId(statCodeTypeUUID)))
+      .withStatisticalCodeTypes(List.of(new StatisticalCodeType().withId(statCodeTypeUUID).withName("RECM (Record management)")));
+
+    AcceptedValues acceptedValues = AcceptedValuesUtil.getAcceptedValuesIndex("statisticalCodeId", mappingParameters);
+
+    assertEquals("code-1", acceptedValues.findId("Archives (arch)"));
+    assertEquals("code-1", acceptedValues.findId("arch"));
+  }
+
   private void testAcceptedValues(List<String> acceptedValuesRules, MappingParameters mappingParameters, String uuid) {
     acceptedValuesRules.forEach(rule -> {
       Map<String, String> acceptedValues = AcceptedValuesUtil.getAcceptedValues(rule, mappingParameters);
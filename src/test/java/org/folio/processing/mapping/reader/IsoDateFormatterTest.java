@@ -0,0 +1,42 @@
+package org.folio.processing.mapping.reader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import org.folio.processing.mapping.mapper.reader.record.marc.IsoDateFormatter;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class IsoDateFormatterTest {
+
+  @Test
+  public void shouldFormatSupportedDateFormats() {
+    assertEquals("2020-05-12", IsoDateFormatter.formatToIsoDate("2020-05-12"));
+    assertEquals("2020-02-29", IsoDateFormatter.formatToIsoDate("02/29/2020"));
+    assertEquals("2021-01-05", IsoDateFormatter.formatToIsoDate("5-1-2021"));
+    assertEquals("2020-05-12", IsoDateFormatter.formatToIsoDate("12.05.2020"));
+    assertEquals("2020-05-12", IsoDateFormatter.formatToIsoDate(" 2020-05-12"));
+  }
+
+  @Test
+  public void shouldFormatTemporalAsIsoDate() {
+    assertEquals("2020-05-12", IsoDateFormatter.formatIsoDate(ZonedDateTime.of(2020, 5, 12, 23, 59, 0, 0, ZoneOffset.UTC)));
+  }
+
+  @Test
+  public void shouldReturnValuesThatAreNotDates() {
+    String title = "Title. Sub-title";
+    assertSame(title, IsoDateFormatter.formatToIsoDate(title));
+    assertEquals("QA76.73 .J38", IsoDateFormatter.formatToIsoDate("QA76.73 .J38"));
+    assertEquals("2021-02-29", IsoDateFormatter.formatToIsoDate("2021-02-29"));
+    assertEquals("2020-05-12 ", IsoDateFormatter.formatToIsoDate("2020-05-12 "));
+    assertEquals("", IsoDateFormatter.formatToIsoDate(""));
+    assertNull(IsoDateFormatter.formatToIsoDate(null));
+  }
+}
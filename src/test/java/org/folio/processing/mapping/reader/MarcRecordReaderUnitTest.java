@@ -1,6 +1,7 @@
 package org.folio.processing.mapping.reader;
 
 import com.google.common.collect.Lists;
+import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -17,6 +18,7 @@ import org.folio.Record;
 import org.folio.processing.mapping.MappingManager;
 import org.folio.processing.mapping.defaultmapper.processor.parameters.MappingParameters;
 import org.folio.processing.mapping.mapper.MappingContext;
+import org.folio.processing.mapping.mapper.reader.FieldOccurrencesReader;
 import org.folio.processing.mapping.mapper.reader.Reader;
 import org.folio.processing.mapping.mapper.reader.record.marc.MarcBibReaderFactory;
 import org.folio.processing.value.BooleanValue;
@@ -104,6 +106,17 @@ public class MarcRecordReaderUnitTest {
     assertEquals("test value", value.getValue());
   }
 
+  @Test(expected = DecodeException.class)
+  public void shouldThrowDecodeExceptionIfRecordCanNotBeDecoded() throws IOException {
+    DataImportEventPayload eventPayload = new DataImportEventPayload();
+    HashMap<String, String> context = new HashMap<>();
+    context.put(MARC_BIBLIOGRAPHIC.value(), "{\"parsedRecord\": ");
+    eventPayload.setContext(context);
+    Reader reader = new MarcBibReaderFactory().createReader();
+
+    reader.initialize(eventPayload, mappingContext);
+  }
+
   @Test
   public void shouldRead_Marc_Leader() throws IOException {
     // given
@@ -189,6 +202,57 @@ public class MarcRecordReaderUnitTest {
     assertEquals("2", value.getValue());
   }
 
+  @Test
+  public void shouldRead_FieldsOfLastInitializedRecord() throws IOException {
+    // given
+    DataImportEventPayload eventPayload = new DataImportEventPayload();
+    HashMap<String, String> context = new HashMap<>();
+    context.put(MARC_BIBLIOGRAPHIC.value(), JsonObject.mapFrom(new Record().withParsedRecord(new ParsedRecord().withContent(RECORD))).encode());
+    eventPayload.setContext(context);
+    Reader reader = new MarcBibReaderFactory().createReader();
+    reader.initialize(eventPayload, mappingContext);
+    assertEquals("pcc", reader.read(new MappingRule().withName("testField").withPath("").withValue("042$a")).getValue());
+
+    context.put(MARC_BIBLIOGRAPHIC.value(), JsonObject.mapFrom(new Record().withParsedRecord(new ParsedRecord().withContent(RECORD_WITH_980_FIELD))).encode());
+    // when
+    reader.initialize(eventPayload, mappingContext);
+    Value missingValue = reader.read(new MappingRule().withName("testField").withPath("").withValue("042$a"));
+    Value dataFieldValue = reader.read(new MappingRule().withName("testField").withPath("").withValue("980$a"));
+    Value controlFieldValue = reader.read(new MappingRule().withName("testField").withPath("").withValue("001/1-3"));
+    Value leaderValue = reader.read(new MappingRule().withName("testField").withPath("").withValue("LDR/06-08"));
+    // then
+    assertEquals(ValueType.MISSING, missingValue.getType());
+    assertEquals("00001", dataFieldValue.getValue());
+    assertEquals("009", controlFieldValue.getValue());
+    assertEquals("nam", leaderValue.getValue());
+  }
+
+  @Test
+  public void shouldRead_SelectedFieldOccurrence() throws IOException {
+    // given
+    DataImportEventPayload eventPayload = new DataImportEventPayload();
+    HashMap<String, String> context = new HashMap<>();
+    context.put(MARC_BIBLIOGRAPHIC.value(), JsonObject.mapFrom(new Record().withParsedRecord(new ParsedRecord().withContent(RECORD_WITH_MULTIPLE_856))).encode());
+    eventPayload.setContext(context);
+    FieldOccurrencesReader reader = (FieldOccurrencesReader) new MarcBibReaderFactory().createReader();
+    reader.initialize(eventPayload, mappingContext);
+    MappingRule rule = new MappingRule().withName("testField").withPath("").withValue("856$u");
+    // when
+    reader.selectFieldOccurrence("856", 1);
+    Value selectedValue = reader.read(rule);
+    Value controlFieldValue = reader.read(new MappingRule().withName("testField").withPath("").withValue("001"));
+    reader.selectFieldOccurrence("856", -1);
+    Value hiddenValue = reader.read(rule);
+    reader.clearFieldSelection();
+    Value value = reader.read(rule);
+    // then
+    assertEquals(2, reader.countFieldOccurrences("856"));
+    assertEquals("https://cfvod.kaltura.com", selectedValue.getValue());
+    assertEquals("009221", controlFieldValue.getValue());
+    assertEquals(ValueType.MISSING, hiddenValue.getType());
+    assertEquals("https://fod.infobase.com", value.getValue());
+  }
+
   @Test
   public void shouldRead_Marc_Controlled_2() throws IOException {
     // given